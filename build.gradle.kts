@@ -3,6 +3,7 @@ plugins {
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
     id("jacoco")
+    alias(libs.plugins.jmh)
 }
 
 configurations {
@@ -23,7 +24,9 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.webflux)
     implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation(libs.spring.boot.starter.actuator)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
@@ -31,12 +34,24 @@ dependencies {
 }
 
 // about source and compilation
+// -PvirtualThreads=true : Java 21 툴체인으로 빌드하고 가상 스레드(virtual 프로파일)로 실행/테스트
+val virtualThreads = providers.gradleProperty("virtualThreads").map(String::toBoolean).getOrElse(false)
+// -Pjfr=true : JDK 기본 설정과 포인트 이벤트(jfr/point.jfc)로 JFR을 기록하며 실행, 종료 시 build/point.jfr에 저장
+val jfr = providers.gradleProperty("jfr").map(String::toBoolean).getOrElse(false)
+
 java {
-    sourceCompatibility = JavaVersion.VERSION_17
+    if (virtualThreads) {
+        toolchain {
+            languageVersion.set(JavaLanguageVersion.of(21))
+        }
+    } else {
+        sourceCompatibility = JavaVersion.VERSION_17
+    }
 }
 
 with(extensions.getByType(JacocoPluginExtension::class.java)) {
-    toolVersion = "0.8.7"
+    // 0.8.11부터 Java 21 클래스 파일을 계측할 수 있음
+    toolVersion = "0.8.11"
 }
 
 // bundling tasks
@@ -50,4 +65,25 @@ tasks.getByName("jar") {
 tasks.test {
     ignoreFailures = true
     useJUnitPlatform()
+    if (virtualThreads) {
+        systemProperty("spring.profiles.active", "virtual")
+        jvmArgs("-Djdk.tracePinnedThreads=short")
+    }
+}
+// benchmark tasks (src/jmh/java, ./gradlew jmh)
+jmh {
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    // 호출당 할당량(gc.alloc.rate.norm) 측정
+    profilers.add("gc")
+}
+// run tasks
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+    if (virtualThreads) {
+        systemProperty("spring.profiles.active", "virtual")
+    }
+    if (jfr) {
+        jvmArgs("-XX:StartFlightRecording:settings=default,settings=${file("src/main/resources/jfr/point.jfc")}," +
+            "dumponexit=true,filename=${layout.buildDirectory.file("point.jfr").get().asFile}")
+    }
 }
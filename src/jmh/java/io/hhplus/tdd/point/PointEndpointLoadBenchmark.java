@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.TddApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 포인트 조회 엔드포인트 부하 벤치마크
+ *
+ * <p>애플리케이션에 {@code CONCURRENT_REQUESTS}개의 조회 요청을 동시에 보내고, 모든 응답을 받을 때까지의 시간을 측정합니다.
+ * 서블릿 스택은 Tomcat 워커 스레드를 4개로 고정합니다.
+ * <ul>
+ *   <li>sync: {@code GET /point/{id}} - 워커 스레드 수만큼만 동시에 처리됨</li>
+ *   <li>async: {@code GET /async/point/{id}} - 워커 스레드를 즉시 반환하고 전용 실행기에서 처리됨</li>
+ *   <li>reactive: {@code reactive} 프로파일의 {@code GET /point/{id}} - 이벤트 루프를 즉시 반환하고 전용 스케줄러에서 처리됨</li>
+ * </ul>
+ * 요청마다 다른 유저를 조회하므로 테이블 지연이 그대로 드러납니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PointEndpointLoadBenchmark {
+
+    private static final int CONCURRENT_REQUESTS = 64;
+
+    @Param({"sync", "async", "reactive"})
+    String endpoint;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private String pathFormat;
+    private long nextUserId = 1;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(TddApplication.class)
+            .profiles("reactive".equals(endpoint) ? new String[]{"reactive"} : new String[0])
+            .properties(
+                "server.port=0",
+                "server.tomcat.threads.max=4",
+                "server.tomcat.threads.min-spare=4",
+                "point.async.core-pool-size=" + CONCURRENT_REQUESTS)
+            .run();
+        httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+        String port = context.getEnvironment().getProperty("local.server.port");
+        pathFormat = "http://localhost:" + port + ("async".equals(endpoint) ? "/async/point/%d" : "/point/%d");
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public void concurrentReads() {
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[CONCURRENT_REQUESTS];
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            URI uri = URI.create(String.format(pathFormat, nextUserId++));
+            responses[i] = httpClient
+                .sendAsync(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding())
+                .thenAccept(response -> {
+                    if (response.statusCode() != 200) {
+                        throw new IllegalStateException("Unexpected status " + response.statusCode() + " for " + uri);
+                    }
+                });
+        }
+        CompletableFuture.allOf(responses).join();
+    }
+}
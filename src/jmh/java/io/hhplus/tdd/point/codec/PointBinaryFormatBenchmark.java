@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistoryResponse;
+import io.hhplus.tdd.point.dto.UserPointResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 바이너리 형식과 JSON(Jackson)의 직렬화 처리량 비교
+ *
+ * <p>두 형식 모두 재사용하는 출력 스트림에 씁니다. 응답 크기는 시작할 때 한 번 출력하고,
+ * 호출당 할당량은 gc 프로파일러(gc.alloc.rate.norm)로 비교합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointBinaryFormatBenchmark {
+
+    @Param({"1", "100", "1000"})
+    int historyCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BinaryBufferPool bufferPool = new BinaryBufferPool(8 * 1024, 1);
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+    private UserPointResponse userPoint;
+    private List<PointHistoryResponse> histories;
+
+    @Setup(Level.Trial)
+    public void createResponses() throws IOException {
+        long now = System.currentTimeMillis();
+        userPoint = new UserPointResponse(1L, 123_456L, now);
+        histories = new ArrayList<>(historyCount);
+        for (int i = 0; i < historyCount; i++) {
+            TransactionType type = i % 3 == 0 ? TransactionType.USE : TransactionType.CHARGE;
+            histories.add(new PointHistoryResponse(i + 1, 1L, 1_000L + i, type, now + i));
+        }
+        System.out.printf("%nhistories=%d json=%d bytes, binary=%d bytes; userPoint json=%d bytes, binary=%d bytes%n",
+            historyCount, objectMapper.writeValueAsBytes(histories).length,
+            PointBinaryFormat.historiesLength(historyCount),
+            objectMapper.writeValueAsBytes(userPoint).length, PointBinaryFormat.USER_POINT_BYTES);
+    }
+
+    @Benchmark
+    public int jsonHistories() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, histories);
+        return out.size();
+    }
+
+    @Benchmark
+    public int binaryHistories() throws IOException {
+        out.reset();
+        ByteBuffer buffer = bufferPool.acquire();
+        PointBinaryFormat.write(histories, buffer, out);
+        bufferPool.release(buffer);
+        return out.size();
+    }
+
+    @Benchmark
+    public int jsonUserPoint() throws IOException {
+        out.reset();
+        objectMapper.writeValue(out, userPoint);
+        return out.size();
+    }
+
+    @Benchmark
+    public int binaryUserPoint() throws IOException {
+        out.reset();
+        ByteBuffer buffer = bufferPool.acquire();
+        PointBinaryFormat.write(userPoint, buffer, out);
+        bufferPool.release(buffer);
+        return out.size();
+    }
+}
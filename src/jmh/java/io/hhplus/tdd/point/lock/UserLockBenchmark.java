@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point.lock;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 락 획득 경로의 호출당 비용/할당 벤치마크
+ *
+ * <p>{@code -prof gc}(build.gradle.kts의 jmh 설정)로 실행하면 {@code gc.alloc.rate.norm}에 호출당 할당 바이트가 표시됩니다.
+ * <ul>
+ *   <li>boxedMap: 이전 방식 - {@code ConcurrentHashMap<Long, Lock>} 조회 (userId 박싱)</li>
+ *   <li>primitiveMap: {@link UserLockManager}의 박싱 없는 조회</li>
+ *   <li>withUserLock: 프로그래밍 방식 API</li>
+ *   <li>proxiedCall: CGLIB 프록시 + {@link UserLockInterceptor} 전체 경로 (프록시 자체의 인자 배열/박싱 포함)</li>
+ * </ul>
+ * userId는 {@code Long} 캐시 범위(-128~127) 밖의 값을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserLockBenchmark {
+
+    private final ConcurrentHashMap<Long, Lock> boxedLocks = new ConcurrentHashMap<>();
+    private final UserLockManager userLockManager = new UserLockManager();
+    private final Supplier<String> action = () -> "done";
+    private Target proxy;
+    private long userId;
+
+    @Setup
+    public void setUp() {
+        userId = 1_000_000L;
+        ProxyFactory factory = new ProxyFactory(new Target());
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new UserLockAdvisor(new UserLockInterceptor(userLockManager)));
+        proxy = (Target) factory.getProxy();
+    }
+
+    @Benchmark
+    public void boxedMap() {
+        Lock lock = boxedLocks.computeIfAbsent(userId, id -> new ReentrantLock());
+        lock.lock();
+        lock.unlock();
+    }
+
+    @Benchmark
+    public void primitiveMap() {
+        userLockManager.acquire(userId, -1).unlock();
+    }
+
+    @Benchmark
+    public String withUserLock() {
+        return userLockManager.withUserLock(userId, action);
+    }
+
+    @Benchmark
+    public long proxiedCall() {
+        return proxy.locked(userId);
+    }
+
+    public static class Target {
+
+        @UserLock
+        public long locked(long userId) {
+            return userId;
+        }
+    }
+}
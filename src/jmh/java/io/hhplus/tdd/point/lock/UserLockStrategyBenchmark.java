@@ -0,0 +1,101 @@
+package io.hhplus.tdd.point.lock;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 락 전략별 처리량/지연 분포 벤치마크
+ *
+ * <p>8개 스레드가 유저 키를 골라 락을 잡고 임계 구역({@code work} 토큰만큼 CPU 사용)을 실행합니다.
+ * <ul>
+ *   <li>Throughput 모드: 전략별 처리량</li>
+ *   <li>SampleTime 모드: 락 대기 포함 호출 지연의 백분위수. p99/p99.99가 평균보다 크게 벌어질수록
+ *       일부 요청이 오래 굶는(불공정한) 것입니다.</li>
+ * </ul>
+ * 키 분포는 uniform(1,000명 균등)과 zipf(s=1.2, 소수 유저에 요청 집중)를 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class UserLockStrategyBenchmark {
+
+    private static final int USERS = 1_000;
+
+    @Param({"NONFAIR", "FAIR", "SPIN_THEN_PARK", "STAMPED"})
+    UserLockProperties.Type strategy;
+
+    @Param({"uniform", "zipf"})
+    String distribution;
+
+    @Param({"10", "1000"})
+    int work;
+
+    private UserLockManager userLockManager;
+    private double[] zipfCdf;
+
+    @Setup
+    public void setUp() {
+        userLockManager = new UserLockManager(UserLockStrategy.of(new UserLockProperties(strategy, 256)));
+        zipfCdf = zipfCdf(USERS, 1.2);
+    }
+
+    @State(Scope.Thread)
+    public static class Caller {
+
+        Supplier<Object> criticalSection;
+
+        @Setup
+        public void setUp(UserLockStrategyBenchmark benchmark) {
+            int work = benchmark.work;
+            criticalSection = () -> {
+                Blackhole.consumeCPU(work);
+                return Boolean.TRUE;
+            };
+        }
+    }
+
+    @Benchmark
+    public Object lockedCall(Caller caller) {
+        return userLockManager.withUserLock(nextUserId(), caller.criticalSection);
+    }
+
+    private long nextUserId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (!"zipf".equals(distribution)) {
+            return random.nextInt(USERS);
+        }
+        double sample = random.nextDouble();
+        int low = 0;
+        int high = zipfCdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (zipfCdf[mid] < sample) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+}
@@ -0,0 +1,43 @@
+package io.hhplus.tdd.point.ratelimit;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 수 제한 판정 비용
+ *
+ * <p>요청마다 인터셉터가 치르는 비용(버킷 조회 + CAS 한 번)을 측정합니다.
+ * {@code users}가 1이면 모든 스레드가 한 버킷을 두고 경쟁하고, 클수록 버킷이 흩어집니다.
+ * 거부 경로도 함께 측정하도록 충전 속도는 스레드 수보다 낮게 둡니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class TokenBucketLimiterBenchmark {
+
+    @Param({"1", "10000", "1000000"})
+    int users;
+
+    private TokenBucketLimiter limiter;
+
+    @Setup(Level.Trial)
+    public void createLimiter() {
+        limiter = new TokenBucketLimiter(50, 1_000_000);
+        long now = System.nanoTime();
+        for (long userId = 1; userId <= users; userId++) {
+            limiter.tryAcquire(userId, now);
+        }
+    }
+
+    @Benchmark
+    public long tryAcquire() {
+        long userId = users == 1 ? 1L : ThreadLocalRandom.current().nextLong(1, users + 1);
+        return limiter.tryAcquire(userId, System.nanoTime());
+    }
+}
@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointUserDirectory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.expiry.PointExpiryProperties;
+import io.hhplus.tdd.point.expiry.PointLotLedger;
+import io.hhplus.tdd.point.leaderboard.BalanceLeaderboard;
+import io.hhplus.tdd.point.store.InMemoryPointHistoryStore;
+import io.hhplus.tdd.point.store.InMemoryUserPointStore;
+import io.hhplus.tdd.point.validator.PointValidator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스냅샷 콜드 스타트 벤치마크
+ *
+ * <p>유저 수별로 다음을 측정합니다.
+ * <ul>
+ *   <li>restore: 메모리 저장소로의 전체 복원 (디코딩 + 파티션 병렬 적재 + 색인 재구성)</li>
+ *   <li>decode / decodeAndSort: 테이블 저장소 경로에서 순차 적재 전에 CPU를 쓰는 단계.
+ *   테이블 적재 자체는 테이블 API의 인위적 지연이 대부분이라 측정 대상에서 제외합니다.</li>
+ * </ul>
+ * 콜드 스타트는 한 번만 일어나므로 워밍업 없는 단발 실행 시간을 기록합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class SnapshotRestoreBenchmark {
+
+    @Param({"1000000", "10000000"})
+    int users;
+
+    @Param({"16"})
+    int partitions;
+
+    @Param({"1", "0"})
+    int parallelism;
+
+    private Path directory;
+    private List<Path> files;
+    private PointSnapshotRestorer restorer;
+
+    @Setup(Level.Trial)
+    public void writeSnapshot() throws IOException {
+        directory = Files.createTempDirectory("point-snapshot-bench");
+        files = new ArrayList<>(partitions);
+        SnapshotPartitionCodec.PartitionWriter[] writers = new SnapshotPartitionCodec.PartitionWriter[partitions];
+        for (int partition = 0; partition < partitions; partition++) {
+            Path file = PointSnapshotWriter.partitionFile(directory, partition);
+            files.add(file);
+            writers[partition] = SnapshotPartitionCodec.open(file, partition);
+        }
+        long now = System.currentTimeMillis();
+        for (long userId = 1; userId <= users; userId++) {
+            writers[(int) (userId % partitions)].write(
+                new UserPoint(userId, 1000L, now),
+                List.of(new PointHistory(userId, userId, 1000L, TransactionType.CHARGE, now)));
+        }
+        for (SnapshotPartitionCodec.PartitionWriter writer : writers) {
+            writer.close();
+        }
+        PointSnapshotWriter.writeManifest(directory, partitions, users);
+    }
+
+    @Setup(Level.Invocation)
+    public void createRestorer() {
+        restorer = new PointSnapshotRestorer(
+            new InMemoryUserPointStore(), new InMemoryPointHistoryStore(), new PointUserDirectory(),
+            new PointLotLedger(new PointExpiryProperties(Duration.ofDays(365), Duration.ofSeconds(1), 512)),
+            new BalanceLeaderboard(new PointValidator()),
+            new PointSnapshotProperties(true, directory, partitions, parallelism));
+    }
+
+    @TearDown(Level.Invocation)
+    public void dropRestored() {
+        restorer = null;
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteSnapshot() throws IOException {
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public long restore() throws IOException {
+        return restorer.restore();
+    }
+
+    @Benchmark
+    public List<List<UserSnapshot>> decode() throws IOException {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return PointSnapshotRestorer.decodePartitions(files, threads);
+    }
+
+    @Benchmark
+    public PointHistory[] decodeAndSort() throws IOException {
+        PointHistory[] histories = decode().stream()
+            .flatMap(List::stream)
+            .flatMap(user -> user.histories().stream())
+            .toArray(PointHistory[]::new);
+        Arrays.parallelSort(histories, Comparator.comparingLong(PointHistory::id));
+        return histories;
+    }
+}
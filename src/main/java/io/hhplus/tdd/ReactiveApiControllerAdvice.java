@@ -0,0 +1,21 @@
+package io.hhplus.tdd;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * 리액티브 스택용 예외 처리
+ *
+ * <p>{@link ApiControllerAdvice}는 서블릿 전용 {@code ResponseEntityExceptionHandler}를 상속하므로,
+ * WebFlux로 실행할 때는 같은 응답 형식을 이 클래스가 제공합니다.
+ */
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+class ReactiveApiControllerAdvice {
+    @ExceptionHandler(value = Exception.class)
+    public ResponseEntity<ErrorResponse> handleException(Exception e) {
+        return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
+    }
+}
@@ -0,0 +1,98 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.async.PointAsyncConfig;
+import io.hhplus.tdd.point.dto.PointHistoryResponse;
+import io.hhplus.tdd.point.dto.UserPointResponse;
+import io.hhplus.tdd.point.hotkey.PointWriteRouter;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 포인트 API의 비동기 버전
+ *
+ * <p>{@link PointController}와 동일한 기능을 제공하지만, 서비스 호출을 전용 실행기에서 수행하고
+ * {@link CompletableFuture}를 반환합니다. 서블릿 워커 스레드는 요청을 넘긴 즉시 반환되므로
+ * 테이블 지연이나 락 대기 중에도 다른 요청을 처리할 수 있습니다.
+ * 충전/사용은 {@link PointController}와 같은 {@link IdempotencyCache}를 거치므로, 두 경로에 같은 멱등 키를 보내도 한 번만 반영됩니다.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/async/point")
+public class PointAsyncController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointAsyncController.class);
+    private final PointService pointService;
+    private final PointWriteRouter pointWriteRouter;
+    private final IdempotencyCache idempotencyCache;
+    private final Executor pointTaskExecutor;
+
+    public PointAsyncController(PointService pointService, PointWriteRouter pointWriteRouter,
+                                IdempotencyCache idempotencyCache,
+                                @Qualifier(PointAsyncConfig.POINT_TASK_EXECUTOR) Executor pointTaskExecutor) {
+        this.pointService = pointService;
+        this.pointWriteRouter = pointWriteRouter;
+        this.idempotencyCache = idempotencyCache;
+        this.pointTaskExecutor = pointTaskExecutor;
+    }
+
+    /**
+     * 특정 유저의 포인트를 비동기로 조회합니다.
+     */
+    @GetMapping("{id}")
+    public CompletableFuture<UserPointResponse> point(@PathVariable long id) {
+        log.info("Fetching point asynchronously for user: {}", id);
+        return CompletableFuture.supplyAsync(
+            () -> UserPointResponse.from(pointService.getUserPoint(id)), pointTaskExecutor);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 비동기로 조회합니다.
+     */
+    @GetMapping("{id}/histories")
+    public CompletableFuture<List<PointHistoryResponse>> history(@PathVariable long id) {
+        log.info("Fetching point history asynchronously for user: {}", id);
+        return CompletableFuture.supplyAsync(
+            () -> pointService.getUserPointHistory(id).stream()
+                .map(PointHistoryResponse::from)
+                .toList(),
+            pointTaskExecutor);
+    }
+
+    /**
+     * 특정 유저의 포인트를 비동기로 충전합니다.
+     * {@code Idempotency-Key} 헤더가 있으면 같은 키로 다시 보낸 요청은 처음 요청의 결과를 받습니다.
+     */
+    @PatchMapping("{id}/charge")
+    public CompletableFuture<UserPointResponse> charge(@PathVariable long id, @RequestBody long amount,
+                                                       @RequestHeader(value = PointController.IDEMPOTENCY_KEY_HEADER,
+                                                           required = false) String idempotencyKey) {
+        log.info("Charging {} points asynchronously for user: {}", amount, id);
+        return CompletableFuture.supplyAsync(
+            () -> UserPointResponse.from(idempotencyCache.execute(id, idempotencyKey,
+                new PointOperation(TransactionType.CHARGE, amount), () -> pointWriteRouter.chargePoint(id, amount))),
+            pointTaskExecutor);
+    }
+
+    /**
+     * 특정 유저의 포인트를 비동기로 사용합니다.
+     * {@code Idempotency-Key} 헤더가 있으면 같은 키로 다시 보낸 요청은 처음 요청의 결과를 받습니다.
+     */
+    @PatchMapping("{id}/use")
+    public CompletableFuture<UserPointResponse> use(@PathVariable long id, @RequestBody long amount,
+                                                    @RequestHeader(value = PointController.IDEMPOTENCY_KEY_HEADER,
+                                                        required = false) String idempotencyKey) {
+        log.info("Using {} points asynchronously for user: {}", amount, id);
+        return CompletableFuture.supplyAsync(
+            () -> UserPointResponse.from(idempotencyCache.execute(id, idempotencyKey,
+                new PointOperation(TransactionType.USE, amount), () -> pointWriteRouter.usePoint(id, amount))),
+            pointTaskExecutor);
+    }
+}
@@ -1,22 +1,48 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.point.bulk.BulkBalanceReader;
+import io.hhplus.tdd.point.cache.HistoryJson;
+import io.hhplus.tdd.point.cache.HistoryJsonCache;
+import io.hhplus.tdd.point.codec.PointBinaryFormat;
 import io.hhplus.tdd.point.dto.PointHistoryResponse;
+import io.hhplus.tdd.point.dto.PointOperationRequest;
+import io.hhplus.tdd.point.dto.PointSummaryResponse;
+import io.hhplus.tdd.point.dto.PointTransferRequest;
+import io.hhplus.tdd.point.dto.PointTransferResponse;
 import io.hhplus.tdd.point.dto.UserPointResponse;
+import io.hhplus.tdd.point.hotkey.PointWriteRouter;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/point")
 public class PointController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
     private final PointService pointService;
+    private final PointWriteRouter pointWriteRouter;
+    private final HistoryJsonCache historyJsonCache;
+    private final IdempotencyCache idempotencyCache;
+    private final BulkBalanceReader bulkBalanceReader;
 
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService, PointWriteRouter pointWriteRouter,
+                           HistoryJsonCache historyJsonCache, IdempotencyCache idempotencyCache,
+                           BulkBalanceReader bulkBalanceReader) {
         this.pointService = pointService;
+        this.pointWriteRouter = pointWriteRouter;
+        this.historyJsonCache = historyJsonCache;
+        this.idempotencyCache = idempotencyCache;
+        this.bulkBalanceReader = bulkBalanceReader;
     }
 
     /**
@@ -28,32 +54,94 @@ public class PointController {
         return UserPointResponse.from(pointService.getUserPoint(id));
     }
 
+    /**
+     * 여러 유저의 포인트를 한 번에 조회합니다. 중복된 ID는 한 번만 조회하며, 결과는 처음 등장한 순서를 따릅니다.
+     */
+    @PostMapping("balances")
+    public Map<Long, UserPointResponse> balances(@RequestBody List<Long> userIds) {
+        log.info("Fetching points for {} users", userIds.size());
+        Map<Long, UserPointResponse> balances = new LinkedHashMap<>();
+        bulkBalanceReader.read(userIds)
+                .forEach((userId, userPoint) -> balances.put(userId, UserPointResponse.from(userPoint)));
+        return balances;
+    }
+
     /**
      * 특정 유저의 포인트 충전/이용 내역을 조회합니다.
+     * 미리 직렬화해 둔 {@code PointHistoryResponse} 배열을 그대로 응답합니다.
      */
     @GetMapping("{id}/histories")
-    public List<PointHistoryResponse> history(@PathVariable long id) {
+    public HistoryJson history(@PathVariable long id) {
         log.info("Fetching point history for user: {}", id);
+        return historyJsonCache.get(id);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 바이너리 형식({@link PointBinaryFormat})으로 조회합니다.
+     * 잔액을 반환하는 다른 엔드포인트는 Accept 헤더만으로 같은 형식을 받을 수 있습니다.
+     */
+    @GetMapping(value = "{id}/histories", produces = PointBinaryFormat.MEDIA_TYPE_VALUE)
+    public List<PointHistoryResponse> historyBinary(@PathVariable long id) {
+        log.info("Fetching binary point history for user: {}", id);
         return pointService.getUserPointHistory(id).stream()
             .map(PointHistoryResponse::from)
             .toList();
     }
 
+    /**
+     * 특정 유저의 포인트와 충전/이용 내역을 같은 시점 기준으로 함께 조회합니다.
+     */
+    @GetMapping("{id}/summary")
+    public PointSummaryResponse summary(@PathVariable long id) {
+        log.info("Fetching point summary for user: {}", id);
+        return PointSummaryResponse.from(pointService.getUserPointSummary(id));
+    }
+
     /**
      * 특정 유저의 포인트를 충전합니다.
+     * {@code Idempotency-Key} 헤더가 있으면 같은 키로 다시 보낸 요청은 처음 요청의 결과를 받습니다.
      */
     @PatchMapping("{id}/charge")
-    public UserPointResponse charge(@PathVariable long id, @RequestBody long amount) {
+    public UserPointResponse charge(@PathVariable long id, @RequestBody long amount,
+                                    @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+                                    String idempotencyKey) {
         log.info("Charging {} points for user: {}", amount, id);
-        return UserPointResponse.from(pointService.chargePoint(id, amount));
+        return UserPointResponse.from(idempotencyCache.execute(id, idempotencyKey,
+            new PointOperation(TransactionType.CHARGE, amount), () -> pointWriteRouter.chargePoint(id, amount)));
     }
 
     /**
      * 특정 유저의 포인트를 사용합니다.
+     * {@code Idempotency-Key} 헤더가 있으면 같은 키로 다시 보낸 요청은 처음 요청의 결과를 받습니다.
      */
     @PatchMapping("{id}/use")
-    public UserPointResponse use(@PathVariable long id, @RequestBody long amount) {
+    public UserPointResponse use(@PathVariable long id, @RequestBody long amount,
+                                 @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false)
+                                 String idempotencyKey) {
         log.info("Using {} points for user: {}", amount, id);
-        return UserPointResponse.from(pointService.usePoint(id, amount));
+        return UserPointResponse.from(idempotencyCache.execute(id, idempotencyKey,
+            new PointOperation(TransactionType.USE, amount), () -> pointWriteRouter.usePoint(id, amount)));
+    }
+
+    /**
+     * 특정 유저의 충전/사용 연산 여러 개를 순서대로 일괄 처리합니다.
+     * 하나라도 실패하면 어떤 연산도 반영되지 않습니다.
+     */
+    @PostMapping("{id}/batch")
+    public UserPointResponse batch(@PathVariable long id, @RequestBody List<PointOperationRequest> operations) {
+        log.info("Executing {} point operations for user: {}", operations.size(), id);
+        return UserPointResponse.from(pointService.executeBatch(id,
+            operations.stream().map(PointOperationRequest::toOperation).toList()));
+    }
+
+    /**
+     * 한 유저의 포인트를 다른 유저에게 이체합니다.
+     */
+    @PostMapping("transfer")
+    public PointTransferResponse transfer(@RequestBody PointTransferRequest request) {
+        log.info("Transferring {} points from user: {} to user: {}",
+            request.amount(), request.fromUserId(), request.toUserId());
+        return PointTransferResponse.from(
+            pointService.transferPoint(request.fromUserId(), request.toUserId(), request.amount()));
     }
 }
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 일괄 처리 요청에 포함되는 단일 포인트 연산
+ *
+ * @param type 연산 종류 (CHARGE 또는 USE)
+ * @param amount 연산 금액
+ */
+public record PointOperation(
+        TransactionType type,
+        long amount
+) {
+}
@@ -1,12 +1,22 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.coalesce.BalanceReadCoalescer;
+import io.hhplus.tdd.point.event.PointChangedEvent;
 import io.hhplus.tdd.point.exception.*;
+import io.hhplus.tdd.point.expiry.PointLotLedger;
+import io.hhplus.tdd.point.hotkey.CombinedOperation;
 import io.hhplus.tdd.point.lock.UserLock;
+import io.hhplus.tdd.point.store.PointHistoryStore;
+import io.hhplus.tdd.point.store.UserPointStore;
+import io.hhplus.tdd.point.summary.PointSummary;
+import io.hhplus.tdd.point.summary.PointSummaryRegistry;
+import io.hhplus.tdd.point.tiering.ColdHistoryStore;
 import io.hhplus.tdd.point.validator.PointValidator;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -17,37 +27,67 @@ import java.util.List;
  *   <li>최소 거래 금액: 100 포인트 (충전/사용 모두 적용)</li>
  *   <li>1회 최대 충전 한도: 100,000 포인트</li>
  *   <li>최대 보유 한도: 1,000,000 포인트</li>
+ *   <li>충전된 포인트는 유효기간이 지나면 소멸되며, 사용 시 가장 오래된 포인트부터 차감</li>
  * </ul>
  *
  * <p>동시성 제어:
  * <ul>
  *   <li>@UserLock 어노테이션을 통한 AOP 기반 락 관리</li>
- *   <li>UserLockAspect에서 사용자별 ReentrantLock 자동 적용</li>
+ *   <li>UserLockInterceptor에서 사용자별 ReentrantLock 자동 적용</li>
  *   <li>같은 유저의 포인트 연산은 순차적으로 처리</li>
  *   <li>서로 다른 유저의 연산은 병렬로 처리 가능</li>
+ *   <li>이체는 두 유저의 락을 userId 오름차순으로 획득하여 데드락 방지</li>
+ *   <li>쓰기가 끝나면 락을 보유한 상태에서 {@link PointChangedEvent}를 발행</li>
+ *   <li>쓰기가 몰리는 유저의 충전/사용은 락 안에서 여러 요청을 합쳐 처리 ({@link #applyCombined})</li>
+ *   <li>같은 유저의 동시 잔액 조회는 락 없이 저장소 조회 한 번으로 합쳐 처리 ({@link BalanceReadCoalescer})</li>
  * </ul>
  */
 @Service
 public class PointService {
 
-    private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final UserPointStore userPointStore;
+    private final PointHistoryStore pointHistoryStore;
     private final PointValidator pointValidator;
+    private final PointLotLedger pointLotLedger;
+    private final ColdHistoryStore coldHistoryStore;
+    private final PointSummaryRegistry pointSummaryRegistry;
+    private final BalanceReadCoalescer balanceReadCoalescer;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public PointService(UserPointTable userPointTable, PointHistoryTable pointHistoryTable, PointValidator pointValidator) {
-        this.userPointTable = userPointTable;
-        this.pointHistoryTable = pointHistoryTable;
+    public PointService(UserPointStore userPointStore, PointHistoryStore pointHistoryStore, PointValidator pointValidator,
+                        PointLotLedger pointLotLedger, ColdHistoryStore coldHistoryStore,
+                        PointSummaryRegistry pointSummaryRegistry, BalanceReadCoalescer balanceReadCoalescer,
+                        ApplicationEventPublisher eventPublisher) {
+        this.userPointStore = userPointStore;
+        this.pointHistoryStore = pointHistoryStore;
         this.pointValidator = pointValidator;
+        this.pointLotLedger = pointLotLedger;
+        this.coldHistoryStore = coldHistoryStore;
+        this.pointSummaryRegistry = pointSummaryRegistry;
+        this.balanceReadCoalescer = balanceReadCoalescer;
+        this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * 잔액을 조회합니다. 같은 유저의 동시 조회는 저장소 조회 한 번으로 합쳐집니다.
+     */
     public UserPoint getUserPoint(long userId) {
         pointValidator.validateUserId(userId);
-        return userPointTable.selectById(userId);
+        return balanceReadCoalescer.read(userId, userPointStore::selectById);
     }
 
     public List<PointHistory> getUserPointHistory(long userId) {
         pointValidator.validateUserId(userId);
-        return pointHistoryTable.selectAllByUserId(userId);
+        List<PointHistory> hotHistories = pointHistoryStore.selectAllByUserId(userId);
+        return coldHistoryStore.hasColdTier(userId) ? coldHistoryStore.merge(userId, hotHistories) : hotHistories;
+    }
+
+    /**
+     * 잔액과 이력을 같은 시점으로 묶은 스냅샷을 조회합니다. 쓰기 락을 거치지 않습니다.
+     */
+    public PointSummary getUserPointSummary(long userId) {
+        pointValidator.validateUserId(userId);
+        return pointSummaryRegistry.get(userId);
     }
 
     /**
@@ -66,12 +106,13 @@ public class PointService {
         pointValidator.validateTransactionAmount(amount);
         pointValidator.validateChargeAmount(amount);
 
-        UserPoint currentPoint = userPointTable.selectById(userId);
+        UserPoint currentPoint = userPointStore.selectById(userId);
         pointValidator.validateBalanceLimit(currentPoint.point(), amount);
 
         long newPoint = currentPoint.point() + amount;
-        UserPoint updatedPoint = userPointTable.insertOrUpdate(userId, newPoint);
-        pointHistoryTable.insert(userId, amount, TransactionType.CHARGE, System.currentTimeMillis());
+        UserPoint updatedPoint = userPointStore.insertOrUpdate(userId, newPoint);
+        PointHistory history = pointHistoryStore.insert(userId, amount, TransactionType.CHARGE, System.currentTimeMillis());
+        publishChanged(userId, updatedPoint, Collections.singletonList(history));
 
         return updatedPoint;
     }
@@ -91,16 +132,199 @@ public class PointService {
         pointValidator.validateUserId(userId);
         pointValidator.validateTransactionAmount(amount);
 
-        UserPoint currentPoint = userPointTable.selectById(userId);
+        UserPoint currentPoint = userPointStore.selectById(userId);
 
         if (currentPoint.point() < amount) {
             throw new InsufficientPointException(currentPoint.point(), amount);
         }
 
         long newPoint = currentPoint.point() - amount;
-        UserPoint updatedPoint = userPointTable.insertOrUpdate(userId, newPoint);
-        pointHistoryTable.insert(userId, amount, TransactionType.USE, System.currentTimeMillis());
+        UserPoint updatedPoint = userPointStore.insertOrUpdate(userId, newPoint);
+        PointHistory history = pointHistoryStore.insert(userId, amount, TransactionType.USE, System.currentTimeMillis());
+        publishChanged(userId, updatedPoint, Collections.singletonList(history));
+
+        return updatedPoint;
+    }
+
+    /**
+     * 포인트 이체
+     *
+     * <p>두 유저의 락을 모두 획득한 상태에서 보낸 유저의 잔액을 차감하고 받은 유저의 잔액을 증가시키며,
+     * 양쪽에 짝을 이루는 이력(TRANSFER_OUT / TRANSFER_IN)을 남깁니다.
+     * 모든 검증은 쓰기 전에 수행되므로, 검증에 실패하면 어느 쪽 잔액도 변경되지 않습니다.
+     *
+     * @param fromUserId 보내는 사용자 ID
+     * @param toUserId 받는 사용자 ID
+     * @param amount 이체 금액
+     * @return 이체 후 양쪽 사용자 포인트 정보
+     * @throws InvalidUserIdException 유효하지 않은 사용자 ID
+     * @throws InvalidOperationException 자기 자신에게 이체
+     * @throws InvalidAmountException 유효하지 않은 금액
+     * @throws InsufficientPointException 보내는 사용자의 잔액 부족
+     * @throws PointLimitExceededException 받는 사용자의 잔액 한도 초과
+     * @throws UserLockTimeoutException 제한 시간 안에 락을 획득하지 못함
+     */
+    @UserLock(userIdParams = {0, 1}, timeout = "${point.lock.transfer-timeout:10s}")
+    public PointTransferResult transferPoint(long fromUserId, long toUserId, long amount) {
+        pointValidator.validateUserId(fromUserId);
+        pointValidator.validateUserId(toUserId);
+        if (fromUserId == toUserId) {
+            throw InvalidOperationException.selfTransfer(fromUserId);
+        }
+        pointValidator.validateTransactionAmount(amount);
+
+        UserPoint senderPoint = userPointStore.selectById(fromUserId);
+        if (senderPoint.point() < amount) {
+            throw new InsufficientPointException(senderPoint.point(), amount);
+        }
+        UserPoint receiverPoint = userPointStore.selectById(toUserId);
+        pointValidator.validateBalanceLimit(receiverPoint.point(), amount);
+
+        long transferMillis = System.currentTimeMillis();
+        UserPoint updatedSender = userPointStore.insertOrUpdate(fromUserId, senderPoint.point() - amount);
+        UserPoint updatedReceiver = userPointStore.insertOrUpdate(toUserId, receiverPoint.point() + amount);
+        PointHistory senderHistory =
+            pointHistoryStore.insert(fromUserId, amount, TransactionType.TRANSFER_OUT, transferMillis);
+        PointHistory receiverHistory =
+            pointHistoryStore.insert(toUserId, amount, TransactionType.TRANSFER_IN, transferMillis);
+        publishChanged(fromUserId, updatedSender, Collections.singletonList(senderHistory));
+        publishChanged(toUserId, updatedReceiver, Collections.singletonList(receiverHistory));
+
+        return new PointTransferResult(updatedSender, updatedReceiver);
+    }
+
+    /**
+     * 한 유저의 포인트 연산 일괄 처리
+     *
+     * <p>락을 한 번만 획득한 상태에서 잔액을 한 번 조회하고, 모든 연산을 순서대로 적용한 최종 잔액을 한 번 저장합니다.
+     * 연산 중 하나라도 검증에 실패하면 아무것도 저장하지 않습니다(all-or-nothing).
+     * 모든 연산이 유효하면 연산마다 이력을 남깁니다.
+     *
+     * @param userId 사용자 ID
+     * @param operations 순서대로 적용할 연산 목록 (CHARGE / USE)
+     * @return 모든 연산 적용 후 사용자 포인트 정보
+     * @throws InvalidUserIdException 유효하지 않은 사용자 ID
+     * @throws InvalidOperationException 연산 개수가 잘못되었거나 지원하지 않는 연산 종류
+     * @throws InvalidAmountException 유효하지 않은 금액
+     * @throws PointLimitExceededException 충전/잔액 한도 초과
+     * @throws InsufficientPointException 연산 도중 잔액 부족
+     */
+    @UserLock
+    public UserPoint executeBatch(long userId, List<PointOperation> operations) {
+        pointValidator.validateUserId(userId);
+        pointValidator.validateBatchSize(operations.size());
+
+        UserPoint currentPoint = userPointStore.selectById(userId);
+        long newPoint = currentPoint.point();
+        for (PointOperation operation : operations) {
+            newPoint = applyOperation(newPoint, operation);
+        }
+
+        UserPoint updatedPoint = userPointStore.insertOrUpdate(userId, newPoint);
+        long updateMillis = System.currentTimeMillis();
+        List<PointHistory> histories = new ArrayList<>(operations.size());
+        for (PointOperation operation : operations) {
+            histories.add(pointHistoryStore.insert(userId, operation.amount(), operation.type(), updateMillis));
+        }
+        publishChanged(userId, updatedPoint, histories);
 
         return updatedPoint;
     }
+
+    /**
+     * 여러 충전/사용 요청을 잔액 조회와 저장 한 번으로 처리 (hot 유저 전용 경로)
+     *
+     * <p>호출자가 해당 유저의 락을 보유하고 있어야 합니다. 일괄 처리와 달리 요청마다 따로 검증하므로,
+     * 검증에 실패한 요청만 예외로 끝나고 나머지는 순서대로 반영됩니다. 각 요청은 자신의 연산까지 반영된 잔액을 받고,
+     * 반영된 요청 전체에 대해 이벤트를 한 번 발행합니다.
+     *
+     * @param userId 사용자 ID
+     * @param operations 순서대로 적용할 충전/사용 요청
+     */
+    public void applyCombined(long userId, List<CombinedOperation> operations) {
+        pointValidator.validateUserId(userId);
+
+        long balance = userPointStore.selectById(userId).point();
+        List<CombinedOperation> applied = new ArrayList<>(operations.size());
+        long[] balances = new long[operations.size()];
+        for (CombinedOperation operation : operations) {
+            try {
+                balance = applyOperation(balance, operation.operation());
+            } catch (PointException e) {
+                operation.fail(e);
+                continue;
+            }
+            balances[applied.size()] = balance;
+            applied.add(operation);
+        }
+        if (applied.isEmpty()) {
+            return;
+        }
+
+        UserPoint updatedPoint = userPointStore.insertOrUpdate(userId, balance);
+        long updateMillis = System.currentTimeMillis();
+        List<PointHistory> histories = new ArrayList<>(applied.size());
+        for (CombinedOperation operation : applied) {
+            histories.add(pointHistoryStore.insert(
+                userId, operation.operation().amount(), operation.operation().type(), updateMillis));
+        }
+        publishChanged(userId, updatedPoint, histories);
+
+        for (int i = 0; i < applied.size(); i++) {
+            applied.get(i).complete(new UserPoint(userId, balances[i], updatedPoint.updateMillis()));
+        }
+    }
+
+    /**
+     * 유효기간이 지난 포인트 묶음 소멸
+     *
+     * <p>묶음에 남은 금액만큼 잔액을 차감하고 EXPIRE 이력을 남깁니다.
+     * 묶음이 이미 모두 사용되었으면 아무것도 하지 않습니다.
+     *
+     * @param userId 사용자 ID
+     * @param lotId 만료된 묶음 ID
+     * @return 소멸된 금액
+     */
+    @UserLock
+    public long expireLot(long userId, long lotId) {
+        long remaining = pointLotLedger.expire(userId, lotId);
+        if (remaining <= 0) {
+            return 0;
+        }
+
+        UserPoint currentPoint = userPointStore.selectById(userId);
+        long expiredAmount = Math.min(remaining, currentPoint.point());
+        UserPoint updatedPoint = userPointStore.insertOrUpdate(userId, currentPoint.point() - expiredAmount);
+        PointHistory history =
+            pointHistoryStore.insert(userId, expiredAmount, TransactionType.EXPIRE, System.currentTimeMillis());
+        publishChanged(userId, updatedPoint, Collections.singletonList(history));
+
+        return expiredAmount;
+    }
+
+    /**
+     * 단일 연산을 검증하고 적용한 잔액을 반환합니다. 저장소에는 쓰지 않습니다.
+     */
+    private long applyOperation(long balance, PointOperation operation) {
+        long amount = operation.amount();
+        pointValidator.validateTransactionAmount(amount);
+        return switch (operation.type()) {
+            case CHARGE -> {
+                pointValidator.validateChargeAmount(amount);
+                pointValidator.validateBalanceLimit(balance, amount);
+                yield balance + amount;
+            }
+            case USE -> {
+                if (balance < amount) {
+                    throw new InsufficientPointException(balance, amount);
+                }
+                yield balance - amount;
+            }
+            default -> throw InvalidOperationException.unsupportedBatchType(operation.type());
+        };
+    }
+
+    private void publishChanged(long userId, UserPoint updatedPoint, List<PointHistory> histories) {
+        eventPublisher.publishEvent(new PointChangedEvent(userId, updatedPoint, histories));
+    }
 }
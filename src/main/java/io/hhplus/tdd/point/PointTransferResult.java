@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 이체 결과
+ *
+ * @param sender 이체 후 보낸 유저의 포인트
+ * @param receiver 이체 후 받은 유저의 포인트
+ */
+public record PointTransferResult(
+        UserPoint sender,
+        UserPoint receiver
+) {
+}
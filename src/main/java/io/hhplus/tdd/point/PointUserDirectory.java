@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.event.PointChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 포인트 변경 이력이 있는 유저 목록
+ *
+ * <p>테이블은 유저 단위 조회만 제공하므로, 전체 유저를 순회해야 하는 배치 작업은 이 목록을 사용합니다.
+ * {@link PointChangedEvent}를 받아 갱신되며, userId 오름차순으로 순회할 수 있습니다.
+ */
+@Component
+public class PointUserDirectory {
+
+    private final ConcurrentSkipListSet<Long> userIds = new ConcurrentSkipListSet<>();
+
+    @EventListener
+    public void onPointChanged(PointChangedEvent event) {
+        userIds.add(event.userId());
+    }
+
+    /**
+     * 유저를 직접 등록합니다. (이벤트 없이 테이블에 적재된 데이터를 복원할 때 사용)
+     */
+    public void register(long userId) {
+        userIds.add(userId);
+    }
+
+    /**
+     * userId 오름차순의 읽기 전용 뷰. 순회 중 추가된 유저는 포함될 수도, 아닐 수도 있습니다.
+     */
+    public NavigableSet<Long> userIds() {
+        return Collections.unmodifiableNavigableSet(userIds);
+    }
+
+    public int size() {
+        return userIds.size();
+    }
+}
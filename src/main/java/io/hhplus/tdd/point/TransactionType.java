@@ -5,7 +5,20 @@ package io.hhplus.tdd.point;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - TRANSFER_OUT : 다른 유저에게 보낸 이체
+ * - TRANSFER_IN : 다른 유저에게서 받은 이체
+ * - EXPIRE : 유효기간 만료로 소멸
  */
 public enum TransactionType {
-    CHARGE, USE
+    CHARGE, USE, TRANSFER_OUT, TRANSFER_IN, EXPIRE;
+
+    /**
+     * 잔액에 반영되는 부호를 붙인 금액 (충전/이체 입금은 양수, 사용/이체 출금/만료는 음수)
+     */
+    public long signed(long amount) {
+        return switch (this) {
+            case CHARGE, TRANSFER_IN -> amount;
+            case USE, TRANSFER_OUT, EXPIRE -> -amount;
+        };
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package io.hhplus.tdd.point.async;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 비동기 포인트 API 설정
+ *
+ * <p>서비스 작업(테이블 지연, 락 대기)을 전용 실행기에서 처리하여
+ * 서블릿 워커 스레드가 즉시 반환되도록 합니다.
+ *
+ * <p>가상 스레드 모드({@code spring.threads.virtual.enabled=true}, Java 21)에서는
+ * 스레드 풀 대신 작업마다 가상 스레드를 생성하고, 최대 동시 실행 수만 {@code maxPoolSize}로 제한합니다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PointAsyncConfig implements WebMvcConfigurer {
+
+    public static final String POINT_TASK_EXECUTOR = "pointTaskExecutor";
+
+    private final PointAsyncProperties properties;
+
+    public PointAsyncConfig(PointAsyncProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean(name = POINT_TASK_EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor pointTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.corePoolSize());
+        executor.setMaxPoolSize(properties.maxPoolSize());
+        executor.setQueueCapacity(properties.queueCapacity());
+        executor.setThreadNamePrefix("point-async-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    @Bean(name = POINT_TASK_EXECUTOR)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor pointVirtualTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("point-async-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(properties.maxPoolSize());
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(properties.requestTimeout().toMillis());
+    }
+}
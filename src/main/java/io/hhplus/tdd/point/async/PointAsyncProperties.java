@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.async;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비동기 포인트 API 실행기 설정
+ *
+ * <p>서블릿 워커 스레드와 별도로 크기를 조정할 수 있도록 분리된 설정입니다.
+ *
+ * @param corePoolSize 기본 스레드 수
+ * @param maxPoolSize 최대 스레드 수
+ * @param queueCapacity 대기 작업 큐 크기 (초과 시 요청 거절)
+ * @param requestTimeout 비동기 요청 타임아웃
+ */
+@ConfigurationProperties(prefix = "point.async")
+public record PointAsyncProperties(
+    @DefaultValue("32") int corePoolSize,
+    @DefaultValue("128") int maxPoolSize,
+    @DefaultValue("10000") int queueCapacity,
+    @DefaultValue("30s") Duration requestTimeout
+) {
+}
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.bulk;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 잔액 일괄 조회 실행기 설정
+ *
+ * <p>조회는 대부분 저장소 지연을 기다리는 시간이므로, 비동기 API 실행기와 나눠 전용 실행기에서 처리합니다.
+ * 가상 스레드 모드에서는 조회마다 가상 스레드를 만들고 동시 실행 수만 {@code concurrency}로 제한합니다.
+ */
+@Configuration
+public class BulkBalanceConfig {
+
+    public static final String BULK_BALANCE_EXECUTOR = "bulkBalanceExecutor";
+
+    @Bean(name = BULK_BALANCE_EXECUTOR)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor bulkBalanceExecutor(BulkBalanceProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.concurrency());
+        executor.setMaxPoolSize(properties.concurrency());
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("point-bulk-");
+        return executor;
+    }
+
+    @Bean(name = BULK_BALANCE_EXECUTOR)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor bulkBalanceVirtualExecutor(BulkBalanceProperties properties) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("point-bulk-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(properties.concurrency());
+        return executor;
+    }
+}
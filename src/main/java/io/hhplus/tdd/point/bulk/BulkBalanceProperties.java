@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.bulk;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 여러 유저 잔액 일괄 조회 설정
+ *
+ * @param maxUsers 한 번에 조회할 수 있는 최대 유저 수 (중복 제거 전 기준)
+ * @param parallelism 요청 하나가 동시에 진행하는 최대 조회 수
+ * @param concurrency 모든 일괄 조회 요청이 함께 쓰는 최대 동시 조회 수 (전용 실행기의 크기)
+ */
+@ConfigurationProperties(prefix = "point.bulk")
+public record BulkBalanceProperties(
+    @DefaultValue("1000") int maxUsers,
+    @DefaultValue("64") int parallelism,
+    @DefaultValue("256") int concurrency
+) {
+}
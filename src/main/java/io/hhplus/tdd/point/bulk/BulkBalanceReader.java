@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.bulk;
+
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.exception.InvalidOperationException;
+import io.hhplus.tdd.point.validator.PointValidator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 유저 잔액 일괄 조회
+ *
+ * <p>중복을 제거한 유저 목록을 최대 {@code parallelism}개의 작업자가 나눠 조회합니다.
+ * 각 작업자는 공유 인덱스에서 다음 유저를 가져가므로, 조회 지연이 들쭉날쭉해도 먼저 끝난 작업자가 남은 유저를 이어서 처리합니다.
+ * 전체 지연은 대략 {@code ceil(유저 수 / parallelism)}번의 조회 지연이며, 유저 수가 {@code parallelism} 이하이면 한 번의 조회 지연에 가깝습니다.
+ *
+ * <p>조회는 {@link PointService#getUserPoint}를 거치므로 같은 유저의 동시 조회 합치기도 그대로 적용됩니다.
+ */
+@Component
+public class BulkBalanceReader {
+
+    private final PointService pointService;
+    private final PointValidator pointValidator;
+    private final BulkBalanceProperties properties;
+    private final Executor executor;
+
+    public BulkBalanceReader(PointService pointService, PointValidator pointValidator,
+                             BulkBalanceProperties properties,
+                             @Qualifier(BulkBalanceConfig.BULK_BALANCE_EXECUTOR) Executor executor) {
+        this.pointService = pointService;
+        this.pointValidator = pointValidator;
+        this.properties = properties;
+        this.executor = executor;
+    }
+
+    /**
+     * 유저들의 잔액을 조회합니다.
+     *
+     * @param userIds 조회할 유저 ID 목록 (중복 허용)
+     * @return 유저 ID별 잔액 (처음 등장한 순서)
+     * @throws InvalidOperationException 목록이 비었거나 최대 유저 수를 넘음
+     * @throws io.hhplus.tdd.point.exception.InvalidUserIdException 유효하지 않은 유저 ID 포함
+     */
+    public Map<Long, UserPoint> read(List<Long> userIds) {
+        if (userIds.isEmpty() || userIds.size() > properties.maxUsers()) {
+            throw InvalidOperationException.invalidBalanceLookupSize(userIds.size(), properties.maxUsers());
+        }
+        long[] ids = new LinkedHashSet<>(userIds).stream().mapToLong(Long::longValue).toArray();
+        for (long userId : ids) {
+            pointValidator.validateUserId(userId);
+        }
+
+        UserPoint[] points = new UserPoint[ids.length];
+        AtomicInteger next = new AtomicInteger();
+        Runnable worker = () -> {
+            int index;
+            while ((index = next.getAndIncrement()) < ids.length) {
+                points[index] = pointService.getUserPoint(ids[index]);
+            }
+        };
+        int workers = Math.min(properties.parallelism(), ids.length);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[workers - 1];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = CompletableFuture.runAsync(worker, executor);
+        }
+        worker.run();
+        join(futures);
+
+        Map<Long, UserPoint> balances = new LinkedHashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            balances.put(ids[i], points[i]);
+        }
+        return balances;
+    }
+
+    private static void join(CompletableFuture<?>[] futures) {
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
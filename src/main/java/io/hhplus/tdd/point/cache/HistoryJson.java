@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point.cache;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 한 유저의 이력 목록을 JSON 배열로 미리 직렬화한 불변 버전
+ *
+ * <p>{@code PointHistoryResponse}를 Jackson으로 직렬화한 것과 같은 바이트를 만듭니다.
+ * 원소들은 버전 사이에 공유되는 추가 전용 버퍼에 쉼표로 이어 담고, 각 버전은 자신이 볼 수 있는 길이만 기억합니다.
+ * 새 이력은 버퍼 뒤에 덧붙이므로 기존 바이트를 다시 만들지 않고, 이전 버전의 독자는 자신의 길이 이후를 읽지 않습니다.
+ * 덧붙이기는 항상 최신 버전에서 한 스레드(유저 락 보유자)만 수행해야 합니다.
+ */
+public final class HistoryJson {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final byte[] elements;
+    private final int length;
+    private final int count;
+
+    private HistoryJson(byte[] elements, int length, int count) {
+        this.elements = elements;
+        this.length = length;
+        this.count = count;
+    }
+
+    public static HistoryJson of(List<PointHistory> histories) {
+        return new HistoryJson(EMPTY, 0, 0).append(histories);
+    }
+
+    /**
+     * 이력을 덧붙인 다음 버전을 만듭니다.
+     */
+    HistoryJson append(List<PointHistory> added) {
+        if (added.isEmpty()) {
+            return this;
+        }
+        StringBuilder json = new StringBuilder(added.size() * 96);
+        for (int i = 0; i < added.size(); i++) {
+            if (count + i > 0) {
+                json.append(',');
+            }
+            PointHistory history = added.get(i);
+            json.append("{\"id\":").append(history.id())
+                .append(",\"userId\":").append(history.userId())
+                .append(",\"amount\":").append(history.amount())
+                .append(",\"type\":\"").append(history.type().name())
+                .append("\",\"updateMillis\":").append(history.updateMillis())
+                .append('}');
+        }
+
+        int newLength = length + json.length();
+        byte[] buffer = elements;
+        if (newLength > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(newLength, buffer.length * 2));
+        }
+        for (int i = 0; i < json.length(); i++) {
+            buffer[length + i] = (byte) json.charAt(i);
+        }
+        return new HistoryJson(buffer, newLength, count + added.size());
+    }
+
+    /**
+     * 이력 건수
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * 이 버전이 붙잡고 있는 버퍼의 바이트 수. 덧붙일 자리를 미리 늘려 두므로 {@link #contentLength()}보다 클 수 있음
+     */
+    int retainedBytes() {
+        return elements.length;
+    }
+
+    /**
+     * 대괄호를 포함한 JSON 배열의 바이트 수
+     */
+    public int contentLength() {
+        return length + 2;
+    }
+
+    public void writeTo(OutputStream out) throws IOException {
+        out.write('[');
+        out.write(elements, 0, length);
+        out.write(']');
+    }
+}
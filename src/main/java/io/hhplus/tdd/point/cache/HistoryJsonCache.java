@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point.cache;
+
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.event.PointChangedEvent;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 직렬화된 이력 응답 보관소
+ *
+ * <p>{@link io.hhplus.tdd.point.summary.PointSummaryRegistry}처럼 유저 락을 보유한 채 발행되는
+ * {@link PointChangedEvent}의 이력만 뒤에 덧붙입니다. 첫 조회 때는 유저 락 안에서 이력 전체를 한 번 직렬화합니다. 조회는 현재 버전의 바이트를 그대로 응답에 씁니다.
+ *
+ * <p>캐시가 붙잡는 버퍼 크기의 합은 {@code maxBytes}, 유저 한 명분은 {@code maxUserBytes}를 넘지 않습니다.
+ * 처음부터 한도를 넘는 유저는 캐시하지 않고, 덧붙이다 한도를 넘게 된 유저는 캐시에서 뺍니다.
+ * 캐시에 없는 유저는 요청마다 이력을 직렬화하며, 전체 한도에 여유가 생기면 다음 조회 때 다시 캐시합니다.
+ */
+@Component
+public class HistoryJsonCache {
+
+    private final Map<Long, HistoryJson> histories = new ConcurrentHashMap<>();
+    private final AtomicLong retainedBytes = new AtomicLong();
+    private final PointService pointService;
+    private final UserLockManager userLockManager;
+    private final HistoryJsonProperties properties;
+    private final long maxBytes;
+    private final long maxUserBytes;
+
+    public HistoryJsonCache(PointService pointService, UserLockManager userLockManager,
+                            HistoryJsonProperties properties) {
+        this.pointService = pointService;
+        this.userLockManager = userLockManager;
+        this.properties = properties;
+        this.maxBytes = properties.maxBytes().toBytes();
+        this.maxUserBytes = properties.maxUserBytes().toBytes();
+    }
+
+    @EventListener
+    public void onPointChanged(PointChangedEvent event) {
+        histories.computeIfPresent(event.userId(), (userId, current) -> {
+            HistoryJson next = current.append(event.histories());
+            if (reserve(next.retainedBytes(), current.retainedBytes())) {
+                return next;
+            }
+            retainedBytes.addAndGet(-current.retainedBytes());
+            return null;
+        });
+    }
+
+    /**
+     * 유저의 이력을 직렬화된 JSON 배열로 반환합니다.
+     */
+    public HistoryJson get(long userId) {
+        if (!properties.enabled()) {
+            return HistoryJson.of(pointService.getUserPointHistory(userId));
+        }
+        HistoryJson json = histories.get(userId);
+        return json != null ? json : load(userId);
+    }
+
+    /**
+     * 캐시가 붙잡고 있는 버퍼 크기의 합
+     */
+    public long retainedBytes() {
+        return retainedBytes.get();
+    }
+
+    /**
+     * 캐시된 유저 수
+     */
+    public int size() {
+        return histories.size();
+    }
+
+    private HistoryJson load(long userId) {
+        if (histories.size() >= properties.maxUsers() || retainedBytes.get() >= maxBytes) {
+            return HistoryJson.of(pointService.getUserPointHistory(userId));
+        }
+        return userLockManager.withUserLock(userId, () -> {
+            HistoryJson cached = histories.get(userId);
+            if (cached != null) {
+                return cached;
+            }
+            HistoryJson json = HistoryJson.of(pointService.getUserPointHistory(userId));
+            if (reserve(json.retainedBytes(), 0)) {
+                histories.put(userId, json);
+            }
+            return json;
+        });
+    }
+
+    /**
+     * 유저 한 명분이 {@code previous}에서 {@code next} 바이트로 바뀔 때 한도 안이면 차이만큼 예약합니다.
+     */
+    private boolean reserve(int next, int previous) {
+        if (next > maxUserBytes) {
+            return false;
+        }
+        long delta = next - previous;
+        while (true) {
+            long current = retainedBytes.get();
+            if (delta > 0 && current + delta > maxBytes) {
+                return false;
+            }
+            if (retainedBytes.compareAndSet(current, current + delta)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 직렬화된 이력 응답 설정
+ *
+ * <p>{@link HistoryJson} 전용 컨버터를 맨 앞에 등록합니다. 다른 타입은 기존 Jackson 컨버터가 그대로 처리합니다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class HistoryJsonConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new HistoryJsonHttpMessageConverter());
+    }
+}
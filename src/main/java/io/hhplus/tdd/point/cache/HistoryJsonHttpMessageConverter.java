@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.cache;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * {@link HistoryJson}의 바이트를 응답 본문에 그대로 쓰는 컨버터 (쓰기 전용)
+ */
+public class HistoryJsonHttpMessageConverter extends AbstractHttpMessageConverter<HistoryJson> {
+
+    public HistoryJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return HistoryJson.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected HistoryJson readInternal(Class<? extends HistoryJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("HistoryJson은 읽을 수 없습니다.", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(HistoryJson json, MediaType contentType) {
+        return (long) json.contentLength();
+    }
+
+    @Override
+    protected void writeInternal(HistoryJson json, HttpOutputMessage outputMessage) throws IOException {
+        json.writeTo(outputMessage.getBody());
+    }
+}
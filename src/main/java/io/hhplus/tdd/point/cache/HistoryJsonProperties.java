@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 직렬화된 이력 응답 캐시 설정
+ *
+ * @param enabled 캐시 사용 여부. false이면 요청마다 이력을 직렬화함
+ * @param maxUsers 캐시에 담을 최대 유저 수. 가득 차면 새 유저의 이력은 캐시하지 않고 요청마다 직렬화함
+ * @param maxBytes 캐시 전체가 차지할 수 있는 최대 바이트 수. 넘게 되면 새 유저는 캐시하지 않고, 이력이 늘어난 유저는 캐시에서 뺌
+ * @param maxUserBytes 한 유저의 직렬화된 이력이 차지할 수 있는 최대 바이트 수. 넘는 유저는 요청마다 직렬화함
+ */
+@ConfigurationProperties(prefix = "point.history.json-cache")
+public record HistoryJsonProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("100000") int maxUsers,
+    @DefaultValue("256MB") DataSize maxBytes,
+    @DefaultValue("1MB") DataSize maxUserBytes
+) {
+}
@@ -0,0 +1,51 @@
+package io.hhplus.tdd.point.coalesce;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.event.PointChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongFunction;
+
+/**
+ * 잔액 조회 합치기
+ *
+ * <p>같은 유저의 잔액을 동시에 조회하면 저장소 조회를 한 번만 하고 모든 호출이 그 결과를 받습니다.
+ *
+ * <p>쓰기가 끝나면(유저 락을 보유한 채 {@link PointChangedEvent} 발행) 진행 중인 조회를 등록에서 지웁니다.
+ * 쓰기 전에 시작된 조회는 쓰기와 동시에 일어난 조회이므로 이전 잔액을 받아도 되지만,
+ * 쓰기가 끝난 뒤 들어온 조회는 그 조회에 합쳐지지 않고 새로 조회하므로 방금 반영된 잔액을 받습니다.
+ */
+@Component
+public class BalanceReadCoalescer {
+
+    private final SingleFlight<UserPoint> singleFlight = new SingleFlight<>();
+    private final Counter reads;
+    private final Counter coalesced;
+
+    public BalanceReadCoalescer(MeterRegistry meterRegistry) {
+        this.reads = Counter.builder("point.read.balance.store")
+            .description("저장소까지 간 잔액 조회 수")
+            .register(meterRegistry);
+        this.coalesced = Counter.builder("point.read.balance.coalesced")
+            .description("진행 중인 조회에 합쳐진 잔액 조회 수")
+            .register(meterRegistry);
+    }
+
+    public UserPoint read(long userId, LongFunction<UserPoint> loader) {
+        SingleFlight.Result<UserPoint> result = singleFlight.execute(userId, loader);
+        (result.shared() ? coalesced : reads).increment();
+        return result.value();
+    }
+
+    int waiting(long userId) {
+        return singleFlight.waiting(userId);
+    }
+
+    @EventListener
+    public void onPointChanged(PointChangedEvent event) {
+        singleFlight.forget(event.userId());
+    }
+}
@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point.coalesce;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+/**
+ * 같은 키의 동시 조회를 한 번의 조회로 합치는 도구 (single-flight)
+ *
+ * <p>키마다 진행 중인 조회 하나를 {@link CompletableFuture}로 등록하고, 그동안 들어온 같은 키의 조회는
+ * 새로 조회하지 않고 그 결과를 기다립니다. 조회가 끝나면 등록을 지우므로 결과를 보관하지는 않습니다(캐시가 아님).
+ *
+ * @param <V> 조회 결과 타입
+ */
+public class SingleFlight<V> {
+
+    private final Map<Long, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * 진행 중인 같은 키의 조회가 있으면 그 결과를, 없으면 {@code loader}로 직접 조회한 결과를 반환합니다.
+     * 조회가 예외로 끝나면 기다리던 호출도 같은 예외를 받습니다.
+     */
+    public Result<V> execute(long key, LongFunction<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight != null) {
+            return new Result<>(join(inFlight), true);
+        }
+        try {
+            V value = loader.apply(key);
+            flight.complete(value);
+            return new Result<>(value, false);
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * 진행 중인 조회를 등록에서 지웁니다. 이후 들어온 조회는 진행 중인 조회에 합쳐지지 않고 새로 조회합니다.
+     * 이미 합쳐진 호출은 원래 조회의 결과를 그대로 받습니다.
+     */
+    public void forget(long key) {
+        flights.remove(key);
+    }
+
+    /**
+     * 키의 진행 중인 조회를 기다리고 있는 호출 수 (진행 중인 조회가 없으면 0)
+     */
+    int waiting(long key) {
+        CompletableFuture<V> flight = flights.get(key);
+        return flight != null ? flight.getNumberOfDependents() : 0;
+    }
+
+    private static <V> V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @param value 조회 결과
+     * @param shared 다른 호출의 조회 결과를 받았는지 여부
+     */
+    public record Result<V>(V value, boolean shared) {
+    }
+}
@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 인코딩용 버퍼 풀
+ *
+ * <p>요청마다 버퍼를 새로 만들지 않도록 반납된 버퍼를 최대 {@code maxPooled}개까지 보관합니다.
+ * 풀이 비어 있으면 새로 만들고, 가득 차 있으면 반납된 버퍼를 버립니다.
+ * 스레드 로컬 대신 공유 큐를 쓰므로 가상 스레드가 많아도 버퍼 수는 동시 인코딩 수를 넘지 않습니다.
+ */
+public class BinaryBufferPool {
+
+    private final BlockingQueue<ByteBuffer> buffers;
+    private final int bufferSize;
+
+    public BinaryBufferPool(int bufferSize, int maxPooled) {
+        this.buffers = new ArrayBlockingQueue<>(maxPooled);
+        this.bufferSize = bufferSize;
+    }
+
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocate(bufferSize).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public void release(ByteBuffer buffer) {
+        buffer.clear();
+        buffers.offer(buffer);
+    }
+}
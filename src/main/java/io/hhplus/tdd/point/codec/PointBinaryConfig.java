@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.codec;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * 바이너리 응답 설정
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PointBinaryConfig implements WebMvcConfigurer {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 256;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new PointBinaryHttpMessageConverter(new BinaryBufferPool(BUFFER_SIZE, MAX_POOLED_BUFFERS)));
+    }
+}
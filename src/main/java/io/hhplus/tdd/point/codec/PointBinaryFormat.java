@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.codec;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistoryResponse;
+import io.hhplus.tdd.point.dto.UserPointResponse;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 포인트 API의 고정 길이 바이너리 표현 (little-endian)
+ *
+ * <pre>
+ * UserPointResponse:          [id:long][point:long][updateMillis:long]  (24 bytes)
+ * List&lt;PointHistoryResponse&gt;: [count:int] + count * [id:long][userId:long][amount:long][updateMillis:long][type:byte]  (33 bytes)
+ * </pre>
+ * type은 {@link TransactionType}의 ordinal입니다(아웃박스 레코드와 같은 규칙).
+ *
+ * <p>인코딩은 호출자가 준 버퍼에 필드를 바로 쓰고, 버퍼가 차면 출력 스트림으로 비운 뒤 이어서 씁니다.
+ * 버퍼 크기는 레코드 하나({@value #HISTORY_BYTES} bytes) 이상이어야 합니다.
+ */
+public final class PointBinaryFormat {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.hhplus.point+binary";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    public static final int USER_POINT_BYTES = 24;
+    public static final int HISTORY_BYTES = 33;
+
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private PointBinaryFormat() {
+    }
+
+    public static int historiesLength(int count) {
+        return Integer.BYTES + count * HISTORY_BYTES;
+    }
+
+    public static void write(UserPointResponse userPoint, ByteBuffer buffer, OutputStream out) throws IOException {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        ensure(buffer, out, USER_POINT_BYTES);
+        buffer.putLong(userPoint.id());
+        buffer.putLong(userPoint.point());
+        buffer.putLong(userPoint.updateMillis());
+        flush(buffer, out);
+    }
+
+    public static void write(List<PointHistoryResponse> histories, ByteBuffer buffer, OutputStream out)
+        throws IOException {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        ensure(buffer, out, Integer.BYTES);
+        buffer.putInt(histories.size());
+        for (int i = 0; i < histories.size(); i++) {
+            PointHistoryResponse history = histories.get(i);
+            ensure(buffer, out, HISTORY_BYTES);
+            buffer.putLong(history.id());
+            buffer.putLong(history.userId());
+            buffer.putLong(history.amount());
+            buffer.putLong(history.updateMillis());
+            buffer.put((byte) history.type().ordinal());
+        }
+        flush(buffer, out);
+    }
+
+    public static UserPointResponse readUserPoint(ByteBuffer buffer) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return new UserPointResponse(buffer.getLong(), buffer.getLong(), buffer.getLong());
+    }
+
+    public static List<PointHistoryResponse> readHistories(ByteBuffer buffer) {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int count = buffer.getInt();
+        List<PointHistoryResponse> histories = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = buffer.getLong();
+            long userId = buffer.getLong();
+            long amount = buffer.getLong();
+            long updateMillis = buffer.getLong();
+            histories.add(new PointHistoryResponse(id, userId, amount, TYPES[buffer.get()], updateMillis));
+        }
+        return histories;
+    }
+
+    private static void ensure(ByteBuffer buffer, OutputStream out, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush(buffer, out);
+        }
+    }
+
+    private static void flush(ByteBuffer buffer, OutputStream out) throws IOException {
+        out.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+        buffer.clear();
+    }
+}
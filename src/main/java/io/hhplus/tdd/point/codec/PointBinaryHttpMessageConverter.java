@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point.codec;
+
+import io.hhplus.tdd.point.dto.PointHistoryResponse;
+import io.hhplus.tdd.point.dto.UserPointResponse;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * {@link PointBinaryFormat} 응답 컨버터 (쓰기 전용)
+ *
+ * <p>{@link UserPointResponse}와 {@code List<PointHistoryResponse>}를 반환하는 핸들러에서
+ * 요청의 Accept가 {@value PointBinaryFormat#MEDIA_TYPE_VALUE}일 때만 선택됩니다.
+ * Accept가 없거나 {@code *}{@code /*}이면 앞에 등록된 JSON 컨버터가 먼저 선택되도록 컨버터 목록 끝에 등록합니다.
+ */
+public class PointBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final BinaryBufferPool bufferPool;
+
+    public PointBinaryHttpMessageConverter(BinaryBufferPool bufferPool) {
+        super(PointBinaryFormat.MEDIA_TYPE);
+        this.bufferPool = bufferPool;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return UserPointResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return canWrite(mediaType) && (supports(clazz) || isHistoryList(type));
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("바이너리 요청 본문은 지원하지 않습니다.", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("바이너리 요청 본문은 지원하지 않습니다.", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(Object value, MediaType contentType) {
+        return value instanceof UserPointResponse
+            ? (long) PointBinaryFormat.USER_POINT_BYTES
+            : (long) PointBinaryFormat.historiesLength(((List<?>) value).size());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ByteBuffer buffer = bufferPool.acquire();
+        try {
+            if (value instanceof UserPointResponse userPoint) {
+                PointBinaryFormat.write(userPoint, buffer, outputMessage.getBody());
+            } else {
+                PointBinaryFormat.write((List<PointHistoryResponse>) value, buffer, outputMessage.getBody());
+            }
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    private static boolean isHistoryList(Type type) {
+        return type instanceof ParameterizedType parameterized
+            && parameterized.getRawType() instanceof Class<?> raw
+            && List.class.isAssignableFrom(raw)
+            && parameterized.getActualTypeArguments()[0] == PointHistoryResponse.class;
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.export.HistoryExportJob;
+
+/**
+ * 포인트 이력 내보내기 상태 응답 DTO
+ *
+ * <p>진행 중에는 처리한 유저/이력 수로 진행률을 알려주고, 완료되면 파일 크기와 SHA-256을 함께 반환합니다.
+ */
+public record HistoryExportResponse(
+    String jobId,
+    String state,
+    long totalUsers,
+    long exportedUsers,
+    long exportedRecords,
+    long sizeBytes,
+    String sha256,
+    long startedMillis,
+    long finishedMillis
+) {
+    /**
+     * HistoryExportJob으로부터 응답 DTO 생성
+     */
+    public static HistoryExportResponse from(HistoryExportJob job) {
+        return new HistoryExportResponse(
+            job.id(),
+            job.state().name(),
+            job.totalUsers(),
+            job.exportedUsers(),
+            job.exportedRecords(),
+            job.sizeBytes(),
+            job.sha256Hex(),
+            job.startedMillis(),
+            job.finishedMillis()
+        );
+    }
+}
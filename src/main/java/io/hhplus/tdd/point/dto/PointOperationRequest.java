@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 포인트 일괄 처리 API의 개별 연산 요청 DTO
+ */
+public record PointOperationRequest(
+    TransactionType type,
+    long amount
+) {
+    /**
+     * 요청 DTO를 도메인 연산으로 변환
+     */
+    public PointOperation toOperation() {
+        return new PointOperation(type, amount);
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.summary.PointSummary;
+
+import java.util.List;
+
+/**
+ * 포인트 요약 조회 API 응답 DTO
+ *
+ * <p>잔액과 이력이 같은 시점의 값이므로, 이력 금액을 합산하면 잔액과 일치합니다.
+ */
+public record PointSummaryResponse(
+    UserPointResponse point,
+    List<PointHistoryResponse> histories,
+    long version
+) {
+    /**
+     * PointSummary로부터 응답 DTO 생성
+     */
+    public static PointSummaryResponse from(PointSummary summary) {
+        return new PointSummaryResponse(
+            UserPointResponse.from(summary.userPoint()),
+            summary.histories().stream().map(PointHistoryResponse::from).toList(),
+            summary.version()
+        );
+    }
+}
@@ -0,0 +1,11 @@
+package io.hhplus.tdd.point.dto;
+
+/**
+ * 포인트 이체 API 요청 DTO
+ */
+public record PointTransferRequest(
+    long fromUserId,
+    long toUserId,
+    long amount
+) {
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.PointTransferResult;
+
+/**
+ * 포인트 이체 API 응답 DTO
+ *
+ * <p>이체 후 보낸 유저와 받은 유저의 포인트를 함께 반환합니다.
+ */
+public record PointTransferResponse(
+    UserPointResponse sender,
+    UserPointResponse receiver
+) {
+    /**
+     * PointTransferResult로부터 응답 DTO 생성
+     */
+    public static PointTransferResponse from(PointTransferResult result) {
+        return new PointTransferResponse(
+            UserPointResponse.from(result.sender()),
+            UserPointResponse.from(result.receiver())
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.leaderboard.RankedBalance;
+
+/**
+ * 잔액 리더보드 순위 응답 DTO
+ */
+public record RankedBalanceResponse(
+    long rank,
+    long userId,
+    long point
+) {
+    /**
+     * RankedBalance로부터 응답 DTO 생성
+     */
+    public static RankedBalanceResponse from(RankedBalance rankedBalance) {
+        return new RankedBalanceResponse(
+            rankedBalance.rank(),
+            rankedBalance.userId(),
+            rankedBalance.point()
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.dto;
+
+import io.hhplus.tdd.point.reconcile.LedgerMismatch;
+import io.hhplus.tdd.point.reconcile.LedgerReconciliation;
+
+import java.util.List;
+
+/**
+ * 잔액-이력 대사 결과 응답 DTO
+ *
+ * <p>{@code mismatches}는 설정된 최대 건수까지만 담고, 전체 불일치 건수는 {@code mismatchCount}로 알려줍니다.
+ */
+public record ReconciliationResponse(
+    String reconciliationId,
+    String state,
+    long cutoffOffset,
+    long totalUsers,
+    long checkedUsers,
+    long mismatchCount,
+    List<LedgerMismatch> mismatches,
+    long startedMillis,
+    long finishedMillis
+) {
+    /**
+     * LedgerReconciliation으로부터 응답 DTO 생성
+     */
+    public static ReconciliationResponse from(LedgerReconciliation reconciliation) {
+        return new ReconciliationResponse(
+            reconciliation.id(),
+            reconciliation.state().name(),
+            reconciliation.cutoffOffset(),
+            reconciliation.totalUsers(),
+            reconciliation.checkedUsers(),
+            reconciliation.mismatchCount(),
+            reconciliation.mismatches(),
+            reconciliation.startedMillis(),
+            reconciliation.finishedMillis()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.event;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.List;
+
+/**
+ * 한 유저의 포인트가 변경되었음을 알리는 이벤트
+ *
+ * <p>{@code PointService}의 쓰기 연산이 잔액과 이력을 모두 기록한 뒤, 해당 유저의 락을 보유한 상태에서 발행합니다.
+ * 리스너는 발행 스레드에서 동기적으로 실행되므로 같은 유저의 이벤트는 항상 순서대로 전달됩니다.
+ * 리스너에서 예외가 발생하면 이미 기록된 쓰기 결과와 달리 요청이 실패로 보이므로, 리스너는 예외를 던지지 않아야 합니다.
+ *
+ * @param userId 사용자 ID
+ * @param userPoint 변경 후 사용자 포인트
+ * @param histories 이번 변경으로 기록된 이력 (기록 순서)
+ */
+public record PointChangedEvent(
+        long userId,
+        UserPoint userPoint,
+        List<PointHistory> histories
+) {
+}
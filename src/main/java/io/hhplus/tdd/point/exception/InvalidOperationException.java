@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.exception;
+
+/**
+ * 허용되지 않는 포인트 연산을 요청한 경우 발생하는 예외
+ */
+public class InvalidOperationException extends PointException {
+
+    public InvalidOperationException(String message) {
+        super(message);
+    }
+
+    public static InvalidOperationException selfTransfer(long userId) {
+        return new InvalidOperationException("Cannot transfer points to the same user: " + userId);
+    }
+
+    public static InvalidOperationException emptyBatch() {
+        return new InvalidOperationException("Batch must contain at least one operation");
+    }
+
+    public static InvalidOperationException batchTooLarge(int size, int maxSize) {
+        return new InvalidOperationException(
+            "Batch cannot contain more than " + maxSize + " operations, but had: " + size
+        );
+    }
+
+    public static InvalidOperationException unsupportedBatchType(Object type) {
+        return new InvalidOperationException("Unsupported operation type in batch: " + type);
+    }
+
+    public static InvalidOperationException exportNotFound(String jobId) {
+        return new InvalidOperationException("History export not found: " + jobId);
+    }
+
+    public static InvalidOperationException exportNotReady(String jobId) {
+        return new InvalidOperationException("History export is not completed yet: " + jobId);
+    }
+
+    public static InvalidOperationException tooManySubscribers(long userId, int maxSubscribers) {
+        return new InvalidOperationException(
+            "User " + userId + " cannot have more than " + maxSubscribers + " balance streams"
+        );
+    }
+
+    public static InvalidOperationException reconciliationNotFound(String reconciliationId) {
+        return new InvalidOperationException("Ledger reconciliation not found: " + reconciliationId);
+    }
+
+    public static InvalidOperationException reconciliationUnavailable() {
+        return new InvalidOperationException("Ledger reconciliation requires the point outbox (point.outbox.enabled=true)");
+    }
+
+    public static InvalidOperationException invalidLeaderboardLimit(int limit, int maxLimit) {
+        return new InvalidOperationException("Leaderboard limit must be between 1 and " + maxLimit + ", but was: " + limit);
+    }
+
+    public static InvalidOperationException invalidIdempotencyKey(int maxLength) {
+        return new InvalidOperationException("Idempotency-Key must be non-blank and at most " + maxLength + " characters");
+    }
+
+    public static InvalidOperationException idempotencyKeyReused(String idempotencyKey) {
+        return new InvalidOperationException("Idempotency-Key was already used for a different operation: " + idempotencyKey);
+    }
+
+    public static InvalidOperationException invalidBalanceLookupSize(int size, int maxSize) {
+        return new InvalidOperationException("Balance lookup must contain between 1 and " + maxSize + " user ids, but had: " + size);
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.exception;
+
+/**
+ * 유저의 요청 수 제한을 넘은 경우 발생하는 예외
+ */
+public class RateLimitExceededException extends PointException {
+
+    private final long retryAfterMillis;
+
+    public RateLimitExceededException(long userId, String endpoint, long retryAfterMillis) {
+        super("Too many " + endpoint + " requests for user " + userId + ", retry after " + retryAfterMillis + "ms");
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.exception;
+
+/**
+ * 제한 시간 안에 사용자 락을 획득하지 못한 경우 발생하는 예외
+ */
+public class UserLockTimeoutException extends PointException {
+
+    public UserLockTimeoutException(String message) {
+        super(message);
+    }
+
+    public UserLockTimeoutException(long userId, long timeoutMillis) {
+        super("Failed to acquire lock for user " + userId + " within " + timeoutMillis + "ms");
+    }
+
+    public static UserLockTimeoutException interrupted(long userId) {
+        return new UserLockTimeoutException("Interrupted while waiting for lock of user " + userId);
+    }
+}
@@ -0,0 +1,279 @@
+package io.hhplus.tdd.point.expiry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계층형 타이밍 휠 (Hierarchical Timing Wheel)
+ *
+ * <p>만료 시각이 정해진 작업을 틱(tick) 단위 슬롯에 배치합니다.
+ * 레벨 {@code l}의 한 슬롯은 {@code wheelSize^l} 틱을 담당하며, 먼 미래의 작업은 상위 레벨에 놓였다가
+ * 해당 구간이 다가오면 하위 레벨로 내려옵니다(cascade).
+ *
+ * <ul>
+ *   <li>등록: O(1) - 남은 틱 수로 레벨과 슬롯을 계산해 연결 리스트에 추가</li>
+ *   <li>취소: O(1) - 자신이 속한 슬롯의 이중 연결 리스트에서 제거</li>
+ *   <li>진행: 틱마다 O(1) + 만료/이동되는 작업 수. 최하위 레벨이 비어 있으면 다음 cascade 시점까지 건너뜀</li>
+ * </ul>
+ *
+ * <p>만료는 틱 단위로 판정하므로 작업은 만료 시각보다 일찍 반환되지 않으며, 최대 한 틱 늦게 반환될 수 있습니다.
+ * 모든 연산은 내부 락으로 보호됩니다.
+ *
+ * @param <T> 작업에 연결된 값의 타입
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long tickMillis;
+    private final int wheelSize;
+    private final List<Bucket<T>[]> levels = new ArrayList<>();
+    private final List<Long> levelSpans = new ArrayList<>();
+    private long currentTick;
+    private int size;
+    private int lowestLevelSize;
+
+    /**
+     * @param tickMillis 한 틱의 길이(ms)
+     * @param wheelSize 레벨당 슬롯 수
+     * @param startMillis 휠의 시작 시각
+     */
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis must be positive and wheelSize at least 2");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.currentTick = startMillis / tickMillis;
+        addLevel();
+    }
+
+    /**
+     * 만료 시각에 반환될 작업을 등록합니다.
+     *
+     * @param payload 작업 값
+     * @param deadlineMillis 만료 시각. 이미 지난 시각이면 다음 틱에 반환됩니다.
+     * @return 취소에 사용할 핸들
+     */
+    public Timeout<T> schedule(T payload, long deadlineMillis) {
+        Timeout<T> timeout = new Timeout<>(payload, deadlineMillis, Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis));
+        lock.lock();
+        try {
+            place(timeout);
+            size++;
+            return timeout;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 등록된 작업을 취소합니다.
+     *
+     * @return 대기 중이던 작업을 취소했으면 true, 이미 만료/취소된 작업이면 false
+     */
+    public boolean cancel(Timeout<T> timeout) {
+        lock.lock();
+        try {
+            Bucket<T> bucket = timeout.bucket;
+            if (bucket == null) {
+                return false;
+            }
+            bucket.remove(timeout);
+            if (bucket.lowestLevel) {
+                lowestLevelSize--;
+            }
+            size--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 휠을 주어진 시각까지 진행하고, 그 사이 만료된 작업 값을 만료 순서대로 반환합니다.
+     */
+    public List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            while (currentTick < targetTick) {
+                if (size == 0) {
+                    currentTick = targetTick;
+                    break;
+                }
+                if (lowestLevelSize == 0) {
+                    // 최하위 레벨이 비어 있으면 상위 레벨의 다음 cascade 직전까지 건너뜀
+                    long span = levelSpans.get(1);
+                    currentTick = Math.min(targetTick, (Math.floorDiv(currentTick, span) + 1) * span) - 1;
+                }
+                currentTick++;
+                for (int level = levels.size() - 1; level >= 1; level--) {
+                    long span = levelSpans.get(level);
+                    if (currentTick % span == 0) {
+                        cascade(levels.get(level)[slotOf(currentTick / span)], expired);
+                    }
+                }
+                drain(levels.get(0)[slotOf(currentTick)], expired);
+            }
+            return expired;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 작업 수
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        if (delta <= 0) {
+            levels.get(0)[slotOf(currentTick + 1)].add(timeout);
+            lowestLevelSize++;
+            return;
+        }
+        int level = 0;
+        while (delta >= levelSpans.get(level) * wheelSize) {
+            level++;
+            if (level == levels.size() && !addLevel()) {
+                level--;
+                break;
+            }
+        }
+        levels.get(level)[slotOf(timeout.deadlineTick / levelSpans.get(level))].add(timeout);
+        if (level == 0) {
+            lowestLevelSize++;
+        }
+    }
+
+    private void cascade(Bucket<T> bucket, List<T> expired) {
+        Timeout<T> timeout;
+        while ((timeout = bucket.poll()) != null) {
+            if (timeout.deadlineTick <= currentTick) {
+                size--;
+                expired.add(timeout.payload);
+            } else {
+                place(timeout);
+            }
+        }
+    }
+
+    private void drain(Bucket<T> bucket, List<T> expired) {
+        Timeout<T> timeout;
+        while ((timeout = bucket.poll()) != null) {
+            size--;
+            lowestLevelSize--;
+            expired.add(timeout.payload);
+        }
+    }
+
+    private int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) wheelSize);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean addLevel() {
+        long span = 1;
+        if (!levelSpans.isEmpty()) {
+            long previous = levelSpans.get(levelSpans.size() - 1);
+            if (previous > Long.MAX_VALUE / wheelSize / wheelSize) {
+                return false;
+            }
+            span = previous * wheelSize;
+        }
+        Bucket<T>[] buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket<>(levels.isEmpty());
+        }
+        levels.add(buckets);
+        levelSpans.add(span);
+        return true;
+    }
+
+    /**
+     * 등록된 작업의 핸들
+     */
+    public static final class Timeout<T> {
+
+        private final T payload;
+        private final long deadlineMillis;
+        private final long deadlineTick;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(T payload, long deadlineMillis, long deadlineTick) {
+            this.payload = payload;
+            this.deadlineMillis = deadlineMillis;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public long deadlineMillis() {
+            return deadlineMillis;
+        }
+    }
+
+    /**
+     * 한 슬롯에 속한 작업의 이중 연결 리스트
+     */
+    private static final class Bucket<T> {
+
+        private final boolean lowestLevel;
+        private Timeout<T> head;
+        private Timeout<T> tail;
+
+        Bucket(boolean lowestLevel) {
+            this.lowestLevel = lowestLevel;
+        }
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout<T> timeout) {
+            if (timeout.prev == null) {
+                head = timeout.next;
+            } else {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.prev;
+            } else {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        Timeout<T> poll() {
+            Timeout<T> first = head;
+            if (first != null) {
+                remove(first);
+            }
+            return first;
+        }
+    }
+}
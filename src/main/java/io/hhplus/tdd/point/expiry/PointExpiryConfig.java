@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.point.PointService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 포인트 만료 처리 주기 작업 설정
+ *
+ * <p>틱마다 타이밍 휠을 진행시키고, 만료된 묶음을 {@link PointService#expireLot(long, long)}으로 소멸시킵니다.
+ * 소멸은 유저 락 안에서 처리되므로 같은 유저의 충전/사용과 경합하지 않습니다.
+ */
+@Configuration
+public class PointExpiryConfig implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(PointExpiryConfig.class);
+
+    private final PointLotLedger pointLotLedger;
+    private final PointService pointService;
+    private final PointExpiryProperties properties;
+
+    public PointExpiryConfig(PointLotLedger pointLotLedger, PointService pointService, PointExpiryProperties properties) {
+        this.pointLotLedger = pointLotLedger;
+        this.pointService = pointService;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(this::expireDueLots, properties.tick());
+    }
+
+    void expireDueLots() {
+        for (PointLot lot : pointLotLedger.pollExpired(System.currentTimeMillis())) {
+            try {
+                pointService.expireLot(lot.userId(), lot.lotId());
+            } catch (RuntimeException e) {
+                log.warn("Failed to expire point lot {} for user: {}", lot.lotId(), lot.userId(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.expiry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 유효기간 설정
+ *
+ * @param ttl 충전된 포인트의 유효기간
+ * @param tick 타이밍 휠의 틱 길이이자 만료 처리 주기
+ * @param wheelSize 타이밍 휠 레벨당 슬롯 수
+ */
+@ConfigurationProperties(prefix = "point.expiry")
+public record PointExpiryProperties(
+    @DefaultValue("365d") Duration ttl,
+    @DefaultValue("1s") Duration tick,
+    @DefaultValue("512") int wheelSize
+) {
+}
@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point.expiry;
+
+/**
+ * 한 번의 충전(또는 이체 수신)으로 생긴 포인트 묶음
+ *
+ * <p>남은 금액은 해당 유저의 락을 보유한 상태에서만 변경됩니다.
+ */
+public final class PointLot {
+
+    private final long userId;
+    private final long lotId;
+    private final long expireMillis;
+    private long remaining;
+    private HierarchicalTimingWheel.Timeout<PointLot> timeout;
+
+    PointLot(long userId, long lotId, long amount, long expireMillis) {
+        this.userId = userId;
+        this.lotId = lotId;
+        this.remaining = amount;
+        this.expireMillis = expireMillis;
+    }
+
+    public long userId() {
+        return userId;
+    }
+
+    public long lotId() {
+        return lotId;
+    }
+
+    public long expireMillis() {
+        return expireMillis;
+    }
+
+    public long remaining() {
+        return remaining;
+    }
+
+    /**
+     * 요청 금액 중 이 묶음에서 차감한 금액을 반환합니다.
+     */
+    long consume(long amount) {
+        long consumed = Math.min(remaining, amount);
+        remaining -= consumed;
+        return consumed;
+    }
+
+    HierarchicalTimingWheel.Timeout<PointLot> timeout() {
+        return timeout;
+    }
+
+    void timeout(HierarchicalTimingWheel.Timeout<PointLot> timeout) {
+        this.timeout = timeout;
+    }
+}
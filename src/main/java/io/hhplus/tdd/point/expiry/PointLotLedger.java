@@ -0,0 +1,139 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.event.PointChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 만료 예정 포인트 묶음(lot) 장부
+ *
+ * <p>충전/이체 수신 이력마다 묶음을 만들어 타이밍 휠에 만료를 예약하고,
+ * 사용/이체 송신 이력은 가장 오래된 묶음부터 차감합니다(FIFO).
+ * 모든 묶음의 유효기간이 같으므로 가장 오래된 묶음이 곧 가장 먼저 만료될 묶음입니다.
+ *
+ * <p>묶음 변경은 {@link PointChangedEvent} 리스너와 {@link #expire(long, long)}에서만 일어나며,
+ * 둘 다 해당 유저의 락을 보유한 상태에서 호출되므로 유저별 큐는 별도 동기화 없이 사용합니다.
+ */
+@Component
+public class PointLotLedger {
+
+    private final ConcurrentHashMap<Long, Deque<PointLot>> userLots = new ConcurrentHashMap<>();
+    private final AtomicLong lotSequence = new AtomicLong();
+    private final HierarchicalTimingWheel<PointLot> wheel;
+    private final long ttlMillis;
+
+    public PointLotLedger(PointExpiryProperties properties) {
+        this.ttlMillis = properties.ttl().toMillis();
+        this.wheel = new HierarchicalTimingWheel<>(
+            properties.tick().toMillis(), properties.wheelSize(), System.currentTimeMillis());
+    }
+
+    @EventListener
+    public void onPointChanged(PointChangedEvent event) {
+        for (PointHistory history : event.histories()) {
+            switch (history.type()) {
+                case CHARGE, TRANSFER_IN -> addLot(history.userId(), history.amount(), history.updateMillis());
+                case USE, TRANSFER_OUT -> consume(history.userId(), history.amount());
+                default -> {
+                    // EXPIRE는 expire()에서 묶음을 직접 제거한 뒤 기록됨
+                }
+            }
+        }
+    }
+
+    /**
+     * 스냅샷에서 복원한 이력으로 유저의 묶음을 다시 구성합니다.
+     * 이미 소멸된 묶음은 EXPIRE 이력 금액만큼 가장 오래된 묶음부터 차감합니다.
+     * 요청을 받기 전에 실행되는 복원 단계에서만 호출하므로 락 없이 사용합니다.
+     */
+    public void replay(long userId, List<PointHistory> histories) {
+        for (PointHistory history : histories) {
+            switch (history.type()) {
+                case CHARGE, TRANSFER_IN -> addLot(userId, history.amount(), history.updateMillis());
+                case USE, TRANSFER_OUT, EXPIRE -> consume(userId, history.amount());
+            }
+        }
+    }
+
+    /**
+     * 현재 시각까지 만료된 묶음을 반환합니다. 반환된 묶음은 아직 장부에서 제거되지 않았습니다.
+     */
+    public List<PointLot> pollExpired(long nowMillis) {
+        return wheel.advance(nowMillis);
+    }
+
+    /**
+     * 묶음을 장부에서 제거하고 소멸시킬 남은 금액을 반환합니다. 해당 유저의 락을 보유한 상태에서 호출해야 합니다.
+     *
+     * @return 남은 금액. 이미 모두 사용되었거나 존재하지 않는 묶음이면 0
+     */
+    public long expire(long userId, long lotId) {
+        Deque<PointLot> lots = userLots.get(userId);
+        if (lots == null) {
+            return 0;
+        }
+        Iterator<PointLot> iterator = lots.iterator();
+        while (iterator.hasNext()) {
+            PointLot lot = iterator.next();
+            if (lot.lotId() == lotId) {
+                iterator.remove();
+                wheel.cancel(lot.timeout());
+                removeIfEmpty(userId, lots);
+                return lot.remaining();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 유저의 만료 예정 포인트 합계
+     */
+    public long remaining(long userId) {
+        Deque<PointLot> lots = userLots.get(userId);
+        return lots == null ? 0 : lots.stream().mapToLong(PointLot::remaining).sum();
+    }
+
+    /**
+     * 만료 대기 중인 전체 묶음 수
+     */
+    public int pendingLots() {
+        return wheel.size();
+    }
+
+    private void addLot(long userId, long amount, long chargedMillis) {
+        PointLot lot = new PointLot(userId, lotSequence.incrementAndGet(), amount, chargedMillis + ttlMillis);
+        lot.timeout(wheel.schedule(lot, lot.expireMillis()));
+        userLots.computeIfAbsent(userId, id -> new ArrayDeque<>()).addLast(lot);
+    }
+
+    private void consume(long userId, long amount) {
+        Deque<PointLot> lots = userLots.get(userId);
+        if (lots == null) {
+            return;
+        }
+        long left = amount;
+        while (left > 0 && !lots.isEmpty()) {
+            PointLot oldest = lots.peekFirst();
+            left -= oldest.consume(left);
+            if (oldest.remaining() == 0) {
+                lots.pollFirst();
+                wheel.cancel(oldest.timeout());
+            }
+        }
+        removeIfEmpty(userId, lots);
+    }
+
+    private void removeIfEmpty(long userId, Deque<PointLot> lots) {
+        if (lots.isEmpty()) {
+            userLots.remove(userId, lots);
+        }
+    }
+}
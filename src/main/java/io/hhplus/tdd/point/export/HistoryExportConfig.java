@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.export;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 포인트 이력 내보내기 정리 작업 설정
+ *
+ * <p>보관 기간이 지난 내보내기 작업과 파일을 주기적으로 지웁니다.
+ */
+@Configuration
+public class HistoryExportConfig implements SchedulingConfigurer {
+
+    private final HistoryExporter historyExporter;
+    private final HistoryExportProperties properties;
+
+    public HistoryExportConfig(HistoryExporter historyExporter, HistoryExportProperties properties) {
+        this.historyExporter = historyExporter;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(historyExporter::purgeExpired, properties.purgeInterval());
+    }
+}
@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.export;
+
+import io.hhplus.tdd.point.dto.HistoryExportResponse;
+import io.hhplus.tdd.point.exception.InvalidOperationException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/point/exports")
+public class HistoryExportController {
+
+    private static final Logger log = LoggerFactory.getLogger(HistoryExportController.class);
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final HistoryExporter historyExporter;
+
+    public HistoryExportController(HistoryExporter historyExporter) {
+        this.historyExporter = historyExporter;
+    }
+
+    /**
+     * 전체 포인트 이력 내보내기를 시작합니다.
+     */
+    @PostMapping
+    public ResponseEntity<HistoryExportResponse> start() {
+        HistoryExportJob job = historyExporter.start();
+        log.info("Started point history export: {}", job.id());
+        return ResponseEntity.accepted()
+            .location(URI.create("/point/exports/" + job.id()))
+            .body(HistoryExportResponse.from(job));
+    }
+
+    /**
+     * 내보내기 진행 상황을 조회합니다.
+     */
+    @GetMapping("{jobId}")
+    public HistoryExportResponse status(@PathVariable String jobId) {
+        return HistoryExportResponse.from(historyExporter.find(jobId));
+    }
+
+    /**
+     * 완료된 내보내기 파일을 내려받습니다.
+     *
+     * <p>Tomcat이 sendfile을 지원하면 파일 전송을 커넥터에 맡겨 사용자 공간 복사 없이 전송하고,
+     * 그렇지 않으면 {@link FileChannel#transferTo}로 응답 스트림에 씁니다.
+     * 파일 무결성은 {@code Digest} 헤더(SHA-256)로 확인할 수 있습니다.
+     */
+    @GetMapping("{jobId}/file")
+    public void download(@PathVariable String jobId, HttpServletRequest request, HttpServletResponse response)
+        throws IOException {
+        HistoryExportJob job = historyExporter.find(jobId);
+        if (job.state() != HistoryExportJob.State.COMPLETED) {
+            throw InvalidOperationException.exportNotReady(jobId);
+        }
+        log.info("Downloading point history export: {}", jobId);
+
+        long size = job.sizeBytes();
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setContentLengthLong(size);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(job.file().getFileName().toString()).build().toString());
+        response.setHeader("Digest", "sha-256=" + Base64.getEncoder().encodeToString(job.sha256()));
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, job.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(job.file(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package io.hhplus.tdd.point.export;
+
+import java.nio.file.Path;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포인트 이력 내보내기 작업
+ *
+ * <p>내보내기 스레드 하나만 진행 상황을 갱신하고, 조회 API는 언제든 읽을 수 있도록 volatile/atomic 필드를 사용합니다.
+ */
+public final class HistoryExportJob {
+
+    public enum State {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final Path file;
+    private final long totalUsers;
+    private final long startedMillis;
+    private final AtomicLong exportedUsers = new AtomicLong();
+    private final AtomicLong exportedRecords = new AtomicLong();
+    private volatile State state = State.RUNNING;
+    private volatile long sizeBytes;
+    private volatile byte[] sha256;
+    private volatile long finishedMillis;
+
+    HistoryExportJob(String id, Path file, long totalUsers) {
+        this.id = id;
+        this.file = file;
+        this.totalUsers = totalUsers;
+        this.startedMillis = System.currentTimeMillis();
+    }
+
+    void userExported(int records) {
+        exportedRecords.addAndGet(records);
+        exportedUsers.incrementAndGet();
+    }
+
+    void complete(long sizeBytes, byte[] sha256) {
+        this.sizeBytes = sizeBytes;
+        this.sha256 = sha256;
+        this.finishedMillis = System.currentTimeMillis();
+        this.state = State.COMPLETED;
+    }
+
+    void fail() {
+        this.finishedMillis = System.currentTimeMillis();
+        this.state = State.FAILED;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public State state() {
+        return state;
+    }
+
+    public long totalUsers() {
+        return totalUsers;
+    }
+
+    public long exportedUsers() {
+        return exportedUsers.get();
+    }
+
+    public long exportedRecords() {
+        return exportedRecords.get();
+    }
+
+    public long sizeBytes() {
+        return sizeBytes;
+    }
+
+    /**
+     * 완료된 파일의 SHA-256 다이제스트. 완료 전에는 null
+     */
+    public byte[] sha256() {
+        byte[] digest = sha256;
+        return digest == null ? null : digest.clone();
+    }
+
+    public String sha256Hex() {
+        byte[] digest = sha256;
+        return digest == null ? null : HexFormat.of().formatHex(digest);
+    }
+
+    public long startedMillis() {
+        return startedMillis;
+    }
+
+    public long finishedMillis() {
+        return finishedMillis;
+    }
+}
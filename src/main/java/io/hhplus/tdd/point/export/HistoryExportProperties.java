@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.export;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 포인트 이력 내보내기 설정
+ *
+ * @param directory 내보내기 파일을 저장할 디렉터리
+ * @param bufferSize 파일 쓰기 버퍼 크기 (바이트)
+ * @param retention 끝난 작업과 파일을 보관하는 기간
+ * @param purgeInterval 보관 기간이 지난 작업을 정리하는 주기
+ */
+@ConfigurationProperties(prefix = "point.export")
+public record HistoryExportProperties(
+    Path directory,
+    @DefaultValue("65536") int bufferSize,
+    @DefaultValue("1h") Duration retention,
+    @DefaultValue("5m") Duration purgeInterval
+) {
+}
@@ -0,0 +1,188 @@
+package io.hhplus.tdd.point.export;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointUserDirectory;
+import io.hhplus.tdd.point.exception.InvalidOperationException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 전체 포인트 이력 CSV 내보내기
+ *
+ * <p>시작 시점의 유저 목록을 배열로 고정한 뒤 유저 단위로 이력을 조회해 바로 파일에 쓰므로,
+ * 한 번에 메모리에 올라가는 이력은 한 유저분뿐입니다. 저장소는 유저별 색인에서 해당 유저의 이력만 읽으므로
+ * 전체 내보내기 비용은 이력 수에 비례합니다. 조회는 유저 락 없이 수행되어 내보내기 중에도 충전/사용이 막히지 않습니다.
+ * 이력은 추가만 되므로 각 유저의 이력은 조회 시점 기준으로 일관됩니다.
+ *
+ * <p>파일은 임시 이름으로 쓰는 동안 SHA-256을 함께 계산하고, 완료되면 최종 이름으로 옮깁니다.
+ * 내보내기는 전용 스레드 하나에서 실행되며, 진행 중인 작업이 있으면 새 작업 대신 그 작업을 반환합니다.
+ *
+ * <p>끝난 작업과 파일은 {@code retention}이 지나면 {@link #purgeExpired}가 지웁니다.
+ * 작업 목록은 메모리에만 있으므로, 시작할 때 이전 실행이 남긴 파일도 정리합니다.
+ */
+@Component
+public class HistoryExporter {
+
+    private static final Logger log = LoggerFactory.getLogger(HistoryExporter.class);
+    private static final String HEADER = "id,userId,type,amount,updateMillis\n";
+    private static final String FILE_GLOB = "*.{csv,csv.part}";
+
+    private final PointUserDirectory pointUserDirectory;
+    private final PointService pointService;
+    private final HistoryExportProperties properties;
+    private final Map<String, HistoryExportJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicReference<HistoryExportJob> running = new AtomicReference<>();
+    private final ReentrantLock startLock = new ReentrantLock();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "point-history-export");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public HistoryExporter(PointUserDirectory pointUserDirectory, PointService pointService,
+                           HistoryExportProperties properties) {
+        this.pointUserDirectory = pointUserDirectory;
+        this.pointService = pointService;
+        this.properties = properties;
+        deletePreviousFiles();
+    }
+
+    /**
+     * 내보내기를 시작합니다. 이미 진행 중인 작업이 있으면 그 작업을 반환합니다.
+     */
+    public HistoryExportJob start() {
+        startLock.lock();
+        try {
+            HistoryExportJob current = running.get();
+            if (current != null) {
+                return current;
+            }
+
+            long[] userIds = pointUserDirectory.userIds().stream().mapToLong(Long::longValue).toArray();
+            String jobId = UUID.randomUUID().toString();
+            HistoryExportJob job =
+                new HistoryExportJob(jobId, properties.directory().resolve(jobId + ".csv"), userIds.length);
+            jobs.put(jobId, job);
+            running.set(job);
+            executor.execute(() -> run(job, userIds));
+            return job;
+        } finally {
+            startLock.unlock();
+        }
+    }
+
+    public HistoryExportJob find(String jobId) {
+        HistoryExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw InvalidOperationException.exportNotFound(jobId);
+        }
+        return job;
+    }
+
+    /**
+     * 끝난 지 {@code retention}이 지난 작업과 그 파일을 지웁니다. 진행 중인 작업은 지우지 않습니다.
+     */
+    void purgeExpired() {
+        long expiredBefore = System.currentTimeMillis() - properties.retention().toMillis();
+        jobs.values().removeIf(job -> {
+            if (job.state() == HistoryExportJob.State.RUNNING || job.finishedMillis() >= expiredBefore) {
+                return false;
+            }
+            deleteQuietly(job.file());
+            return true;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void deletePreviousFiles() {
+        if (!Files.isDirectory(properties.directory())) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(properties.directory(), FILE_GLOB)) {
+            for (Path file : files) {
+                deleteQuietly(file);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean up previous export files: {}", properties.directory(), e);
+        }
+    }
+
+    private void run(HistoryExportJob job, long[] userIds) {
+        Path temp = job.file().resolveSibling(job.id() + ".csv.part");
+        try {
+            Files.createDirectories(job.file().getParent());
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest);
+                 Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), properties.bufferSize())) {
+                writer.write(HEADER);
+                for (long userId : userIds) {
+                    List<PointHistory> histories = pointService.getUserPointHistory(userId);
+                    for (PointHistory history : histories) {
+                        writeRow(writer, history);
+                    }
+                    job.userExported(histories.size());
+                }
+            }
+            Files.move(temp, job.file(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            job.complete(Files.size(job.file()), digest.digest());
+            log.info("Exported {} histories of {} users to {} ({} bytes, sha256={})",
+                job.exportedRecords(), job.exportedUsers(), job.file(), job.sizeBytes(), job.sha256Hex());
+        } catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
+            job.fail();
+            log.warn("Failed to export point histories: {}", job.id(), e);
+            deleteQuietly(temp);
+        } finally {
+            running.set(null);
+        }
+    }
+
+    private static void writeRow(Writer writer, PointHistory history) throws IOException {
+        writer.write(Long.toString(history.id()));
+        writer.write(',');
+        writer.write(Long.toString(history.userId()));
+        writer.write(',');
+        writer.write(history.type().name());
+        writer.write(',');
+        writer.write(Long.toString(history.amount()));
+        writer.write(',');
+        writer.write(Long.toString(history.updateMillis()));
+        writer.write('\n');
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete export file: {}", path, e);
+        }
+    }
+}
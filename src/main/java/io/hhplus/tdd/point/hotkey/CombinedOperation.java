@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point.hotkey;
+
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 전용 경로에서 다른 요청과 합쳐서 처리되는 단일 충전/사용 요청
+ *
+ * <p>요청한 스레드가 아니라 락을 잡은 스레드가 처리하므로, 결과(처리 후 잔액 또는 예외)를 이 객체로 돌려받습니다.
+ */
+public final class CombinedOperation {
+
+    private final PointOperation operation;
+    private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+    public CombinedOperation(PointOperation operation) {
+        this.operation = operation;
+    }
+
+    public PointOperation operation() {
+        return operation;
+    }
+
+    public void complete(UserPoint userPoint) {
+        result.complete(userPoint);
+    }
+
+    public void fail(RuntimeException exception) {
+        result.completeExceptionally(exception);
+    }
+
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    /**
+     * 처리 결과를 반환합니다. 처리 중 발생한 예외는 감싸지 않고 그대로 던집니다.
+     */
+    public UserPoint join() {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
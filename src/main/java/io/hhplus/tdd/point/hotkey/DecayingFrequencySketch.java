@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.hotkey;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간이 지나면 값이 줄어드는 count-min 스케치
+ *
+ * <p>유저 수와 무관한 고정 메모리({@code 4 * width}개 카운터)로 userId별 최근 쓰기 빈도를 추정합니다.
+ * 네 행 중 최솟값을 추정치로 쓰므로 실제보다 작게 추정하지는 않습니다.
+ * {@code sampleSize}번 기록할 때마다 모든 카운터를 절반으로 줄여, 예전 쓰기는 점점 덜 반영됩니다.
+ *
+ * <p>카운터 증가는 원자적이지만 절반 줄이기와 겹친 증가는 일부 유실될 수 있습니다. 감지용 추정치이므로 허용합니다.
+ */
+final class DecayingFrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final AtomicIntegerArray counters;
+    private final int mask;
+    private final int sampleSize;
+    private final AtomicLong additions = new AtomicLong();
+
+    DecayingFrequencySketch(int width, int sampleSize) {
+        int rowWidth = Integer.highestOneBit(Math.max(16, width - 1)) << 1;
+        this.counters = new AtomicIntegerArray(DEPTH * rowWidth);
+        this.mask = rowWidth - 1;
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * 빈도를 1 늘리고 늘어난 추정치를 반환합니다.
+     */
+    int incrementAndEstimate(long key) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, key)));
+        }
+        if (additions.incrementAndGet() % sampleSize == 0) {
+            halve();
+        }
+        return estimate;
+    }
+
+    int estimate(long key) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, key)));
+        }
+        return estimate;
+    }
+
+    private void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.updateAndGet(i, count -> count >>> 1);
+        }
+    }
+
+    private int index(int row, long key) {
+        long h = (key + row) * SEEDS[row];
+        h ^= h >>> 29;
+        return row * (mask + 1) + ((int) h & mask);
+    }
+}
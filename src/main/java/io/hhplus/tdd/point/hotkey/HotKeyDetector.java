@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point.hotkey;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쓰기가 몰리는 유저 감지
+ *
+ * <p>쓰기마다 {@link DecayingFrequencySketch}에 기록하고, 추정 빈도가 {@code hotThreshold} 이상이면 hot으로,
+ * hot 유저의 추정 빈도가 {@code coolThreshold} 아래로 떨어지면 다시 일반으로 분류합니다.
+ * 두 기준을 다르게 두어 경계에 걸친 유저의 경로가 매번 바뀌지 않게 합니다.
+ */
+@Component
+public class HotKeyDetector {
+
+    private final DecayingFrequencySketch sketch;
+    private final Set<Long> hotUsers = ConcurrentHashMap.newKeySet();
+    private final HotKeyProperties properties;
+
+    public HotKeyDetector(HotKeyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sketch = new DecayingFrequencySketch(properties.sketchWidth(), properties.sampleSize());
+        Gauge.builder("point.hotkey.users", hotUsers, Set::size)
+            .description("전용 경로로 처리 중인 hot 유저 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 유저의 쓰기를 기록하고, 이 쓰기를 전용 경로로 보내야 하는지 반환합니다.
+     */
+    public boolean recordWrite(long userId) {
+        if (!properties.enabled()) {
+            return false;
+        }
+        int estimate = sketch.incrementAndEstimate(userId);
+        if (estimate >= properties.hotThreshold()) {
+            hotUsers.add(userId);
+            return true;
+        }
+        if (estimate < properties.coolThreshold()) {
+            hotUsers.remove(userId);
+            return false;
+        }
+        return hotUsers.contains(userId);
+    }
+
+    public boolean isHot(long userId) {
+        return hotUsers.contains(userId);
+    }
+
+    public Set<Long> hotUsers() {
+        return Set.copyOf(hotUsers);
+    }
+}
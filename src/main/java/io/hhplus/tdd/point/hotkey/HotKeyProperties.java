@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.hotkey;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 쓰기 집중 유저 감지 설정
+ *
+ * @param enabled 감지와 전용 경로 사용 여부. false이면 모든 쓰기가 일반 경로로 처리됨
+ * @param sketchWidth 빈도 스케치 한 행의 카운터 수 (2의 거듭제곱으로 올림)
+ * @param sampleSize 카운터를 절반으로 줄이는 주기 (기록 횟수). 최근 쓰기일수록 크게 반영됨
+ * @param hotThreshold 전용 경로로 옮기는 추정 빈도
+ * @param coolThreshold 일반 경로로 되돌리는 추정 빈도 (hotThreshold보다 작게 두어 경계에서 경로가 자주 바뀌지 않게 함)
+ * @param maxCombined 전용 경로에서 한 번에 합쳐서 처리하는 최대 요청 수
+ */
+@ConfigurationProperties(prefix = "point.hotkey")
+public record HotKeyProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("4096") int sketchWidth,
+    @DefaultValue("100000") int sampleSize,
+    @DefaultValue("64") int hotThreshold,
+    @DefaultValue("16") int coolThreshold,
+    @DefaultValue("64") int maxCombined
+) {
+}
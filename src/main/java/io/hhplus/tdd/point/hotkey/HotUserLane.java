@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point.hotkey;
+
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.jfr.PointOperationEvent;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * hot 유저 전용 쓰기 경로 (flat combining)
+ *
+ * <p>요청은 먼저 유저별 대기열에 들어간 뒤 유저 락을 기다립니다. 락을 잡은 스레드는 자기 요청뿐 아니라 대기열에
+ * 쌓인 요청을 최대 {@code maxCombined}개까지 모아 {@link PointService#applyCombined}로 한 번에 처리합니다.
+ * 잔액 조회/저장과 이벤트 발행이 요청 수만큼이 아니라 묶음마다 한 번만 일어나므로, 락을 기다리던 뒤쪽 요청들은
+ * 락을 잡자마자 이미 끝난 결과를 받아 바로 반환합니다.
+ *
+ * <p>대기열에 넣은 스레드는 락을 잡은 뒤 자기 요청이 끝날 때까지 그 대기열을 비우므로, 유저가 식어 대기열이
+ * 맵에서 제거되어도 남은 요청이 처리되지 않는 일은 없습니다.
+ *
+ * <p>일반 경로와 마찬가지로 JFR 기록 중이면 요청마다 {@link PointOperationEvent}를 남깁니다.
+ */
+@Component
+public class HotUserLane {
+
+    private final PointService pointService;
+    private final UserLockManager userLockManager;
+    private final HotKeyDetector hotKeyDetector;
+    private final HotKeyProperties properties;
+    private final Map<Long, Queue<CombinedOperation>> queues = new ConcurrentHashMap<>();
+    private final DistributionSummary combinedSize;
+
+    public HotUserLane(PointService pointService, UserLockManager userLockManager, HotKeyDetector hotKeyDetector,
+                       HotKeyProperties properties, MeterRegistry meterRegistry) {
+        this.pointService = pointService;
+        this.userLockManager = userLockManager;
+        this.hotKeyDetector = hotKeyDetector;
+        this.properties = properties;
+        this.combinedSize = DistributionSummary.builder("point.hotkey.combined.size")
+            .description("전용 경로에서 한 번에 처리한 요청 수")
+            .register(meterRegistry);
+    }
+
+    public UserPoint submit(long userId, PointOperation operation) {
+        CombinedOperation combined = new CombinedOperation(operation);
+        Queue<CombinedOperation> queue = queues.computeIfAbsent(userId, id -> new ConcurrentLinkedQueue<>());
+        queue.add(combined);
+
+        PointOperationEvent event = new PointOperationEvent();
+        boolean recording = event.isEnabled();
+        if (recording) {
+            event.start();
+        }
+        userLockManager.withUserLock(userId, () -> {
+            if (recording) {
+                event.lockAcquired();
+            }
+            while (!combined.isDone()) {
+                drain(userId, queue);
+            }
+            return null;
+        });
+
+        if (!hotKeyDetector.isHot(userId)) {
+            queues.remove(userId, queue);
+        }
+        if (!recording) {
+            return combined.join();
+        }
+        String name = operation.type() == TransactionType.CHARGE ? "chargePoint" : "usePoint";
+        UserPoint result;
+        try {
+            result = combined.join();
+        } catch (RuntimeException e) {
+            event.finish(name, userId, operation.amount(), e);
+            throw e;
+        }
+        event.finish(name, userId, operation.amount(), null);
+        return result;
+    }
+
+    private void drain(long userId, Queue<CombinedOperation> queue) {
+        List<CombinedOperation> operations = new ArrayList<>();
+        CombinedOperation next;
+        while (operations.size() < properties.maxCombined() && (next = queue.poll()) != null) {
+            operations.add(next);
+        }
+        if (operations.isEmpty()) {
+            return;
+        }
+        try {
+            pointService.applyCombined(userId, operations);
+        } catch (RuntimeException e) {
+            operations.forEach(operation -> operation.fail(e));
+        }
+        combinedSize.record(operations.size());
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.hotkey;
+
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.stereotype.Component;
+
+/**
+ * 충전/사용 요청을 유저의 쓰기 빈도에 따라 일반 경로 또는 hot 유저 전용 경로로 보냄
+ *
+ * <p>두 경로 모두 같은 유저 락 안에서 잔액을 갱신하므로, 유저가 hot/일반 사이를 오가는 중에도 같은 유저의 쓰기는
+ * 순서대로 처리됩니다. 응답과 이벤트, 이력은 경로와 관계없이 같습니다.
+ */
+@Component
+public class PointWriteRouter {
+
+    private final PointService pointService;
+    private final HotKeyDetector hotKeyDetector;
+    private final HotUserLane hotUserLane;
+
+    public PointWriteRouter(PointService pointService, HotKeyDetector hotKeyDetector, HotUserLane hotUserLane) {
+        this.pointService = pointService;
+        this.hotKeyDetector = hotKeyDetector;
+        this.hotUserLane = hotUserLane;
+    }
+
+    public UserPoint chargePoint(long userId, long amount) {
+        if (hotKeyDetector.recordWrite(userId)) {
+            return hotUserLane.submit(userId, new PointOperation(TransactionType.CHARGE, amount));
+        }
+        return pointService.chargePoint(userId, amount);
+    }
+
+    public UserPoint usePoint(long userId, long amount) {
+        if (hotKeyDetector.recordWrite(userId)) {
+            return hotUserLane.submit(userId, new PointOperation(TransactionType.USE, amount));
+        }
+        return pointService.usePoint(userId, amount);
+    }
+}
@@ -0,0 +1,163 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.exception.InvalidOperationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 멱등 키별 쓰기 결과 보관소
+ *
+ * <p>(userId, 멱등 키)마다 결과를 담을 {@link CompletableFuture}를 먼저 등록한 요청만 실제 쓰기를 실행합니다.
+ * 같은 키의 다른 요청은 유저 락이나 저장소를 거치지 않고 그 결과를 받으며, 원래 요청이 아직 실행 중이면 끝날 때까지 기다립니다.
+ *
+ * <p>성공한 결과만 보관합니다. 실패하면 기다리던 요청에도 같은 예외를 전달하고 키와 큐의 항목을 지워,
+ * 이후의 재시도는 새로 실행됩니다(락 대기 시간 초과처럼 다시 시도하면 성공할 수 있는 실패가 있기 때문).
+ * {@code point.idempotency.replays}는 저장된 결과를 실제로 돌려준 요청만 셉니다.
+ *
+ * <p>결과는 {@code ttl} 동안 보관하고, 등록 순서대로 쌓인 큐의 앞에서부터 만료되었거나 {@code maxEntries}를 넘은 결과를 버립니다.
+ * 보관 기간이 모두 같으므로 등록 순서가 곧 만료 순서입니다.
+ */
+@Component
+public class IdempotencyCache {
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final IdempotencyProperties properties;
+    private final long ttlNanos;
+    private final Counter replays;
+
+    public IdempotencyCache(IdempotencyProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.ttlNanos = properties.ttl().toNanos();
+        this.replays = Counter.builder("point.idempotency.replays")
+            .description("멱등 키로 저장된 결과를 돌려준 요청 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 멱등 키가 없으면 쓰기를 그대로 실행하고, 있으면 같은 키로 처음 들어온 요청의 결과를 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param idempotencyKey 클라이언트가 보낸 멱등 키 (없으면 null)
+     * @param operation 요청한 연산. 같은 키를 다른 연산에 다시 쓰면 거부함
+     * @param write 실제 쓰기
+     * @throws InvalidOperationException 키가 비었거나 너무 길거나, 다른 연산에 이미 쓰인 키
+     */
+    public UserPoint execute(long userId, String idempotencyKey, PointOperation operation, Supplier<UserPoint> write) {
+        if (idempotencyKey == null || !properties.enabled()) {
+            return write.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > properties.maxKeyLength()) {
+            throw InvalidOperationException.invalidIdempotencyKey(properties.maxKeyLength());
+        }
+
+        Key key = new Key(userId, idempotencyKey);
+        Entry entry = new Entry(key, operation, System.nanoTime() + ttlNanos);
+        while (true) {
+            Entry existing = entries.putIfAbsent(key, entry);
+            if (existing == null) {
+                break;
+            }
+            if (!existing.isExpired(System.nanoTime())) {
+                return replay(existing, operation, idempotencyKey);
+            }
+            if (entries.replace(key, existing, entry)) {
+                break;
+            }
+        }
+        insertionOrder.add(entry);
+        evict();
+
+        try {
+            UserPoint result = write.get();
+            entry.result.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            entries.remove(key, entry);
+            insertionOrder.remove(entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * 보관 중인 결과 수 (실행 중인 요청 포함)
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private UserPoint replay(Entry existing, PointOperation operation, String idempotencyKey) {
+        if (!existing.operation.equals(operation)) {
+            throw InvalidOperationException.idempotencyKeyReused(idempotencyKey);
+        }
+        try {
+            UserPoint result = existing.result.join();
+            replays.increment();
+            return result;
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 큐 앞에서부터 만료된 결과와 최대 개수를 넘은 완료된 결과를 버립니다.
+     * 한 번에 한 스레드만 정리하고, 다른 스레드는 기다리지 않고 넘어갑니다.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = System.nanoTime();
+            Entry head;
+            while ((head = insertionOrder.peek()) != null) {
+                boolean overCapacity = entries.size() > properties.maxEntries() && head.result.isDone();
+                if (!head.isExpired(now) && !overCapacity) {
+                    break;
+                }
+                insertionOrder.poll();
+                entries.remove(head.key, head);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private record Key(long userId, String idempotencyKey) {
+    }
+
+    private static final class Entry {
+
+        private final Key key;
+        private final PointOperation operation;
+        private final long expiresAtNanos;
+        private final CompletableFuture<UserPoint> result = new CompletableFuture<>();
+
+        private Entry(Key key, PointOperation operation, long expiresAtNanos) {
+            this.key = key;
+            this.operation = operation;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 멱등 키(Idempotency-Key) 설정
+ *
+ * @param enabled 멱등 키 처리 여부. false이면 헤더를 무시하고 매번 실행함
+ * @param ttl 결과를 보관하는 기간. 이 기간이 지난 같은 키의 요청은 새 요청으로 처리됨
+ * @param maxEntries 보관할 최대 결과 수. 넘으면 오래된 결과부터 버림
+ * @param maxKeyLength 허용하는 키의 최대 길이
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record IdempotencyProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("24h") Duration ttl,
+    @DefaultValue("100000") int maxEntries,
+    @DefaultValue("255") int maxKeyLength
+) {
+}
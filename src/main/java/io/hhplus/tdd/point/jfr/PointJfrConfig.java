@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.jfr;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+
+/**
+ * JFR 이벤트 설정
+ *
+ * <p>포인트 연산 이벤트({@link PointOperationEvent})는 {@code UserLockInterceptor}가 기록하고,
+ * 테이블 호출 이벤트는 여기서 등록하는 Advisor가 기록합니다.
+ * 이벤트별 기록 여부와 임계값은 JFR 설정 파일({@code jfr/point.jfc})에서 정하고,
+ * {@code point.jfr.table-calls=false}이면 테이블에 프록시를 만들지 않습니다.
+ *
+ * <p>Advisor는 다른 빈보다 먼저 만들어지므로, 설정 클래스를 인스턴스화하지 않도록 정적 팩터리 메서드로 등록합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class PointJfrConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(prefix = "point.jfr", name = "table-calls", havingValue = "true", matchIfMissing = true)
+    public static TableCallAdvisor tableCallAdvisor() {
+        return new TableCallAdvisor();
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+import jdk.jfr.Timespan;
+
+/**
+ * 유저 락 아래에서 실행된 포인트 연산 한 건 (JFR 이벤트)
+ *
+ * <p>이벤트 구간은 락 대기부터 해제까지이며, 락 대기와 보유 시간을 따로 기록합니다.
+ * 기록 여부와 임계값은 JFR 설정({@code jfr/point.jfc})으로 조정하고, 기록 중이 아니면 {@link #isEnabled()} 확인만 합니다.
+ */
+@Name(PointOperationEvent.NAME)
+@Label("Point Operation")
+@Category({"HHPlus", "Point"})
+@Description("@UserLock 메서드 호출과 락 대기/보유 시간")
+@StackTrace(false)
+@Threshold("0 ms")
+public final class PointOperationEvent extends Event {
+
+    public static final String NAME = "io.hhplus.tdd.point.Operation";
+
+    @Label("Operation")
+    String operation;
+
+    @Label("User Id")
+    long userId;
+
+    @Label("Amount")
+    long amount;
+
+    @Label("Lock Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    long lockWait;
+
+    @Label("Lock Hold")
+    @Timespan(Timespan.NANOSECONDS)
+    long lockHold;
+
+    @Label("Outcome")
+    @Description("SUCCESS 또는 예외 클래스 이름")
+    String outcome;
+
+    private transient long startNanos;
+    private transient long acquiredNanos;
+
+    /**
+     * 락 대기를 시작하기 직전에 호출합니다.
+     */
+    public void start() {
+        startNanos = System.nanoTime();
+        begin();
+    }
+
+    /**
+     * 필요한 락을 모두 획득한 직후에 호출합니다.
+     */
+    public void lockAcquired() {
+        acquiredNanos = System.nanoTime();
+    }
+
+    /**
+     * 락을 해제한 뒤 호출합니다. 임계값을 넘은 경우에만 기록됩니다.
+     *
+     * @param failure 연산이 던진 예외. 성공이면 null
+     */
+    public void finish(String operation, long userId, long amount, Throwable failure) {
+        long now = System.nanoTime();
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.operation = operation;
+        this.userId = userId;
+        this.amount = amount;
+        if (acquiredNanos == 0) {
+            this.lockWait = now - startNanos;
+        } else {
+            this.lockWait = acquiredNanos - startNanos;
+            this.lockHold = now - acquiredNanos;
+        }
+        this.outcome = failure == null ? "SUCCESS" : failure.getClass().getSimpleName();
+        commit();
+    }
+}
@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.jfr;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AbstractPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 포인트 테이블의 공개 메서드에 {@link TableCallInterceptor}를 적용하는 Advisor
+ *
+ * <p>테이블 클래스는 변경할 수 없으므로 프록시로 감싸서 호출 시간을 기록합니다.
+ */
+public class TableCallAdvisor extends AbstractPointcutAdvisor {
+
+    private final TableCallInterceptor interceptor = new TableCallInterceptor();
+    private final Pointcut pointcut = new StaticMethodMatcherPointcut() {
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            return (targetClass == UserPointTable.class || targetClass == PointHistoryTable.class)
+                && method.getDeclaringClass() == targetClass
+                && Modifier.isPublic(method.getModifiers());
+        }
+    };
+
+    @Override
+    public Pointcut getPointcut() {
+        return pointcut;
+    }
+
+    @Override
+    public Advice getAdvice() {
+        return interceptor;
+    }
+}
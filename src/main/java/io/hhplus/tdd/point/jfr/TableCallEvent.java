@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * {@code UserPointTable}/{@code PointHistoryTable} 호출 한 건 (JFR 이벤트)
+ */
+@Name(TableCallEvent.NAME)
+@Label("Point Table Call")
+@Category({"HHPlus", "Point"})
+@Description("포인트 테이블 공개 API 호출 시간")
+@StackTrace(false)
+@Threshold("0 ms")
+public final class TableCallEvent extends Event {
+
+    public static final String NAME = "io.hhplus.tdd.point.TableCall";
+
+    @Label("Table")
+    String table;
+
+    @Label("Method")
+    String method;
+
+    @Label("User Id")
+    @Description("첫 번째 인자가 userId인 호출만 기록, 그 외에는 0")
+    long userId;
+}
@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * 테이블 호출마다 {@link TableCallEvent}를 기록하는 인터셉터
+ *
+ * <p>JFR 기록 중이 아니면 이벤트 활성 여부만 확인하고 바로 호출합니다.
+ */
+public class TableCallInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        TableCallEvent event = new TableCallEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        try {
+            return invocation.proceed();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                Object[] args = invocation.getArguments();
+                event.table = invocation.getMethod().getDeclaringClass().getSimpleName();
+                event.method = invocation.getMethod().getName();
+                event.userId = args.length > 0 && args[0] instanceof Long userId ? userId : 0;
+                event.commit();
+            }
+        }
+    }
+}
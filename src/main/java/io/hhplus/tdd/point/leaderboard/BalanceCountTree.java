@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.leaderboard;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 잔액별 유저 수를 담는 펜윅 트리 (Binary Indexed Tree)
+ *
+ * <p>스킵 리스트는 순회는 빠르지만 "내 앞에 몇 명이 있는지"는 앞쪽을 모두 세야 알 수 있습니다.
+ * 잔액 범위가 {@code 0..maxBalance}로 작으므로, 잔액별 인원을 펜윅 트리로 유지하여 특정 잔액보다 많은 유저 수를
+ * O(log maxBalance)에 구합니다. 갱신은 원자적 덧셈이라 서로 다른 유저의 동시 갱신이 유실되지 않으며,
+ * 조회는 갱신과 동시에 실행될 수 있습니다(약한 일관성).
+ */
+final class BalanceCountTree {
+
+    private final AtomicIntegerArray tree;
+    private final long maxBalance;
+
+    BalanceCountTree(long maxBalance) {
+        this.maxBalance = maxBalance;
+        this.tree = new AtomicIntegerArray(Math.toIntExact(maxBalance + 2));
+    }
+
+    void add(long balance, int delta) {
+        for (int i = index(balance) + 1; i < tree.length(); i += i & -i) {
+            tree.addAndGet(i, delta);
+        }
+    }
+
+    /**
+     * 잔액이 {@code balance}보다 많은 유저 수
+     */
+    long countAbove(long balance) {
+        return prefix(maxBalance) - prefix(balance);
+    }
+
+    /**
+     * 잔액이 {@code balance} 이하인 유저 수
+     */
+    private long prefix(long balance) {
+        long sum = 0;
+        for (int i = index(balance) + 1; i > 0; i -= i & -i) {
+            sum += tree.get(i);
+        }
+        return sum;
+    }
+
+    private int index(long balance) {
+        return (int) Math.max(0, Math.min(balance, maxBalance));
+    }
+}
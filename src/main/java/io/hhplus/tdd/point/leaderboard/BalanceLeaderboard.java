@@ -0,0 +1,149 @@
+package io.hhplus.tdd.point.leaderboard;
+
+import io.hhplus.tdd.point.event.PointChangedEvent;
+import io.hhplus.tdd.point.validator.PointValidator;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잔액 리더보드
+ *
+ * <p>(잔액 내림차순, userId 오름차순)으로 정렬된 스킵 리스트와 잔액별 인원 펜윅 트리를 {@link PointChangedEvent}로
+ * 증분 갱신합니다. 상위 N명 조회는 스킵 리스트 앞쪽 N개만, 순위 조회는 트리만 읽으므로 전체 유저를 훑지 않습니다.
+ *
+ * <p>이벤트는 유저 락 안에서 발행되므로 같은 유저의 갱신은 항상 순서대로 한 번에 하나씩 실행됩니다.
+ * 갱신은 새 항목 추가 → 현재 잔액 교체 → 이전 항목 제거 순서입니다. 잠깐 두 항목이 함께 보일 수 있으므로,
+ * 조회는 현재 잔액과 다른 항목과 이미 나온 유저를 건너뜁니다.
+ *
+ * <p>스킵 리스트 순회는 약한 일관성만 보장하므로, 잔액이 오른 유저의 새 항목이 순회 위치보다 앞에 추가되고
+ * 이전 항목이 순회가 닿기 전에 제거되면 그 유저를 놓칠 수 있습니다. 잔액 상승은 이전 항목을 제거한 뒤 {@code rises}를
+ * 늘리므로, 조회는 순회 전후로 값이 같을 때만 결과를 씁니다. 몇 번 다시 시도해도 상승이 겹치면 잔액 맵 전체에서
+ * 크기 {@code limit}의 힙으로 상위 목록을 만듭니다.
+ * 순위는 경쟁 순위(1, 2, 2, 4)로, 나보다 잔액이 많은 유저 수 + 1입니다.
+ */
+@Component
+public class BalanceLeaderboard {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::balance).reversed()
+        .thenComparingLong(Entry::userId);
+    private static final int MAX_TOP_ATTEMPTS = 3;
+
+    private final ConcurrentSkipListSet<Entry> index = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, Long> balances = new ConcurrentHashMap<>();
+    private final AtomicLong rises = new AtomicLong();
+    private final BalanceCountTree counts;
+
+    public BalanceLeaderboard(PointValidator pointValidator) {
+        this.counts = new BalanceCountTree(pointValidator.getMaxBalance());
+    }
+
+    @EventListener
+    public void onPointChanged(PointChangedEvent event) {
+        update(event.userId(), event.userPoint().point());
+    }
+
+    /**
+     * 유저 잔액을 반영합니다. 같은 유저에 대한 호출은 동시에 실행되지 않아야 합니다. (유저 락 보유 또는 시작 시 복원)
+     */
+    public void update(long userId, long balance) {
+        Long previous = balances.get(userId);
+        if (previous != null && previous == balance) {
+            return;
+        }
+        index.add(new Entry(userId, balance));
+        counts.add(balance, 1);
+        balances.put(userId, balance);
+        if (previous != null) {
+            index.remove(new Entry(userId, previous));
+            counts.add(previous, -1);
+            if (balance > previous) {
+                rises.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 잔액 상위 {@code limit}명
+     */
+    public List<RankedBalance> top(int limit) {
+        for (int attempt = 0; attempt < MAX_TOP_ATTEMPTS; attempt++) {
+            long risesBefore = rises.get();
+            List<RankedBalance> result = scanTop(limit);
+            if (rises.get() == risesBefore) {
+                return result;
+            }
+        }
+        return heapTop(limit);
+    }
+
+    private List<RankedBalance> scanTop(int limit) {
+        List<RankedBalance> result = new ArrayList<>(limit);
+        Set<Long> seen = new HashSet<>();
+        long rank = 0;
+        long previousBalance = -1;
+        for (Entry entry : index) {
+            if (result.size() == limit) {
+                break;
+            }
+            Long current = balances.get(entry.userId());
+            if (current == null || current != entry.balance() || !seen.add(entry.userId())) {
+                continue;
+            }
+            if (entry.balance() != previousBalance) {
+                rank = result.size() + 1;
+                previousBalance = entry.balance();
+            }
+            result.add(new RankedBalance(rank, entry.userId(), entry.balance()));
+        }
+        return result;
+    }
+
+    private List<RankedBalance> heapTop(int limit) {
+        PriorityQueue<Entry> heap = new PriorityQueue<>(limit + 1, ORDER.reversed());
+        balances.forEach((userId, balance) -> {
+            heap.add(new Entry(userId, balance));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+        List<Entry> entries = new ArrayList<>(heap);
+        entries.sort(ORDER);
+        List<RankedBalance> result = new ArrayList<>(entries.size());
+        long rank = 0;
+        long previousBalance = -1;
+        for (Entry entry : entries) {
+            if (entry.balance() != previousBalance) {
+                rank = result.size() + 1;
+                previousBalance = entry.balance();
+            }
+            result.add(new RankedBalance(rank, entry.userId(), entry.balance()));
+        }
+        return result;
+    }
+
+    /**
+     * 유저의 순위. 포인트 변경 이력이 없는 유저는 잔액 0으로 계산합니다.
+     */
+    public RankedBalance rank(long userId) {
+        long balance = balances.getOrDefault(userId, 0L);
+        return new RankedBalance(counts.countAbove(balance) + 1, userId, balance);
+    }
+
+    public int size() {
+        return balances.size();
+    }
+
+    private record Entry(long userId, long balance) {
+    }
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.leaderboard;
+
+import io.hhplus.tdd.point.dto.RankedBalanceResponse;
+import io.hhplus.tdd.point.exception.InvalidOperationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/point/leaderboard")
+public class LeaderboardController {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardController.class);
+    private static final int MAX_LIMIT = 1000;
+
+    private final BalanceLeaderboard balanceLeaderboard;
+
+    public LeaderboardController(BalanceLeaderboard balanceLeaderboard) {
+        this.balanceLeaderboard = balanceLeaderboard;
+    }
+
+    /**
+     * 잔액 상위 유저를 조회합니다.
+     */
+    @GetMapping
+    public List<RankedBalanceResponse> top(@RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw InvalidOperationException.invalidLeaderboardLimit(limit, MAX_LIMIT);
+        }
+        log.info("Getting top {} balances", limit);
+        return balanceLeaderboard.top(limit).stream()
+            .map(RankedBalanceResponse::from)
+            .toList();
+    }
+
+    /**
+     * 유저의 잔액 순위를 조회합니다.
+     */
+    @GetMapping("{id}")
+    public RankedBalanceResponse rank(@PathVariable long id) {
+        log.info("Getting balance rank for user: {}", id);
+        return RankedBalanceResponse.from(balanceLeaderboard.rank(id));
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.leaderboard;
+
+/**
+ * 리더보드 순위
+ *
+ * @param rank 순위 (잔액이 같으면 같은 순위, 1부터 시작)
+ * @param userId 사용자 ID
+ * @param point 잔액
+ */
+public record RankedBalance(
+    long rank,
+    long userId,
+    long point
+) {
+}
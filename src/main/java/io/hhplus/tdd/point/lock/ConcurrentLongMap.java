@@ -0,0 +1,147 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongFunction;
+
+/**
+ * long 키를 박싱 없이 사용하는 동시성 맵 (추가 전용)
+ *
+ * <p>선형 탐사(open addressing) 배열에 키를 그대로 저장하므로, 조회 시 {@code Long} 객체를 만들지 않습니다.
+ * 조회는 {@link StampedLock}의 낙관적 읽기로 락 없이 수행하고, 그 사이 쓰기가 있었던 경우에만 읽기 락으로 다시 조회합니다.
+ * 쓰기(추가, 재해시)는 쓰기 락으로 직렬화됩니다.
+ *
+ * <p>유저 락처럼 한 번 만들면 제거하지 않는 값을 위한 맵이므로 삭제는 지원하지 않습니다.
+ *
+ * @param <V> 값 타입
+ */
+public final class ConcurrentLongMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile Table table;
+    private int size;
+
+    public ConcurrentLongMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public ConcurrentLongMap(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(initialCapacity, 2) * 2 - 1);
+        this.table = new Table(capacity);
+    }
+
+    /**
+     * 키에 해당하는 값을 반환합니다. 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        long stamp = lock.tryOptimisticRead();
+        Object value = table.find(key);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                value = table.find(key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return (V) value;
+    }
+
+    /**
+     * 키에 해당하는 값을 반환하고, 없으면 {@code factory}로 만들어 추가합니다.
+     * 같은 키에 대해 동시에 호출되어도 값은 한 번만 만들어집니다.
+     */
+    @SuppressWarnings("unchecked")
+    public V computeIfAbsent(long key, LongFunction<? extends V> factory) {
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        long stamp = lock.writeLock();
+        try {
+            Object value = table.find(key);
+            if (value == null) {
+                value = factory.apply(key);
+                if ((size + 1) * 2 > table.capacity()) {
+                    table = table.resize();
+                }
+                table.insert(key, value);
+                size++;
+            }
+            return (V) value;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 키 배열과 값 배열을 한 객체로 묶어, 낙관적 읽기 중 재해시가 일어나도 서로 다른 세대의 배열을 섞어 읽지 않게 합니다.
+     * 값이 null인 슬롯이 빈 슬롯이며, 쓰기는 키를 먼저 쓰고 값을 나중에 씁니다.
+     */
+    private static final class Table {
+
+        private final long[] keys;
+        private final Object[] values;
+        private final int mask;
+
+        Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new Object[capacity];
+            this.mask = capacity - 1;
+        }
+
+        int capacity() {
+            return keys.length;
+        }
+
+        Object find(long key) {
+            int index = indexOf(key);
+            for (int probe = 0; probe <= mask; probe++) {
+                Object value = values[index];
+                if (value == null) {
+                    return null;
+                }
+                if (keys[index] == key) {
+                    return value;
+                }
+                index = (index + 1) & mask;
+            }
+            return null;
+        }
+
+        void insert(long key, Object value) {
+            int index = indexOf(key);
+            while (values[index] != null) {
+                index = (index + 1) & mask;
+            }
+            keys[index] = key;
+            values[index] = value;
+        }
+
+        Table resize() {
+            Table resized = new Table(keys.length * 2);
+            for (int i = 0; i < keys.length; i++) {
+                if (values[i] != null) {
+                    resized.insert(keys[i], values[i]);
+                }
+            }
+            return resized;
+        }
+
+        private int indexOf(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & mask;
+        }
+    }
+}
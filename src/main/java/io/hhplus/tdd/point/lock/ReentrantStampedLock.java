@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * {@link StampedLock} 쓰기 락에 재진입을 더한 락
+ *
+ * <p>{@link StampedLock#asWriteLock()}은 재진입하지 않으므로, 락을 보유한 스레드가 같은 유저의 락을 다시 잡으면
+ * 자기 자신을 기다리며 멈춥니다. 보유 스레드와 보유 횟수를 기록해 두고, 보유 스레드의 중첩 획득은 횟수만 늘립니다.
+ * 실제 쓰기 락은 가장 바깥의 획득에서 잡고 마지막 해제에서 풉니다.
+ *
+ * <p>{@code owner}와 {@code holds}는 락을 보유한 스레드만 바꿉니다. 다른 스레드가 오래된 {@code owner}를 읽더라도
+ * 자기 자신과 같을 수는 없으므로 별도의 동기화 없이 보유 여부를 판단할 수 있습니다. 조건 변수는 지원하지 않습니다.
+ */
+public class ReentrantStampedLock implements Lock {
+
+    private final StampedLock delegate = new StampedLock();
+    private Thread owner;
+    private int holds;
+    private long stamp;
+
+    @Override
+    public void lock() {
+        if (!reenter()) {
+            acquired(delegate.writeLock());
+        }
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        if (!reenter()) {
+            acquired(delegate.writeLockInterruptibly());
+        }
+    }
+
+    @Override
+    public boolean tryLock() {
+        return reenter() || acquired(delegate.tryWriteLock());
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        return reenter() || acquired(delegate.tryWriteLock(time, unit));
+    }
+
+    @Override
+    public void unlock() {
+        if (owner != Thread.currentThread()) {
+            throw new IllegalMonitorStateException("Current thread does not hold the lock");
+        }
+        if (--holds == 0) {
+            owner = null;
+            delegate.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public Condition newCondition() {
+        throw new UnsupportedOperationException();
+    }
+
+    private boolean reenter() {
+        if (owner != Thread.currentThread()) {
+            return false;
+        }
+        if (holds == Integer.MAX_VALUE) {
+            throw new Error("Maximum lock count exceeded");
+        }
+        holds++;
+        return true;
+    }
+
+    private boolean acquired(long stamp) {
+        if (stamp == 0L) {
+            return false;
+        }
+        this.stamp = stamp;
+        this.owner = Thread.currentThread();
+        this.holds = 1;
+        return true;
+    }
+}
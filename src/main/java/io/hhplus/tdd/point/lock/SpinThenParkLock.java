@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 잠시 회전하며 재시도한 뒤 대기하는 재진입 락
+ *
+ * <p>임계 구역이 짧으면 락이 곧 풀리므로, 바로 park하는 것보다 몇 번 회전하며 기다리는 편이 빠릅니다.
+ * 회전 횟수는 락마다 적응적으로 조절합니다. 회전 중 획득에 성공하면 다음 회전 한도를 두 배로 늘리고,
+ * 실패하면 절반으로 줄입니다. (최대 {@code maxSpins})
+ * 회전으로 얻지 못하면 내부 {@link ReentrantLock}에서 대기하므로 재진입과 조건 변수는 그대로 지원합니다.
+ *
+ * <p>CPU가 하나뿐이면 회전해도 락 보유 스레드가 실행될 수 없으므로 회전하지 않습니다.
+ */
+public class SpinThenParkLock implements Lock {
+
+    private static final int MIN_SPINS = 8;
+    private static final boolean MULTI_CORE = Runtime.getRuntime().availableProcessors() > 1;
+
+    private final ReentrantLock delegate = new ReentrantLock();
+    private final int maxSpins;
+    private final int minSpins;
+    private volatile int spinLimit;
+
+    public SpinThenParkLock(int maxSpins) {
+        this.maxSpins = MULTI_CORE ? Math.max(maxSpins, 0) : 0;
+        this.minSpins = Math.min(MIN_SPINS, this.maxSpins);
+        this.spinLimit = this.maxSpins;
+    }
+
+    @Override
+    public void lock() {
+        if (!spin()) {
+            delegate.lock();
+        }
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        if (!spin()) {
+            delegate.lockInterruptibly();
+        }
+    }
+
+    @Override
+    public boolean tryLock() {
+        return delegate.tryLock();
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        return spin() || delegate.tryLock(time, unit);
+    }
+
+    @Override
+    public void unlock() {
+        delegate.unlock();
+    }
+
+    @Override
+    public Condition newCondition() {
+        return delegate.newCondition();
+    }
+
+    /**
+     * 회전하며 락 획득을 시도하고, 결과에 따라 다음 회전 한도를 조절합니다.
+     * 한도 갱신은 경쟁 조건이 있어도 추정치일 뿐이므로 동기화하지 않습니다.
+     */
+    private boolean spin() {
+        if (delegate.tryLock()) {
+            return true;
+        }
+        int limit = spinLimit;
+        for (int i = 0; i < limit; i++) {
+            Thread.onSpinWait();
+            if (!delegate.isLocked() && delegate.tryLock()) {
+                spinLimit = Math.min(maxSpins, Math.max(limit, 1) * 2);
+                return true;
+            }
+        }
+        spinLimit = Math.max(minSpins, limit / 2);
+        return false;
+    }
+}
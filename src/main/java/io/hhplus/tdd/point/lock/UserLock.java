@@ -21,9 +21,35 @@ import java.lang.annotation.Target;
  * }
  * </pre>
  *
- * @see UserLockAspect
+ * <p>여러 사용자의 락이 필요한 경우 userId 파라미터의 위치를 모두 지정합니다.
+ * 락은 userId 오름차순(전역 순서)으로 획득하므로, A→B와 B→A 요청이 동시에 들어와도 데드락이 발생하지 않습니다.
+ * <pre>
+ * {@code
+ * @UserLock(userIdParams = {0, 1}, timeout = "${point.lock.transfer-timeout:10s}")
+ * public PointTransferResult transferPoint(long fromUserId, long toUserId, long amount) { ... }
+ * }
+ * </pre>
+ *
+ * @see UserLockInterceptor
+ * @see UserLockManager#withUserLock(long, java.util.function.Supplier)
  */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface UserLock {
+
+    /**
+     * userId로 사용할 파라미터의 위치 (기본: 첫 번째 파라미터)
+     */
+    int[] userIdParams() default {0};
+
+    /**
+     * 락 획득 대기 시간(ms). 음수이면 획득할 때까지 대기합니다.
+     */
+    long timeoutMillis() default -1;
+
+    /**
+     * 락 획득 대기 시간. {@code 10s}, {@code 500ms} 같은 기간 문자열이며 {@code ${...}} 설정값을 쓸 수 있습니다.
+     * 지정하면 {@link #timeoutMillis()}보다 우선합니다.
+     */
+    String timeout() default "";
 }
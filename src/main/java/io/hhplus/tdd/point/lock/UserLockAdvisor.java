@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point.lock;
+
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AbstractPointcutAdvisor;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link UserLock} 메서드에 {@link UserLockInterceptor}를 적용하는 Advisor
+ *
+ * <p>프록시를 만들 때 포인트컷이 메서드마다 한 번 평가되므로, 이때 인터셉터가 userId 위치를 미리 해석합니다.
+ * 파라미터 설정이 잘못된 메서드는 첫 호출이 아니라 애플리케이션 시작 시점에 실패합니다.
+ */
+public class UserLockAdvisor extends AbstractPointcutAdvisor {
+
+    private final UserLockInterceptor interceptor;
+    private final Pointcut pointcut;
+
+    public UserLockAdvisor(UserLockInterceptor interceptor) {
+        this.interceptor = interceptor;
+        this.pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                Method specificMethod = AopUtils.getMostSpecificMethod(method, targetClass);
+                if (!AnnotatedElementUtils.hasAnnotation(specificMethod, UserLock.class)) {
+                    return false;
+                }
+                interceptor.prepare(method, specificMethod);
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public Pointcut getPointcut() {
+        return pointcut;
+    }
+
+    @Override
+    public Advice getAdvice() {
+        return interceptor;
+    }
+}
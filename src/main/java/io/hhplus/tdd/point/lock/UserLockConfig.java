@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point.lock;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.env.Environment;
+
+/**
+ * 사용자 락 설정
+ *
+ * <p>Advisor는 다른 빈보다 먼저 만들어지므로, 함께 쓰는 빈도 인프라 빈으로 등록합니다.
+ * 락 전략은 {@link UserLockStrategy} 빈이 있으면 그것을, 없으면 {@code point.lock.strategy} 설정을 사용합니다.
+ * {@link UserLock#timeout()}의 {@code ${...}} 설정값은 {@link Environment}로 해석합니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class UserLockConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public UserLockManager userLockManager(ObjectProvider<UserLockStrategy> userLockStrategy,
+                                           UserLockProperties properties) {
+        return new UserLockManager(userLockStrategy.getIfAvailable(() -> UserLockStrategy.of(properties)));
+    }
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public UserLockAdvisor userLockAdvisor(UserLockManager userLockManager, Environment environment) {
+        return new UserLockAdvisor(new UserLockInterceptor(userLockManager, environment::resolveRequiredPlaceholders));
+    }
+}
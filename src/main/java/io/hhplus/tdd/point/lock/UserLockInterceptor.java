@@ -0,0 +1,224 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.jfr.PointOperationEvent;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.util.StringValueResolver;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * {@link UserLock} 메서드에 사용자별 락을 적용하는 인터셉터
+ *
+ * <p>userId 파라미터 위치와 대기 시간은 프록시를 만들 때 메서드마다 한 번 해석해 둡니다({@link #prepare}).
+ * 호출 시에는 프록시가 이미 만든 인자 배열을 복사하지 않고 읽고, 락 조회도 박싱 없이 하므로
+ * 인터셉터 자체는 호출마다 객체를 할당하지 않습니다. (userId가 세 개 이상인 경우 제외)
+ *
+ * <p>여러 userId가 필요한 경우 중복을 제거하고 오름차순으로 획득하여 데드락을 방지합니다.
+ *
+ * <p>JFR 기록 중이면 호출마다 {@link PointOperationEvent}로 락 대기/보유 시간과 결과를 남깁니다.
+ * 기록 중이 아니면 이벤트 객체는 메서드 밖으로 나가지 않으므로 JIT가 할당을 제거할 수 있습니다.
+ */
+public class UserLockInterceptor implements MethodInterceptor {
+
+    private final UserLockManager userLockManager;
+    private final StringValueResolver valueResolver;
+    private final Map<Method, LockPlan> plans = new ConcurrentHashMap<>();
+
+    public UserLockInterceptor(UserLockManager userLockManager) {
+        this(userLockManager, value -> value);
+    }
+
+    /**
+     * @param valueResolver {@link UserLock#timeout()}의 설정값({@code ${...}})을 해석하는 리졸버
+     */
+    public UserLockInterceptor(UserLockManager userLockManager, StringValueResolver valueResolver) {
+        this.userLockManager = userLockManager;
+        this.valueResolver = valueResolver;
+    }
+
+    /**
+     * 메서드의 락 설정을 해석하여 저장합니다.
+     *
+     * @param method 호출 시 전달될 메서드
+     * @param annotated {@link UserLock}이 선언된 메서드 (구현 클래스의 메서드)
+     */
+    void prepare(Method method, Method annotated) {
+        LockPlan plan = plans.computeIfAbsent(annotated, this::planOf);
+        plans.putIfAbsent(method, plan);
+    }
+
+    private LockPlan planOf(Method method) {
+        return LockPlan.of(method, valueResolver);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        LockPlan plan = plans.get(invocation.getMethod());
+        if (plan == null) {
+            plan = plans.computeIfAbsent(invocation.getMethod(), this::planOf);
+        }
+        Object[] args = invocation.getArguments();
+
+        PointOperationEvent event = new PointOperationEvent();
+        if (!event.isEnabled()) {
+            return proceedLocked(invocation, args, plan, null);
+        }
+        event.start();
+        Object result;
+        try {
+            result = proceedLocked(invocation, args, plan, event);
+        } catch (Throwable e) {
+            event.finish(invocation.getMethod().getName(), plan.recordedUserId(args), plan.amount(args), e);
+            throw e;
+        }
+        event.finish(invocation.getMethod().getName(), plan.recordedUserId(args), plan.amount(args), null);
+        return result;
+    }
+
+    private Object proceedLocked(MethodInvocation invocation, Object[] args, LockPlan plan, PointOperationEvent event)
+        throws Throwable {
+        int[] positions = plan.positions();
+        if (positions.length == 1) {
+            return proceedLocked(invocation, userId(args, positions[0]), plan.timeoutMillis(), event);
+        }
+        if (positions.length == 2) {
+            long first = userId(args, positions[0]);
+            long second = userId(args, positions[1]);
+            if (first == second) {
+                return proceedLocked(invocation, first, plan.timeoutMillis(), event);
+            }
+            return proceedLocked(invocation, Math.min(first, second), Math.max(first, second), plan.timeoutMillis(),
+                event);
+        }
+        return proceedLocked(invocation, sortedUserIds(args, positions), plan.timeoutMillis(), event);
+    }
+
+    private Object proceedLocked(MethodInvocation invocation, long userId, long timeoutMillis,
+                                 PointOperationEvent event) throws Throwable {
+        Lock lock = userLockManager.acquire(userId, timeoutMillis);
+        try {
+            return proceed(invocation, event);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Object proceedLocked(MethodInvocation invocation, long lowerUserId, long higherUserId, long timeoutMillis,
+                                 PointOperationEvent event) throws Throwable {
+        Lock lower = userLockManager.acquire(lowerUserId, timeoutMillis);
+        try {
+            return proceedLocked(invocation, higherUserId, timeoutMillis, event);
+        } finally {
+            lower.unlock();
+        }
+    }
+
+    private Object proceedLocked(MethodInvocation invocation, long[] userIds, long timeoutMillis,
+                                 PointOperationEvent event) throws Throwable {
+        Lock[] acquired = new Lock[userIds.length];
+        try {
+            for (int i = 0; i < userIds.length; i++) {
+                acquired[i] = userLockManager.acquire(userIds[i], timeoutMillis);
+            }
+            return proceed(invocation, event);
+        } finally {
+            for (int i = acquired.length - 1; i >= 0; i--) {
+                if (acquired[i] != null) {
+                    acquired[i].unlock();
+                }
+            }
+        }
+    }
+
+    private static Object proceed(MethodInvocation invocation, PointOperationEvent event) throws Throwable {
+        if (event != null) {
+            event.lockAcquired();
+        }
+        return invocation.proceed();
+    }
+
+    private static long[] sortedUserIds(Object[] args, int[] positions) {
+        long[] userIds = new long[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            userIds[i] = userId(args, positions[i]);
+        }
+        return Arrays.stream(userIds).distinct().sorted().toArray();
+    }
+
+    private static long userId(Object[] args, int position) {
+        if (args[position] instanceof Long userId) {
+            return userId;
+        }
+        throw new IllegalStateException("@UserLock requires a non-null userId at parameter " + position);
+    }
+
+    /**
+     * 메서드별 락 설정
+     *
+     * @param positions userId 파라미터 위치 (중복 제거)
+     * @param timeoutMillis 락 획득 대기 시간(ms). 음수이면 획득할 때까지 대기
+     * @param amountPosition JFR 이벤트에 기록할 {@code amount} 파라미터 위치. 없으면 -1
+     */
+    record LockPlan(int[] positions, long timeoutMillis, int amountPosition) {
+
+        /**
+         * JFR 이벤트에 기록할 첫 번째 userId. 호출 실패를 기록할 때도 쓰이므로 예외를 던지지 않습니다.
+         */
+        long recordedUserId(Object[] args) {
+            return args[positions[0]] instanceof Long userId ? userId : 0;
+        }
+
+        long amount(Object[] args) {
+            return amountPosition >= 0 && args[amountPosition] instanceof Long amount ? amount : 0;
+        }
+
+        static LockPlan of(Method method, StringValueResolver valueResolver) {
+            UserLock userLock = AnnotatedElementUtils.findMergedAnnotation(method, UserLock.class);
+            if (userLock == null) {
+                throw new IllegalStateException("@UserLock is not declared on " + method);
+            }
+            int[] positions = Arrays.stream(userLock.userIdParams()).distinct().toArray();
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int position : positions) {
+                if (position < 0 || position >= parameterTypes.length
+                    || (parameterTypes[position] != long.class && parameterTypes[position] != Long.class)) {
+                    throw new IllegalStateException(
+                        "@UserLock annotation requires parameter " + position + " to be Long userId: " + method
+                    );
+                }
+            }
+            return new LockPlan(positions, timeoutMillis(userLock, valueResolver, method), amountPosition(method));
+        }
+
+        private static long timeoutMillis(UserLock userLock, StringValueResolver valueResolver, Method method) {
+            if (userLock.timeout().isEmpty()) {
+                return userLock.timeoutMillis();
+            }
+            String timeout = valueResolver.resolveStringValue(userLock.timeout());
+            try {
+                return DurationStyle.detectAndParse(timeout).toMillis();
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("@UserLock has an invalid timeout '" + timeout + "': " + method, e);
+            }
+        }
+
+        private static int amountPosition(Method method) {
+            Parameter[] parameters = method.getParameters();
+            for (int i = 0; i < parameters.length; i++) {
+                Class<?> type = parameters[i].getType();
+                if ("amount".equals(parameters[i].getName()) && (type == long.class || type == Long.class)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.exception.UserLockTimeoutException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 락 관리자
+ *
+ * <p>{@link UserLock} 인터셉터와 프록시 밖의 호출자가 같은 락 테이블을 공유합니다.
+ * 락은 userId를 박싱하지 않는 {@link ConcurrentLongMap}에 보관하므로, 락 조회에 객체 할당이 없습니다.
+ *
+ * <p>사용 예시:
+ * <pre>
+ * {@code
+ * UserPoint point = userLockManager.withUserLock(userId, () -> userPointTable.selectById(userId));
+ * }
+ * </pre>
+ *
+ * <p>락 구현은 {@link UserLockStrategy}로 정하며 기본은 비공정 ReentrantLock입니다.
+ * 모든 전략이 {@code synchronized} 대신 {@code java.util.concurrent} 락을 사용하므로, 가상 스레드가 락을 기다리는 동안
+ * 캐리어 스레드를 고정(pinning)하지 않고 반환합니다.
+ */
+public class UserLockManager {
+
+    private final ConcurrentLongMap<Lock> userLocks = new ConcurrentLongMap<>();
+    private final LongFunction<Lock> lockFactory;
+
+    public UserLockManager() {
+        this(ReentrantLock::new);
+    }
+
+    public UserLockManager(UserLockStrategy strategy) {
+        this.lockFactory = userId -> strategy.newLock();
+    }
+
+    /**
+     * 사용자 락을 획득할 때까지 기다린 뒤 작업을 실행합니다.
+     */
+    public <T> T withUserLock(long userId, Supplier<T> action) {
+        return withUserLock(userId, -1, action);
+    }
+
+    /**
+     * 사용자 락을 획득한 뒤 작업을 실행합니다.
+     *
+     * @param timeoutMillis 락 획득 대기 시간(ms). 음수이면 획득할 때까지 대기
+     * @throws UserLockTimeoutException 제한 시간 안에 락을 획득하지 못한 경우
+     */
+    public <T> T withUserLock(long userId, long timeoutMillis, Supplier<T> action) {
+        Lock lock = acquire(userId, timeoutMillis);
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 두 사용자의 락을 userId 오름차순으로 획득한 뒤 작업을 실행합니다. 같은 userId이면 한 번만 획득합니다.
+     *
+     * @throws UserLockTimeoutException 제한 시간 안에 락을 획득하지 못한 경우
+     */
+    public <T> T withUserLocks(long firstUserId, long secondUserId, long timeoutMillis, Supplier<T> action) {
+        if (firstUserId == secondUserId) {
+            return withUserLock(firstUserId, timeoutMillis, action);
+        }
+        Lock lower = acquire(Math.min(firstUserId, secondUserId), timeoutMillis);
+        try {
+            Lock higher = acquire(Math.max(firstUserId, secondUserId), timeoutMillis);
+            try {
+                return action.get();
+            } finally {
+                higher.unlock();
+            }
+        } finally {
+            lower.unlock();
+        }
+    }
+
+    /**
+     * 사용자 락을 획득하여 반환합니다. 호출자가 반드시 해제해야 합니다.
+     *
+     * @throws UserLockTimeoutException 제한 시간 안에 락을 획득하지 못했거나 대기 중 인터럽트된 경우
+     */
+    Lock acquire(long userId, long timeoutMillis) {
+        Lock lock = userLocks.computeIfAbsent(userId, lockFactory);
+        if (timeoutMillis < 0) {
+            lock.lock();
+            return lock;
+        }
+        try {
+            if (!lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new UserLockTimeoutException(userId, timeoutMillis);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw UserLockTimeoutException.interrupted(userId);
+        }
+        return lock;
+    }
+}
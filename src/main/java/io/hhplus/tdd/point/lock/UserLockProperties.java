@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 사용자 락 설정
+ *
+ * @param strategy 사용자 락 구현 방식
+ * @param maxSpins SPIN_THEN_PARK 전략에서 대기 전에 회전할 최대 횟수
+ * @see UserLock#timeout() 메서드별 락 대기 시간 (예: {@code point.lock.transfer-timeout})
+ */
+@ConfigurationProperties(prefix = "point.lock")
+public record UserLockProperties(
+    @DefaultValue("NONFAIR") Type strategy,
+    @DefaultValue("256") int maxSpins
+) {
+
+    public enum Type {
+        /** 비공정 ReentrantLock (기본). 처리량이 가장 높지만 경합이 심하면 일부 요청이 오래 기다릴 수 있음 */
+        NONFAIR,
+        /** 공정 ReentrantLock. 도착 순서(FIFO)대로 획득하여 기아를 막는 대신 처리량이 낮음 */
+        FAIR,
+        /** 짧게 회전하며 재시도한 뒤 대기. 임계 구역이 짧을 때 스레드 park/unpark 비용을 줄임 */
+        SPIN_THEN_PARK,
+        /** StampedLock 쓰기 락. 재진입은 보유 스레드를 기록해 지원함 ({@link ReentrantStampedLock}) */
+        STAMPED
+    }
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.lock;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 락 생성 전략 (SPI)
+ *
+ * <p>{@link UserLockManager}는 유저마다 이 전략으로 만든 락 하나를 사용합니다.
+ * 기본 구현은 {@code point.lock.strategy} 설정으로 고르며, 이 타입의 빈을 직접 등록하면 그 구현을 사용합니다.
+ *
+ * <p>같은 유저에 대한 모든 호출이 같은 락을 써야 상호 배제가 보장되므로, 전략은 애플리케이션 전체에 하나만 적용합니다.
+ */
+@FunctionalInterface
+public interface UserLockStrategy {
+
+    /**
+     * 새 유저의 락을 만듭니다. 유저마다 한 번만 호출됩니다.
+     */
+    Lock newLock();
+
+    static UserLockStrategy of(UserLockProperties properties) {
+        return switch (properties.strategy()) {
+            case NONFAIR -> ReentrantLock::new;
+            case FAIR -> () -> new ReentrantLock(true);
+            case SPIN_THEN_PARK -> () -> new SpinThenParkLock(properties.maxSpins());
+            case STAMPED -> ReentrantStampedLock::new;
+        };
+    }
+}
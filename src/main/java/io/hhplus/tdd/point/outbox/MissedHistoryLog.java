@@ -0,0 +1,103 @@
+package io.hhplus.tdd.point.outbox;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 아웃박스에 기록하지 못한 이력 목록
+ *
+ * <p>한 줄에 {@code userId,historyId} 하나씩 텍스트로 덧붙입니다. 아웃박스 로그와 다른 파일이므로 로그 파일의 오류와
+ * 무관하게 남을 수 있고, 재시작 후에도 {@link OutboxRepairer}가 읽어 다시 기록합니다.
+ * 다시 기록한 항목은 임시 파일에 나머지를 쓴 뒤 원자적으로 교체하여 지웁니다.
+ *
+ * <p>파일 접근은 {@link ReentrantLock}으로 직렬화합니다. {@code synchronized} 안에서 파일 I/O를 하면
+ * 가상 스레드가 캐리어 스레드에 고정되기 때문입니다.
+ */
+final class MissedHistoryLog {
+
+    private final Path file;
+    private final boolean fsync;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    MissedHistoryLog(Path file, boolean fsync) {
+        this.file = file;
+        this.fsync = fsync;
+    }
+
+    void record(List<PointHistory> histories) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (PointHistory history : histories) {
+            lines.append(history.userId()).append(',').append(history.id()).append('\n');
+        }
+        lock.lock();
+        try {
+            if (fsync) {
+                Files.writeString(file, lines, StandardCharsets.US_ASCII,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+            } else {
+                Files.writeString(file, lines, StandardCharsets.US_ASCII,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<MissedHistory> read() throws IOException {
+        lock.lock();
+        try {
+            if (!Files.exists(file)) {
+                return List.of();
+            }
+            List<MissedHistory> missed = new ArrayList<>();
+            for (String line : Files.readAllLines(file, StandardCharsets.US_ASCII)) {
+                int comma = line.indexOf(',');
+                if (comma > 0) {
+                    missed.add(new MissedHistory(
+                        Long.parseLong(line.substring(0, comma)), Long.parseLong(line.substring(comma + 1))));
+                }
+            }
+            return missed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(Collection<Long> historyIds) throws IOException {
+        if (historyIds.isEmpty()) {
+            return;
+        }
+        Set<Long> removed = Set.copyOf(historyIds);
+        lock.lock();
+        try {
+            StringBuilder remaining = new StringBuilder();
+            for (MissedHistory missed : read()) {
+                if (!removed.contains(missed.historyId())) {
+                    remaining.append(missed.userId()).append(',').append(missed.historyId()).append('\n');
+                }
+            }
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.writeString(temp, remaining, StandardCharsets.US_ASCII);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 아웃박스에 기록하지 못한 이력 한 건
+     */
+    record MissedHistory(long userId, long historyId) {
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.outbox;
+
+import java.util.List;
+
+/**
+ * 아웃박스 레코드를 읽는 로컬 컨슈머
+ *
+ * <p>이 타입의 빈을 등록하면 주기적으로 커밋된 오프셋 이후의 레코드를 배치로 전달받습니다.
+ * {@link #consume}이 정상 반환해야 오프셋이 커밋되고, 예외를 던지면 같은 배치를 다음 주기에 다시 받습니다.
+ * 따라서 같은 레코드를 두 번 이상 받을 수 있으며(at-least-once), 컨슈머는 {@link OutboxRecord#offset()}으로
+ * 중복을 걸러야 합니다.
+ */
+public interface OutboxConsumer {
+
+    /**
+     * 오프셋 파일 이름으로 쓰이는 컨슈머 이름. 영문, 숫자, {@code . _ -}만 사용할 수 있습니다.
+     */
+    String name();
+
+    void consume(List<OutboxRecord> batch);
+}
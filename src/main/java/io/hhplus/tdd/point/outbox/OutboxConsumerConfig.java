@@ -0,0 +1,83 @@
+package io.hhplus.tdd.point.outbox;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.util.List;
+
+/**
+ * 아웃박스 컨슈머 주기 작업 설정
+ *
+ * <p>등록된 {@link OutboxConsumer}마다 주기 작업을 하나씩 등록합니다. 주기마다 커밋된 오프셋부터 배치를 읽어
+ * 전달하고, 정상 처리되면 오프셋을 커밋합니다. 배치가 가득 찼다면 밀린 레코드가 있는 것이므로 바로 다음 배치를 읽습니다.
+ * 재시작하면 마지막 커밋 오프셋부터 다시 읽으므로, 커밋 직전에 중단된 배치는 한 번 더 전달됩니다.
+ *
+ * <p>메트릭 (태그 {@code consumer})
+ * <ul>
+ *     <li>{@code point.outbox.consumer.lag}: 아직 커밋되지 않은 레코드 수</li>
+ *     <li>{@code point.outbox.consumer.batch.size}: 전달한 배치 크기 분포</li>
+ * </ul>
+ */
+@Configuration
+public class OutboxConsumerConfig implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxConsumerConfig.class);
+
+    private final PointOutbox pointOutbox;
+    private final ObjectProvider<OutboxConsumer> consumers;
+    private final MeterRegistry meterRegistry;
+    private final OutboxProperties properties;
+
+    public OutboxConsumerConfig(PointOutbox pointOutbox, ObjectProvider<OutboxConsumer> consumers,
+                                MeterRegistry meterRegistry, OutboxProperties properties) {
+        this.pointOutbox = pointOutbox;
+        this.consumers = consumers;
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (!pointOutbox.enabled()) {
+            return;
+        }
+        consumers.orderedStream().forEach(consumer -> {
+            String name = consumer.name();
+            Gauge.builder("point.outbox.consumer.lag", pointOutbox, outbox -> outbox.endOffset() - outbox.committedOffset(name))
+                .description("컨슈머가 아직 처리하지 않은 아웃박스 레코드 수")
+                .tag("consumer", name)
+                .register(meterRegistry);
+            DistributionSummary batchSize = DistributionSummary.builder("point.outbox.consumer.batch.size")
+                .description("컨슈머에 전달한 배치 크기")
+                .tag("consumer", name)
+                .register(meterRegistry);
+            taskRegistrar.addFixedDelayTask(() -> drain(consumer, batchSize), properties.pollInterval());
+        });
+    }
+
+    void drain(OutboxConsumer consumer, DistributionSummary batchSize) {
+        String name = consumer.name();
+        try {
+            List<OutboxRecord> batch;
+            do {
+                batch = pointOutbox.poll(name);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                consumer.consume(batch);
+                pointOutbox.commit(name, batch.get(batch.size() - 1).offset() + 1);
+                batchSize.record(batch.size());
+            } while (batch.size() == properties.batchSize());
+        } catch (RuntimeException e) {
+            log.warn("Outbox consumer {} failed at offset {}, retrying next run",
+                name, pointOutbox.committedOffset(name), e);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package io.hhplus.tdd.point.outbox;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * 고정 길이 레코드로 구성된 추가 전용 로그 파일
+ *
+ * <pre>
+ * [historyId:long][userId:long][amount:long][updateMillis:long][type:byte][padding:3][crc32:int]  (40 bytes)
+ * </pre>
+ * 레코드 길이가 고정이므로 오프셋 N의 위치는 {@code N * 40}이며, 별도 인덱스 없이 임의 위치부터 읽을 수 있습니다.
+ * 열 때 마지막 레코드부터 체크섬을 확인하여 기록 도중 중단된 꼬리를 잘라냅니다.
+ *
+ * <p>추가는 한 번에 하나씩(ReentrantLock) 수행하고, 읽기는 위치 지정 읽기라 추가와 동시에 실행할 수 있습니다.
+ * 끝 오프셋은 기록이 끝난 뒤에 갱신하므로, 독자는 완전히 기록된 레코드만 봅니다.
+ */
+final class OutboxLog implements Closeable {
+
+    static final int RECORD_SIZE = 40;
+    private static final int CRC_POSITION = RECORD_SIZE - Integer.BYTES;
+    private static final TransactionType[] TYPES = TransactionType.values();
+    private static final int SCAN_BATCH_RECORDS = 4096;
+
+    private final FileChannel channel;
+    private final boolean fsync;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private volatile long endOffset;
+
+    OutboxLog(Path file, boolean fsync) throws IOException {
+        this.channel = FileChannel.open(file,
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.fsync = fsync;
+        this.endOffset = recover();
+    }
+
+    /**
+     * 이력을 순서대로 기록합니다.
+     *
+     * @return 첫 레코드의 오프셋
+     */
+    long append(List<PointHistory> histories) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * histories.size());
+        for (PointHistory history : histories) {
+            encode(buffer, history);
+        }
+        buffer.flip();
+
+        appendLock.lock();
+        try {
+            long first = endOffset;
+            long position = first * RECORD_SIZE;
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+            endOffset = first + histories.size();
+            return first;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * {@code fromOffset}부터 최대 {@code maxRecords}개의 레코드를 읽습니다.
+     */
+    List<OutboxRecord> read(long fromOffset, int maxRecords) throws IOException {
+        int count = (int) Math.min(maxRecords, endOffset - fromOffset);
+        if (count <= 0) {
+            return List.of();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * count);
+        readFully(buffer, fromOffset * RECORD_SIZE);
+        buffer.flip();
+
+        List<OutboxRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int start = i * RECORD_SIZE;
+            if (!valid(buffer, start)) {
+                throw new IOException("Outbox record " + (fromOffset + i) + " is corrupted");
+            }
+            records.add(new OutboxRecord(
+                fromOffset + i,
+                buffer.getLong(start),
+                buffer.getLong(start + 8),
+                TYPES[buffer.get(start + 32)],
+                buffer.getLong(start + 16),
+                buffer.getLong(start + 24)
+            ));
+        }
+        return records;
+    }
+
+    /**
+     * {@code [fromOffset, toOffset)} 구간의 레코드를 객체 생성 없이 순서대로 방문합니다.
+     */
+    void scan(long fromOffset, long toOffset, OutboxVisitor visitor) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * SCAN_BATCH_RECORDS);
+        long offset = fromOffset;
+        long end = Math.min(toOffset, endOffset);
+        while (offset < end) {
+            int count = (int) Math.min(SCAN_BATCH_RECORDS, end - offset);
+            buffer.clear().limit(RECORD_SIZE * count);
+            readFully(buffer, offset * RECORD_SIZE);
+            for (int i = 0; i < count; i++) {
+                int start = i * RECORD_SIZE;
+                if (!valid(buffer, start)) {
+                    throw new IOException("Outbox record " + (offset + i) + " is corrupted");
+                }
+                visitor.visit(buffer.getLong(start + 8), TYPES[buffer.get(start + 32)], buffer.getLong(start + 16));
+            }
+            offset += count;
+        }
+    }
+
+    /**
+     * 다음 레코드가 기록될 오프셋 (= 기록된 레코드 수)
+     */
+    long endOffset() {
+        return endOffset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long recover() throws IOException {
+        long count = channel.size() / RECORD_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE);
+        while (count > 0) {
+            buffer.clear();
+            readFully(buffer, (count - 1) * RECORD_SIZE);
+            if (valid(buffer, 0)) {
+                break;
+            }
+            count--;
+        }
+        channel.truncate(count * RECORD_SIZE);
+        return count;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of outbox log at " + position);
+            }
+            position += read;
+        }
+    }
+
+    private static void encode(ByteBuffer buffer, PointHistory history) {
+        int start = buffer.position();
+        buffer.putLong(history.id());
+        buffer.putLong(history.userId());
+        buffer.putLong(history.amount());
+        buffer.putLong(history.updateMillis());
+        buffer.put((byte) history.type().ordinal());
+        buffer.put(new byte[3]);
+        buffer.putInt(crc(buffer, start));
+    }
+
+    private static boolean valid(ByteBuffer buffer, int start) {
+        return buffer.getInt(start + CRC_POSITION) == crc(buffer, start);
+    }
+
+    private static int crc(ByteBuffer buffer, int start) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(start).limit(start + CRC_POSITION));
+        return (int) crc.getValue();
+    }
+}
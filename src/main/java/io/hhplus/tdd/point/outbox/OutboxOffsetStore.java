@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.outbox;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 컨슈머별 커밋 오프셋 저장소
+ *
+ * <p>컨슈머마다 {@code <name>.offset} 파일에 다음에 읽을 오프셋을 기록합니다.
+ * 임시 파일에 쓴 뒤 원자적으로 교체하므로, 재시작 후에는 마지막으로 커밋된 값 또는 그 직전 값이 남습니다.
+ */
+final class OutboxOffsetStore {
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9._-]+");
+
+    private final Path directory;
+    private final Map<String, Long> committed = new ConcurrentHashMap<>();
+
+    OutboxOffsetStore(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    long committed(String consumer) {
+        return committed.computeIfAbsent(consumer, this::load);
+    }
+
+    void commit(String consumer, long offset) throws IOException {
+        Path file = file(consumer);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(temp, Long.toString(offset), StandardCharsets.US_ASCII);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        committed.put(consumer, offset);
+    }
+
+    private long load(String consumer) {
+        Path file = file(consumer);
+        try {
+            return Files.exists(file) ? Long.parseLong(Files.readString(file, StandardCharsets.US_ASCII).trim()) : 0;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to read outbox offset of consumer: " + consumer, e);
+        }
+    }
+
+    private Path file(String consumer) {
+        if (!NAME.matcher(consumer).matches()) {
+            throw new IllegalArgumentException("Invalid outbox consumer name: " + consumer);
+        }
+        return directory.resolve(consumer + ".offset");
+    }
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 포인트 변경 아웃박스 설정
+ *
+ * @param enabled 아웃박스 기록과 컨슈머 실행 여부
+ * @param directory 아웃박스 로그와 컨슈머 오프셋을 저장할 디렉터리
+ * @param batchSize 컨슈머에 한 번에 전달할 최대 레코드 수
+ * @param pollInterval 컨슈머가 새 레코드를 확인하는 주기
+ * @param fsync 기록할 때마다 디스크까지 동기화할지 여부. false이면 프로세스 장애에는 안전하지만 OS 장애 시 최근 기록이 유실될 수 있음
+ */
+@ConfigurationProperties(prefix = "point.outbox")
+public record OutboxProperties(
+    @DefaultValue("false") boolean enabled,
+    Path directory,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("1s") Duration pollInterval,
+    @DefaultValue("false") boolean fsync
+) {
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.outbox;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 아웃박스에 기록된 포인트 변경 한 건
+ *
+ * @param offset 아웃박스 내 순번 (0부터 시작, 연속)
+ * @param historyId 포인트 이력 id
+ * @param userId 사용자 ID
+ * @param type 거래 유형
+ * @param amount 거래 금액
+ * @param updateMillis 거래 시각
+ */
+public record OutboxRecord(
+    long offset,
+    long historyId,
+    long userId,
+    TransactionType type,
+    long amount,
+    long updateMillis
+) {
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point.outbox;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 아웃박스 재기록 주기 작업 설정
+ *
+ * <p>컨슈머와 같은 주기로 아웃박스에 기록하지 못한 이력을 다시 기록합니다.
+ */
+@Configuration
+public class OutboxRepairConfig implements SchedulingConfigurer {
+
+    private final OutboxRepairer outboxRepairer;
+    private final PointOutbox pointOutbox;
+    private final OutboxProperties properties;
+
+    public OutboxRepairConfig(OutboxRepairer outboxRepairer, PointOutbox pointOutbox, OutboxProperties properties) {
+        this.outboxRepairer = outboxRepairer;
+        this.pointOutbox = pointOutbox;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (!pointOutbox.enabled()) {
+            return;
+        }
+        taskRegistrar.addFixedDelayTask(outboxRepairer::repair, properties.pollInterval());
+    }
+}
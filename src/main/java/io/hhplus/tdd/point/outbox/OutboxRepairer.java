@@ -0,0 +1,96 @@
+package io.hhplus.tdd.point.outbox;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.store.PointHistoryStore;
+import io.hhplus.tdd.point.tiering.ColdHistoryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 아웃박스에 기록하지 못한 이력의 재기록
+ *
+ * <p>{@link PointOutbox}가 남긴 빠진 이력 목록을 유저별로 묶어, 유저 락 안에서 저장소의 이력을 다시 읽고 아웃박스에 기록합니다.
+ * 유저의 아웃박스 기록이 항상 유저 락 안에서 일어난다는 전제(대사의 재확인 단계 등)를 지키기 위해서입니다.
+ * 다시 기록한 레코드는 그 사이 기록된 같은 유저의 레코드보다 뒤에 오므로, 컨슈머는 이력 id 순서에 의존하지 않아야 합니다.
+ *
+ * <p>아웃박스 기록과 목록 갱신 사이에 중단되면 재시작 후 같은 이력이 한 번 더 기록될 수 있습니다.
+ * 저장소에서 찾을 수 없는 이력(스냅샷 없이 재시작한 경우 등)은 경고 로그를 남기고 목록에서 지웁니다.
+ */
+@Component
+public class OutboxRepairer {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRepairer.class);
+
+    private final PointOutbox pointOutbox;
+    private final PointHistoryStore pointHistoryStore;
+    private final ColdHistoryStore coldHistoryStore;
+    private final UserLockManager userLockManager;
+
+    public OutboxRepairer(PointOutbox pointOutbox, PointHistoryStore pointHistoryStore,
+                          ColdHistoryStore coldHistoryStore, UserLockManager userLockManager) {
+        this.pointOutbox = pointOutbox;
+        this.pointHistoryStore = pointHistoryStore;
+        this.coldHistoryStore = coldHistoryStore;
+        this.userLockManager = userLockManager;
+    }
+
+    /**
+     * 빠진 이력을 다시 기록합니다. 아웃박스 기록이 다시 실패하면 남은 유저는 다음 실행에서 처리합니다.
+     *
+     * @return 다시 기록한 이력 수
+     */
+    public int repair() {
+        if (!pointOutbox.enabled()) {
+            return 0;
+        }
+        Map<Long, Set<Long>> missedByUser = new LinkedHashMap<>();
+        for (MissedHistoryLog.MissedHistory missed : pointOutbox.missed()) {
+            missedByUser.computeIfAbsent(missed.userId(), id -> new HashSet<>()).add(missed.historyId());
+        }
+        List<Long> resolved = new ArrayList<>();
+        int replayed = 0;
+        try {
+            for (Map.Entry<Long, Set<Long>> entry : missedByUser.entrySet()) {
+                long userId = entry.getKey();
+                Set<Long> historyIds = entry.getValue();
+                List<PointHistory> histories = userLockManager.withUserLock(userId, () -> {
+                    long fromId = Collections.min(historyIds);
+                    List<PointHistory> found = coldHistoryStore
+                        .mergeFrom(userId, fromId, pointHistoryStore.selectAllByUserId(userId))
+                        .stream()
+                        .filter(history -> historyIds.contains(history.id()))
+                        .toList();
+                    if (!found.isEmpty()) {
+                        pointOutbox.replay(found);
+                    }
+                    return found;
+                });
+                if (histories.size() < historyIds.size()) {
+                    log.warn("Dropping {} missed outbox histories of user {} not found in the store",
+                        historyIds.size() - histories.size(), userId);
+                }
+                resolved.addAll(historyIds);
+                replayed += histories.size();
+            }
+        } catch (UncheckedIOException e) {
+            log.warn("Failed to replay missed outbox histories, retrying next run", e);
+        } finally {
+            pointOutbox.resolveMissed(resolved);
+        }
+        if (replayed > 0) {
+            log.info("Replayed {} missed histories to the outbox", replayed);
+        }
+        return replayed;
+    }
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point.outbox;
+
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 아웃박스 레코드를 객체 생성 없이 순회할 때 사용하는 방문자
+ */
+@FunctionalInterface
+public interface OutboxVisitor {
+
+    void visit(long userId, TransactionType type, long amount);
+}
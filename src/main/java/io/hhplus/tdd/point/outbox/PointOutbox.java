@@ -0,0 +1,179 @@
+package io.hhplus.tdd.point.outbox;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.event.PointChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 포인트 변경 아웃박스
+ *
+ * <p>{@link PointChangedEvent}는 유저 락을 보유한 채 이력 추가 직후에 발행되므로, 이 리스너가 이력과 같은 순서로
+ * 아웃박스에 기록합니다. 다른 리스너보다 먼저 실행되어 이후 리스너의 실패와 무관하게 기록됩니다.
+ * 외부 전달은 요청 경로가 아니라 {@link OutboxConsumer}가 별도 스레드에서 처리합니다.
+ *
+ * <p>테이블과 파일을 함께 묶을 트랜잭션이 없으므로, 기록 자체가 실패하면(디스크 오류 등) 요청은 그대로 성공하고
+ * 빠진 이력의 id를 별도 파일({@value #MISSED_FILE})에 남깁니다. {@link OutboxRepairer}가 주기적으로 이 목록의 이력을
+ * 저장소에서 다시 읽어 기록합니다. 실패는 {@code point.outbox.append.failures} 메트릭으로도 알립니다.
+ */
+@Component
+public class PointOutbox {
+
+    static final String LOG_FILE = "outbox.log";
+    static final String OFFSETS_DIRECTORY = "offsets";
+    static final String MISSED_FILE = "missed.log";
+
+    private static final Logger log = LoggerFactory.getLogger(PointOutbox.class);
+
+    private final OutboxProperties properties;
+    private final OutboxLog outboxLog;
+    private final OutboxOffsetStore offsetStore;
+    private final MissedHistoryLog missedHistoryLog;
+    private final Counter appendFailures;
+
+    public PointOutbox(OutboxProperties properties, MeterRegistry meterRegistry) throws IOException {
+        this.properties = properties;
+        if (properties.enabled()) {
+            Files.createDirectories(properties.directory());
+            this.outboxLog = new OutboxLog(properties.directory().resolve(LOG_FILE), properties.fsync());
+            this.offsetStore = new OutboxOffsetStore(properties.directory().resolve(OFFSETS_DIRECTORY));
+            this.missedHistoryLog = new MissedHistoryLog(properties.directory().resolve(MISSED_FILE), properties.fsync());
+            Gauge.builder("point.outbox.records", outboxLog, OutboxLog::endOffset)
+                .description("아웃박스에 기록된 레코드 수")
+                .register(meterRegistry);
+        } else {
+            this.outboxLog = null;
+            this.offsetStore = null;
+            this.missedHistoryLog = null;
+        }
+        this.appendFailures = Counter.builder("point.outbox.append.failures")
+            .description("아웃박스 기록 실패 횟수")
+            .register(meterRegistry);
+    }
+
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPointChanged(PointChangedEvent event) {
+        if (outboxLog == null) {
+            return;
+        }
+        try {
+            outboxLog.append(event.histories());
+        } catch (IOException e) {
+            appendFailures.increment();
+            log.error("Failed to append point change to outbox, userId: {}, histories: {}",
+                event.userId(), event.histories(), e);
+            recordMissed(event.histories());
+        }
+    }
+
+    private void recordMissed(List<PointHistory> histories) {
+        try {
+            missedHistoryLog.record(histories);
+        } catch (IOException e) {
+            log.error("Failed to record missed outbox histories: {}", histories, e);
+        }
+    }
+
+    /**
+     * 아웃박스에 기록하지 못해 다시 기록해야 하는 이력 목록
+     */
+    List<MissedHistoryLog.MissedHistory> missed() {
+        try {
+            return missedHistoryLog.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read missed outbox histories", e);
+        }
+    }
+
+    /**
+     * 빠졌던 이력을 아웃박스에 기록합니다. 호출자가 해당 유저의 락을 보유해야 합니다.
+     */
+    void replay(List<PointHistory> histories) {
+        try {
+            outboxLog.append(histories);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to replay missed histories to outbox", e);
+        }
+    }
+
+    /**
+     * 다시 기록했거나 더 이상 기록할 수 없는 이력을 목록에서 지웁니다.
+     */
+    void resolveMissed(Collection<Long> historyIds) {
+        try {
+            missedHistoryLog.remove(historyIds);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to update missed outbox histories", e);
+        }
+    }
+
+    public boolean enabled() {
+        return outboxLog != null;
+    }
+
+    /**
+     * 다음 레코드가 기록될 오프셋
+     */
+    public long endOffset() {
+        return outboxLog.endOffset();
+    }
+
+    /**
+     * 컨슈머가 커밋한 오프셋 (다음에 읽을 위치)
+     */
+    public long committedOffset(String consumer) {
+        return offsetStore.committed(consumer);
+    }
+
+    /**
+     * 컨슈머의 커밋 오프셋부터 최대 {@code batchSize}개의 레코드를 읽습니다.
+     */
+    List<OutboxRecord> poll(String consumer) {
+        try {
+            return outboxLog.read(offsetStore.committed(consumer), properties.batchSize());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read outbox for consumer: " + consumer, e);
+        }
+    }
+
+    /**
+     * {@code [fromOffset, toOffset)} 구간의 레코드를 순서대로 방문합니다. 대량 집계용으로 레코드 객체를 만들지 않습니다.
+     */
+    public void scan(long fromOffset, long toOffset, OutboxVisitor visitor) {
+        try {
+            outboxLog.scan(fromOffset, toOffset, visitor);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to scan outbox from " + fromOffset + " to " + toOffset, e);
+        }
+    }
+
+    void commit(String consumer, long offset) {
+        try {
+            offsetStore.commit(consumer, offset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to commit outbox offset for consumer: " + consumer, e);
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (outboxLog != null) {
+            outboxLog.close();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 수 제한 설정
+ *
+ * <p>동기/비동기 포인트 API에 {@link RateLimitInterceptor}를 등록하고, 유휴 버킷을 주기적으로 정리합니다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RateLimitConfig implements WebMvcConfigurer, SchedulingConfigurer {
+
+    private final UserRateLimiter userRateLimiter;
+    private final RateLimitProperties properties;
+
+    public RateLimitConfig(UserRateLimiter userRateLimiter, RateLimitProperties properties) {
+        this.userRateLimiter = userRateLimiter;
+        this.properties = properties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (properties.enabled()) {
+            registry.addInterceptor(new RateLimitInterceptor(userRateLimiter))
+                .addPathPatterns("/point/**", "/async/point/**");
+        }
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (properties.enabled()) {
+            taskRegistrar.addFixedDelayTask(userRateLimiter::evictIdle, properties.evictionInterval());
+        }
+    }
+}
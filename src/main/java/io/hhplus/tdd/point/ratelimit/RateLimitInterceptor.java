@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.ratelimit;
+
+import io.hhplus.tdd.point.exception.RateLimitExceededException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * 포인트 API 요청 수 제한 인터셉터
+ *
+ * <p>핸들러가 실행되기 전에 판정하므로, 거부된 요청은 유저 락 대기열에 들어가지 않습니다.
+ * 경로의 {@code {id}}를 유저 ID로, 핸들러 메서드 이름을 엔드포인트 이름으로 씁니다.
+ * 거부되면 {@link RateLimitExceededException}을 던지고, {@code ApiControllerAdvice}가 429로 응답합니다.
+ * 비동기 핸들러의 결과를 쓰기 위한 재디스패치({@link DispatcherType#ASYNC})는 이미 판정한 같은 요청이므로 다시 세지 않습니다.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String USER_ID_VARIABLE = "id";
+
+    private final UserRateLimiter userRateLimiter;
+
+    public RateLimitInterceptor(UserRateLimiter userRateLimiter) {
+        this.userRateLimiter = userRateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+            (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String userId = variables != null ? variables.get(USER_ID_VARIABLE) : null;
+        if (userId == null) {
+            return true;
+        }
+        try {
+            userRateLimiter.acquire(handlerMethod.getMethod().getName(), Long.parseLong(userId));
+        } catch (NumberFormatException e) {
+            // 유저 ID 형식 오류는 핸들러의 인자 변환에서 처리
+        }
+        return true;
+    }
+}
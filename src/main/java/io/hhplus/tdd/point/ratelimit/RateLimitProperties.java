@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 유저별 요청 수 제한 설정
+ *
+ * <p>경로에 유저 ID({@code {id}})가 있는 포인트 API에만 적용하며, 엔드포인트는 핸들러 메서드 이름
+ * (예: {@code point}, {@code history}, {@code charge}, {@code use}, {@code batch})으로 구분합니다.
+ * 동기/비동기 API의 같은 이름 엔드포인트는 한 버킷을 함께 씁니다.
+ *
+ * @param enabled 요청 수 제한 사용 여부
+ * @param defaults {@code endpoints}에 없는 엔드포인트의 제한
+ * @param endpoints 엔드포인트별 제한
+ * @param idleTimeout 이 기간 동안 요청이 없어 가득 찬 버킷은 정리함
+ * @param evictionInterval 유휴 버킷 정리 주기
+ */
+@ConfigurationProperties(prefix = "point.rate-limit")
+public record RateLimitProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue Limit defaults,
+    Map<String, Limit> endpoints,
+    @DefaultValue("10m") Duration idleTimeout,
+    @DefaultValue("1m") Duration evictionInterval
+) {
+
+    public RateLimitProperties {
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+    }
+
+    public Limit limitFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaults);
+    }
+
+    /**
+     * @param capacity 한 번에 몰아서 보낼 수 있는 최대 요청 수 (버킷 크기)
+     * @param refillPerSecond 초당 채워지는 요청 수 (지속 가능한 요청률)
+     */
+    public record Limit(
+        @DefaultValue("50") int capacity,
+        @DefaultValue("20") double refillPerSecond
+    ) {
+    }
+}
@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 한 엔드포인트의 유저별 토큰 버킷
+ *
+ * <p>버킷 하나의 상태는 "다음 요청이 도착해야 하는 이론상 시각(TAT)" 하나뿐입니다(GCRA).
+ * 토큰 수와 마지막 충전 시각을 따로 두지 않아도 같은 결과가 나오므로, 버킷은 {@link AtomicLong} 하나이고
+ * 요청마다 CAS 한 번으로 판정합니다. 충전은 별도 작업 없이 판정할 때 현재 시각과의 차이로 계산됩니다.
+ *
+ * <ul>
+ *   <li>요청 간격 {@code T = 1s / refillPerSecond}, 허용 범위 {@code capacity * T}</li>
+ *   <li>{@code newTat = max(TAT, now) + T}가 {@code now + capacity * T}를 넘지 않으면 허용하고 TAT를 갱신</li>
+ *   <li>{@code TAT <= now}이면 버킷이 가득 찬 상태이므로, 그 상태로 오래 지난 버킷은 지워도 결과가 같음</li>
+ * </ul>
+ */
+public class TokenBucketLimiter {
+
+    private final Map<Long, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long intervalNanos;
+    private final long burstNanos;
+
+    public TokenBucketLimiter(int capacity, double refillPerSecond) {
+        this.intervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * capacity;
+    }
+
+    /**
+     * 토큰 하나를 꺼냅니다.
+     *
+     * @return 허용되면 0, 거부되면 다음 토큰이 생길 때까지 남은 나노초
+     */
+    public long tryAcquire(long userId, long nowNanos) {
+        AtomicLong bucket = buckets.get(userId);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(userId, id -> new AtomicLong(nowNanos));
+        }
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, nowNanos) + intervalNanos;
+            long excess = newTat - nowNanos - burstNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * {@code idleNanos} 이상 가득 찬 상태로 남아 있던 버킷을 지웁니다.
+     * 지운 버킷은 가득 찬 상태였으므로 다음 요청은 새로 만든 가득 찬 버킷에서 같은 결과를 받습니다.
+     * 지우는 순간 옛 버킷에서 판정 중이던 요청이 있으면 토큰 하나만큼 더 허용될 수 있습니다.
+     *
+     * @return 지운 버킷 수
+     */
+    public int evictIdle(long nowNanos, long idleNanos) {
+        int evicted = 0;
+        for (Map.Entry<Long, AtomicLong> entry : buckets.entrySet()) {
+            AtomicLong bucket = entry.getValue();
+            if (nowNanos - bucket.get() >= idleNanos && buckets.remove(entry.getKey(), bucket)) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
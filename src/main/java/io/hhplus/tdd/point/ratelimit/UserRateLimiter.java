@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point.ratelimit;
+
+import io.hhplus.tdd.point.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔드포인트별 {@link TokenBucketLimiter} 모음
+ */
+@Component
+public class UserRateLimiter {
+
+    private final Map<String, TokenBucketLimiter> limiters = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public UserRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("point.ratelimit.buckets", limiters,
+                all -> all.values().stream().mapToInt(TokenBucketLimiter::size).sum())
+            .description("요청 수 제한 버킷 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 유저의 엔드포인트 호출 한 번을 허용할지 판정합니다.
+     *
+     * @throws RateLimitExceededException 버킷이 비어 있음
+     */
+    public void acquire(String endpoint, long userId) {
+        TokenBucketLimiter limiter = limiters.get(endpoint);
+        if (limiter == null) {
+            limiter = limiters.computeIfAbsent(endpoint, this::createLimiter);
+        }
+        long waitNanos = limiter.tryAcquire(userId, System.nanoTime());
+        if (waitNanos > 0) {
+            rejections.computeIfAbsent(endpoint, name -> Counter.builder("point.ratelimit.rejected")
+                    .description("요청 수 제한으로 거부된 요청 수")
+                    .tag("endpoint", name)
+                    .register(meterRegistry))
+                .increment();
+            throw new RateLimitExceededException(userId, endpoint,
+                Math.max(1L, TimeUnit.NANOSECONDS.toMillis(waitNanos)));
+        }
+    }
+
+    /**
+     * 오래 사용되지 않은 버킷을 정리합니다.
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        long idleNanos = properties.idleTimeout().toNanos();
+        int evicted = 0;
+        for (TokenBucketLimiter limiter : limiters.values()) {
+            evicted += limiter.evictIdle(now, idleNanos);
+        }
+        return evicted;
+    }
+
+    private TokenBucketLimiter createLimiter(String endpoint) {
+        RateLimitProperties.Limit limit = properties.limitFor(endpoint);
+        return new TokenBucketLimiter(limit.capacity(), limit.refillPerSecond());
+    }
+}
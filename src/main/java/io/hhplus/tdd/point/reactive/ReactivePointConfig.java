@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 리액티브 포인트 API 설정
+ *
+ * <p>테이블 호출은 블로킹이므로 이벤트 루프가 아닌 전용 bounded elastic 스케줄러에서 실행합니다.
+ * 서블릿 스택에서는 쓰이지 않으므로 {@code reactive} 프로파일로 실행할 때만 스케줄러를 만듭니다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePointConfig {
+
+    public static final String POINT_SCHEDULER = "pointScheduler";
+
+    @Bean(name = POINT_SCHEDULER, destroyMethod = "dispose")
+    public Scheduler pointScheduler(ReactivePointProperties properties) {
+        return Schedulers.newBoundedElastic(
+            properties.threadCap(), properties.queuedTaskCap(), "point-reactive");
+    }
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.reactive;
+
+import io.hhplus.tdd.point.PointController;
+import io.hhplus.tdd.point.dto.PointHistoryResponse;
+import io.hhplus.tdd.point.dto.UserPointResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 리액티브(WebFlux) 스택의 포인트 API
+ *
+ * <p>{@code spring.main.web-application-type=reactive}({@code reactive} 프로파일)로 실행할 때만 등록되며,
+ * 서블릿 스택의 {@code PointController}와 같은 경로를 제공합니다.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/point")
+public class ReactivePointController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReactivePointController.class);
+    private final ReactivePointService reactivePointService;
+
+    public ReactivePointController(ReactivePointService reactivePointService) {
+        this.reactivePointService = reactivePointService;
+    }
+
+    /**
+     * 특정 유저의 포인트를 조회합니다.
+     */
+    @GetMapping("{id}")
+    public Mono<UserPointResponse> point(@PathVariable long id) {
+        log.info("Fetching point reactively for user: {}", id);
+        return reactivePointService.getUserPoint(id).map(UserPointResponse::from);
+    }
+
+    /**
+     * 특정 유저의 포인트 충전/이용 내역을 조회합니다.
+     */
+    @GetMapping("{id}/histories")
+    public Mono<List<PointHistoryResponse>> history(@PathVariable long id) {
+        log.info("Fetching point history reactively for user: {}", id);
+        return reactivePointService.getUserPointHistory(id)
+            .map(histories -> histories.stream().map(PointHistoryResponse::from).toList());
+    }
+
+    /**
+     * 특정 유저의 포인트를 충전합니다.
+     * {@code Idempotency-Key} 헤더가 있으면 같은 키로 다시 보낸 요청은 처음 요청의 결과를 받습니다.
+     */
+    @PatchMapping("{id}/charge")
+    public Mono<UserPointResponse> charge(@PathVariable long id, @RequestBody long amount,
+                                          @RequestHeader(value = PointController.IDEMPOTENCY_KEY_HEADER,
+                                              required = false) String idempotencyKey) {
+        log.info("Charging {} points reactively for user: {}", amount, id);
+        return reactivePointService.chargePoint(id, amount, idempotencyKey).map(UserPointResponse::from);
+    }
+
+    /**
+     * 특정 유저의 포인트를 사용합니다.
+     * {@code Idempotency-Key} 헤더가 있으면 같은 키로 다시 보낸 요청은 처음 요청의 결과를 받습니다.
+     */
+    @PatchMapping("{id}/use")
+    public Mono<UserPointResponse> use(@PathVariable long id, @RequestBody long amount,
+                                       @RequestHeader(value = PointController.IDEMPOTENCY_KEY_HEADER,
+                                           required = false) String idempotencyKey) {
+        log.info("Using {} points reactively for user: {}", amount, id);
+        return reactivePointService.usePoint(id, amount, idempotencyKey).map(UserPointResponse::from);
+    }
+}
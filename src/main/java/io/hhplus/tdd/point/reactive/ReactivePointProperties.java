@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.reactive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 리액티브 포인트 API 설정
+ *
+ * @param threadCap 블로킹 테이블 호출을 수행하는 bounded elastic 스케줄러의 최대 스레드 수
+ * @param queuedTaskCap 스레드가 모두 사용 중일 때 대기할 수 있는 최대 작업 수
+ */
+@ConfigurationProperties(prefix = "point.reactive")
+public record ReactivePointProperties(
+    @DefaultValue("64") int threadCap,
+    @DefaultValue("100000") int queuedTaskCap
+) {
+}
@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.reactive;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.idempotency.IdempotencyCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+
+/**
+ * {@link PointService}의 논블로킹 퍼사드
+ *
+ * <p>블로킹 테이블 호출은 bounded elastic 스케줄러로 옮기고,
+ * 같은 사용자의 쓰기 작업은 {@link UserSerialQueue}로 직렬화합니다.
+ * 큐에서 대기하는 동안에는 스레드를 점유하지 않으므로, 하나의 사용자에 요청이 몰려도
+ * 스케줄러 스레드가 {@code @UserLock} 대기로 소진되지 않습니다.
+ * 내부의 {@code @UserLock}은 서블릿 스택과 함께 사용될 때의 안전장치로 유지되며,
+ * 큐를 통과한 작업은 락 경합 없이 바로 획득합니다.
+ *
+ * <p>멱등 키가 있는 쓰기는 큐 안에서 {@link IdempotencyCache}를 거칩니다. 같은 키의 중복 요청은
+ * 같은 사용자의 큐에서 원래 요청이 끝난 뒤에 실행되므로, 결과를 기다리며 스케줄러 스레드를 붙잡지 않습니다.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePointService {
+
+    private final PointService pointService;
+    private final IdempotencyCache idempotencyCache;
+    private final Scheduler scheduler;
+    private final UserSerialQueue writeQueue;
+
+    public ReactivePointService(PointService pointService, IdempotencyCache idempotencyCache,
+                                @Qualifier(ReactivePointConfig.POINT_SCHEDULER) Scheduler scheduler) {
+        this.pointService = pointService;
+        this.idempotencyCache = idempotencyCache;
+        this.scheduler = scheduler;
+        this.writeQueue = new UserSerialQueue(scheduler);
+    }
+
+    public Mono<UserPoint> getUserPoint(long userId) {
+        return Mono.fromCallable(() -> pointService.getUserPoint(userId))
+            .subscribeOn(scheduler);
+    }
+
+    public Mono<List<PointHistory>> getUserPointHistory(long userId) {
+        return Mono.fromCallable(() -> pointService.getUserPointHistory(userId))
+            .subscribeOn(scheduler);
+    }
+
+    public Mono<UserPoint> chargePoint(long userId, long amount) {
+        return chargePoint(userId, amount, null);
+    }
+
+    /**
+     * @param idempotencyKey 클라이언트가 보낸 멱등 키 (없으면 null)
+     */
+    public Mono<UserPoint> chargePoint(long userId, long amount, String idempotencyKey) {
+        return writeQueue.submit(userId, () -> idempotencyCache.execute(userId, idempotencyKey,
+            new PointOperation(TransactionType.CHARGE, amount), () -> pointService.chargePoint(userId, amount)));
+    }
+
+    public Mono<UserPoint> usePoint(long userId, long amount) {
+        return usePoint(userId, amount, null);
+    }
+
+    /**
+     * @param idempotencyKey 클라이언트가 보낸 멱등 키 (없으면 null)
+     */
+    public Mono<UserPoint> usePoint(long userId, long amount, String idempotencyKey) {
+        return writeQueue.submit(userId, () -> idempotencyCache.execute(userId, idempotencyKey,
+            new PointOperation(TransactionType.USE, amount), () -> pointService.usePoint(userId, amount)));
+    }
+}
@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point.reactive;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 논블로킹 직렬 실행 큐
+ *
+ * <p>같은 사용자에 대한 작업은 이전 작업의 완료 시점에 이어서 실행되도록 체이닝됩니다.
+ * 대기 중인 작업은 스레드를 점유하지 않으며, 작업 본문만 스케줄러 스레드에서 실행됩니다.
+ * 따라서 같은 사용자에게 요청이 몰려도 락 대기로 스케줄러 스레드가 묶이지 않습니다.
+ *
+ * <p>사용자별 큐의 꼬리(tail)는 마지막 작업이 끝나면 제거되므로, 유휴 사용자는 메모리를 차지하지 않습니다.
+ */
+public class UserSerialQueue {
+
+    private static final CompletableFuture<Object> IDLE = CompletableFuture.completedFuture(null);
+
+    private final ConcurrentHashMap<Long, CompletableFuture<?>> tails = new ConcurrentHashMap<>();
+    private final Scheduler scheduler;
+
+    public UserSerialQueue(Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * 사용자별 순서를 보장하여 작업을 실행합니다.
+     *
+     * <p>구독 시점에 큐에 등록되며, 작업의 성공/실패와 관계없이 다음 작업이 이어서 실행됩니다.
+     *
+     * @param userId 사용자 ID
+     * @param work 스케줄러 스레드에서 실행할 블로킹 작업
+     * @return 작업 결과를 방출하는 Mono
+     */
+    public <T> Mono<T> submit(long userId, Callable<T> work) {
+        return Mono.defer(() -> {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            CompletableFuture<?> previous = tails.put(userId, result);
+            (previous == null ? IDLE : previous).whenComplete((ignored, error) -> schedule(work, result));
+            result.whenComplete((ignored, error) -> tails.remove(userId, result));
+            return Mono.fromFuture(result, true);
+        });
+    }
+
+    /**
+     * 현재 대기 중이거나 실행 중인 작업이 있는 사용자 수
+     */
+    public int activeUsers() {
+        return tails.size();
+    }
+
+    private <T> void schedule(Callable<T> work, CompletableFuture<T> result) {
+        try {
+            scheduler.schedule(() -> run(work, result));
+        } catch (RuntimeException e) {
+            // 스케줄러 큐가 가득 찬 경우에도 다음 작업이 이어지도록 즉시 실패 처리
+            result.completeExceptionally(e);
+        }
+    }
+
+    private static <T> void run(Callable<T> work, CompletableFuture<T> result) {
+        try {
+            result.complete(work.call());
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package io.hhplus.tdd.point.reconcile;
+
+import io.hhplus.tdd.point.store.UserPointStore;
+
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저 목록을 나눠 잔액과 이력 합계를 비교하는 작업
+ *
+ * <p>락 없이 잔액을 읽으므로 비교 중에 바뀐 유저도 불일치 후보가 됩니다. 후보는 유저 락을 잡고 다시 확인합니다.
+ *
+ * @return 불일치 후보 userId (값은 사용하지 않음)
+ */
+final class BalanceCheckTask extends RecursiveTask<LongLongHashMap> {
+
+    private final UserPointStore userPointStore;
+    private final LongLongHashMap sums;
+    private final long[] userIds;
+    private final int from;
+    private final int to;
+    private final int chunkUsers;
+    private final AtomicLong checkedUsers;
+
+    BalanceCheckTask(UserPointStore userPointStore, LongLongHashMap sums, long[] userIds, int from, int to,
+                     int chunkUsers, AtomicLong checkedUsers) {
+        this.userPointStore = userPointStore;
+        this.sums = sums;
+        this.userIds = userIds;
+        this.from = from;
+        this.to = to;
+        this.chunkUsers = chunkUsers;
+        this.checkedUsers = checkedUsers;
+    }
+
+    @Override
+    protected LongLongHashMap compute() {
+        if (to - from <= chunkUsers) {
+            LongLongHashMap candidates = new LongLongHashMap();
+            for (int i = from; i < to; i++) {
+                long userId = userIds[i];
+                if (userPointStore.selectById(userId).point() != sums.get(userId)) {
+                    candidates.add(userId, 0);
+                }
+            }
+            checkedUsers.addAndGet(to - from);
+            return candidates;
+        }
+        int middle = (from + to) >>> 1;
+        BalanceCheckTask left = new BalanceCheckTask(userPointStore, sums, userIds, from, middle, chunkUsers, checkedUsers);
+        left.fork();
+        LongLongHashMap right = new BalanceCheckTask(userPointStore, sums, userIds, middle, to, chunkUsers, checkedUsers)
+            .compute();
+        return LongLongHashMap.merge(left.join(), right);
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.reconcile;
+
+/**
+ * 잔액과 이력 합계가 다른 유저
+ *
+ * @param userId 사용자 ID
+ * @param balance UserPoint에 기록된 잔액
+ * @param expected 이력(충전/이체 입금 - 사용/이체 출금/만료)으로 계산한 잔액
+ */
+public record LedgerMismatch(
+    long userId,
+    long balance,
+    long expected
+) {
+}
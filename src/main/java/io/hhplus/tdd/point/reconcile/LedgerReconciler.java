@@ -0,0 +1,202 @@
+package io.hhplus.tdd.point.reconcile;
+
+import io.hhplus.tdd.point.PointUserDirectory;
+import io.hhplus.tdd.point.exception.InvalidOperationException;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.outbox.PointOutbox;
+import io.hhplus.tdd.point.store.UserPointStore;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StopWatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 잔액-이력 대사
+ *
+ * <p>각 유저의 {@code UserPoint.point}가 이력의 부호 있는 합계(충전/이체 입금 - 사용/이체 출금/만료)와 같은지 확인합니다.
+ * 유저마다 {@code selectAllByUserId}로 전체 이력을 훑는 대신, 모든 이력이 순서대로 기록된 아웃박스를 구간별로 나눠
+ * 전용 ForkJoinPool에서 한 번에 집계합니다.
+ *
+ * <ol>
+ *     <li>집계: 시작 시점의 아웃박스 끝 오프셋까지 구간을 나눠 유저별 합계를 구합니다. (락 없음)</li>
+ *     <li>비교: 유저 목록을 나눠 잔액을 읽고 합계와 비교합니다. (락 없음)</li>
+ *     <li>재확인: 집계 이후의 쓰기 때문에 어긋난 후보만 유저 락을 잡고, 집계 이후 기록된 레코드를 더해 다시 비교합니다.</li>
+ * </ol>
+ * 실시간 요청은 재확인 대상 유저의 락을 잠깐 기다리는 것 외에는 영향을 받지 않습니다.
+ *
+ * <p>아웃박스와 테이블이 같은 시점부터 기록되어야 합니다. 스냅샷 없이 재시작하면 테이블만 비워지므로 모든 유저가 불일치로 보고됩니다.
+ */
+@Component
+public class LedgerReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerReconciler.class);
+
+    private final PointOutbox pointOutbox;
+    private final UserPointStore userPointStore;
+    private final PointUserDirectory pointUserDirectory;
+    private final UserLockManager userLockManager;
+    private final ReconciliationProperties properties;
+    private final ForkJoinPool pool;
+    private final Map<String, LedgerReconciliation> reconciliations = new ConcurrentHashMap<>();
+    private final AtomicReference<LedgerReconciliation> running = new AtomicReference<>();
+    private final AtomicReference<LedgerReconciliation> latest = new AtomicReference<>();
+    private final ReentrantLock startLock = new ReentrantLock();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "point-reconciliation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LedgerReconciler(PointOutbox pointOutbox, UserPointStore userPointStore,
+                            PointUserDirectory pointUserDirectory, UserLockManager userLockManager,
+                            ReconciliationProperties properties) {
+        this.pointOutbox = pointOutbox;
+        this.userPointStore = userPointStore;
+        this.pointUserDirectory = pointUserDirectory;
+        this.userLockManager = userLockManager;
+        this.properties = properties;
+        int parallelism = properties.parallelism() > 0
+            ? properties.parallelism()
+            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * 대사를 시작합니다. 이미 진행 중인 작업이 있으면 그 작업을 반환합니다.
+     *
+     * @throws InvalidOperationException 아웃박스가 비활성화된 경우
+     */
+    public LedgerReconciliation start() {
+        if (!pointOutbox.enabled()) {
+            throw InvalidOperationException.reconciliationUnavailable();
+        }
+        startLock.lock();
+        try {
+            LedgerReconciliation current = running.get();
+            if (current != null) {
+                return current;
+            }
+            LedgerReconciliation reconciliation = new LedgerReconciliation(UUID.randomUUID().toString());
+            reconciliations.put(reconciliation.id(), reconciliation);
+            running.set(reconciliation);
+            latest.set(reconciliation);
+            executor.execute(() -> run(reconciliation));
+            return reconciliation;
+        } finally {
+            startLock.unlock();
+        }
+    }
+
+    public LedgerReconciliation find(String reconciliationId) {
+        LedgerReconciliation reconciliation = reconciliations.get(reconciliationId);
+        if (reconciliation == null) {
+            throw InvalidOperationException.reconciliationNotFound(reconciliationId);
+        }
+        return reconciliation;
+    }
+
+    /**
+     * 가장 최근에 시작한 대사
+     */
+    public LedgerReconciliation latest() {
+        LedgerReconciliation reconciliation = latest.get();
+        if (reconciliation == null) {
+            throw InvalidOperationException.reconciliationNotFound("latest");
+        }
+        return reconciliation;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    void run(LedgerReconciliation reconciliation) {
+        StopWatch stopWatch = new StopWatch(reconciliation.id());
+        try {
+            stopWatch.start("sum");
+            long cutoff = pointOutbox.endOffset();
+            LongLongHashMap sums = pool.invoke(new LedgerSumTask(pointOutbox, 0, cutoff, properties.chunkRecords()));
+            for (long userId : pointUserDirectory.userIds()) {
+                sums.add(userId, 0);
+            }
+            long[] userIds = sums.keys();
+            reconciliation.scanned(cutoff, userIds.length);
+            stopWatch.stop();
+
+            stopWatch.start("compare");
+            LongLongHashMap candidates = pool.invoke(new BalanceCheckTask(userPointStore, sums, userIds, 0,
+                userIds.length, properties.chunkUsers(), reconciliation.checkedUsersCounter()));
+            stopWatch.stop();
+
+            stopWatch.start("recheck");
+            List<LedgerMismatch> mismatches = new ArrayList<>();
+            long mismatchCount = recheck(cutoff, sums, candidates, mismatches);
+            stopWatch.stop();
+
+            reconciliation.complete(mismatchCount, mismatches);
+            log.info("Reconciled {} users against {} outbox records: {} candidates, {} mismatches ({})",
+                userIds.length, cutoff, candidates.size(), mismatchCount, stopWatch.shortSummary());
+        } catch (RuntimeException e) {
+            reconciliation.fail();
+            log.warn("Failed to reconcile point ledger: {}", reconciliation.id(), e);
+        } finally {
+            running.set(null);
+        }
+    }
+
+    /**
+     * 후보 유저를 락을 잡고 다시 비교합니다.
+     *
+     * <p>집계 이후의 레코드는 후보마다 락을 잡기 직전에 락 없이 이어서 읽어 후보별로 더해 둡니다. 이어 읽기는 앞 후보가 읽은
+     * 위치부터 시작하므로 재확인 전체에서 각 레코드를 한 번만 읽습니다. 락 안에서는 직전 이어 읽기 이후에 추가된 몇 건만 읽습니다.
+     * 유저의 아웃박스 기록은 유저 락 안에서 일어나므로, 락을 잡은 시점의 끝 오프셋까지가 그 유저의 전체 이력입니다.
+     */
+    private long recheck(long cutoff, LongLongHashMap sums, LongLongHashMap candidates, List<LedgerMismatch> mismatches) {
+        LongLongHashMap tail = new LongLongHashMap();
+        long scanned = cutoff;
+        long mismatchCount = 0;
+        for (long userId : candidates.keys()) {
+            long end = pointOutbox.endOffset();
+            pointOutbox.scan(scanned, end, (id, type, amount) -> {
+                if (candidates.containsKey(id)) {
+                    tail.add(id, type.signed(amount));
+                }
+            });
+            scanned = end;
+
+            long expectedUntilTail = sums.get(userId) + tail.get(userId);
+            LedgerMismatch mismatch = userLockManager.withUserLock(userId, () -> {
+                long[] recent = {0};
+                pointOutbox.scan(end, pointOutbox.endOffset(), (id, type, amount) -> {
+                    if (id == userId) {
+                        recent[0] += type.signed(amount);
+                    }
+                });
+                long balance = userPointStore.selectById(userId).point();
+                long expected = expectedUntilTail + recent[0];
+                return balance == expected ? null : new LedgerMismatch(userId, balance, expected);
+            });
+            if (mismatch != null) {
+                mismatchCount++;
+                if (mismatches.size() < properties.maxReportedMismatches()) {
+                    mismatches.add(mismatch);
+                }
+            }
+        }
+        return mismatchCount;
+    }
+}
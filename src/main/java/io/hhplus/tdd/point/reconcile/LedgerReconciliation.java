@@ -0,0 +1,97 @@
+package io.hhplus.tdd.point.reconcile;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잔액-이력 대사 작업
+ *
+ * <p>대사 스레드가 진행 상황을 갱신하고, 조회 API는 언제든 읽을 수 있도록 volatile/atomic 필드를 사용합니다.
+ */
+public final class LedgerReconciliation {
+
+    public enum State {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    private final String id;
+    private final long startedMillis;
+    private final AtomicLong checkedUsers = new AtomicLong();
+    private volatile State state = State.RUNNING;
+    private volatile long cutoffOffset;
+    private volatile long totalUsers;
+    private volatile long mismatchCount;
+    private volatile List<LedgerMismatch> mismatches = List.of();
+    private volatile long finishedMillis;
+
+    LedgerReconciliation(String id) {
+        this.id = id;
+        this.startedMillis = System.currentTimeMillis();
+    }
+
+    void scanned(long cutoffOffset, long totalUsers) {
+        this.cutoffOffset = cutoffOffset;
+        this.totalUsers = totalUsers;
+    }
+
+    AtomicLong checkedUsersCounter() {
+        return checkedUsers;
+    }
+
+    void complete(long mismatchCount, List<LedgerMismatch> mismatches) {
+        this.mismatchCount = mismatchCount;
+        this.mismatches = List.copyOf(mismatches);
+        this.finishedMillis = System.currentTimeMillis();
+        this.state = State.COMPLETED;
+    }
+
+    void fail() {
+        this.finishedMillis = System.currentTimeMillis();
+        this.state = State.FAILED;
+    }
+
+    public String id() {
+        return id;
+    }
+
+    public State state() {
+        return state;
+    }
+
+    /**
+     * 일괄 집계에 사용한 아웃박스 끝 오프셋 (= 집계한 레코드 수)
+     */
+    public long cutoffOffset() {
+        return cutoffOffset;
+    }
+
+    public long totalUsers() {
+        return totalUsers;
+    }
+
+    public long checkedUsers() {
+        return checkedUsers.get();
+    }
+
+    /**
+     * 재확인 후에도 일치하지 않은 유저 수
+     */
+    public long mismatchCount() {
+        return mismatchCount;
+    }
+
+    /**
+     * 불일치 유저 (최대 {@code maxReportedMismatches}건)
+     */
+    public List<LedgerMismatch> mismatches() {
+        return mismatches;
+    }
+
+    public long startedMillis() {
+        return startedMillis;
+    }
+
+    public long finishedMillis() {
+        return finishedMillis;
+    }
+}
@@ -0,0 +1,39 @@
+package io.hhplus.tdd.point.reconcile;
+
+import io.hhplus.tdd.point.outbox.PointOutbox;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 아웃박스 구간을 나눠 유저별 부호 있는 금액 합계를 구하는 작업
+ *
+ * <p>각 구간은 순차 읽기 한 번으로 자신의 맵을 채우고, 합칠 때는 작은 맵을 큰 맵에 더합니다.
+ */
+final class LedgerSumTask extends RecursiveTask<LongLongHashMap> {
+
+    private final PointOutbox outbox;
+    private final long fromOffset;
+    private final long toOffset;
+    private final int chunkRecords;
+
+    LedgerSumTask(PointOutbox outbox, long fromOffset, long toOffset, int chunkRecords) {
+        this.outbox = outbox;
+        this.fromOffset = fromOffset;
+        this.toOffset = toOffset;
+        this.chunkRecords = chunkRecords;
+    }
+
+    @Override
+    protected LongLongHashMap compute() {
+        if (toOffset - fromOffset <= chunkRecords) {
+            LongLongHashMap sums = new LongLongHashMap();
+            outbox.scan(fromOffset, toOffset, (userId, type, amount) -> sums.add(userId, type.signed(amount)));
+            return sums;
+        }
+        long middle = (fromOffset + toOffset) >>> 1;
+        LedgerSumTask left = new LedgerSumTask(outbox, fromOffset, middle, chunkRecords);
+        left.fork();
+        LongLongHashMap right = new LedgerSumTask(outbox, middle, toOffset, chunkRecords).compute();
+        return LongLongHashMap.merge(left.join(), right);
+    }
+}
@@ -0,0 +1,154 @@
+package io.hhplus.tdd.point.reconcile;
+
+import java.util.Arrays;
+
+/**
+ * long 키, long 값을 박싱 없이 저장하는 선형 탐사 해시 맵
+ *
+ * <p>수천만 유저의 합계를 {@code Map<Long, Long>}으로 모으면 항목마다 객체 3개가 생기므로, 집계 전용으로 사용합니다.
+ * 스레드 안전하지 않으며, 각 ForkJoin 작업이 자신의 맵을 채운 뒤 합칩니다.
+ */
+final class LongLongHashMap {
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, long value);
+    }
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private long[] keys;
+    private long[] values;
+    private boolean hasEmptyKey;
+    private long emptyKeyValue;
+    private int size;
+
+    LongLongHashMap() {
+        this(16);
+    }
+
+    LongLongHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * 키의 값에 {@code delta}를 더합니다. 없던 키는 0에서 시작합니다.
+     */
+    void add(long key, long delta) {
+        if (key == EMPTY) {
+            if (!hasEmptyKey) {
+                hasEmptyKey = true;
+                size++;
+            }
+            emptyKeyValue += delta;
+            return;
+        }
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                values[index] += delta;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = delta;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    long get(long key) {
+        if (key == EMPTY) {
+            return hasEmptyKey ? emptyKeyValue : 0;
+        }
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return 0;
+    }
+
+    boolean containsKey(long key) {
+        if (key == EMPTY) {
+            return hasEmptyKey;
+        }
+        int mask = keys.length - 1;
+        int index = mix(key) & mask;
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(EntryConsumer consumer) {
+        if (hasEmptyKey) {
+            consumer.accept(EMPTY, emptyKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * 두 맵을 합칩니다. 작은 쪽을 큰 쪽에 더하고, 합쳐진 맵을 반환합니다.
+     */
+    static LongLongHashMap merge(LongLongHashMap left, LongLongHashMap right) {
+        LongLongHashMap target = left.size >= right.size ? left : right;
+        LongLongHashMap source = target == left ? right : left;
+        source.forEach(target::add);
+        return target;
+    }
+
+    long[] keys() {
+        long[] result = new long[size];
+        int position = 0;
+        if (hasEmptyKey) {
+            result[position++] = EMPTY;
+        }
+        for (long key : keys) {
+            if (key != EMPTY) {
+                result[position++] = key;
+            }
+        }
+        return result;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        size = hasEmptyKey ? 1 : 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                add(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
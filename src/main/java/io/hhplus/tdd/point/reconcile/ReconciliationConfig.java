@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.reconcile;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 잔액-이력 대사 주기 작업 설정
+ *
+ * <p>주기마다 대사를 시작만 하고, 실제 집계는 대사 전용 스레드와 ForkJoinPool에서 실행됩니다.
+ */
+@Configuration
+public class ReconciliationConfig implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconciliationConfig.class);
+
+    private final LedgerReconciler ledgerReconciler;
+    private final ReconciliationProperties properties;
+
+    public ReconciliationConfig(LedgerReconciler ledgerReconciler, ReconciliationProperties properties) {
+        this.ledgerReconciler = ledgerReconciler;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (properties.enabled()) {
+            taskRegistrar.addFixedDelayTask(this::startReconciliation, properties.interval());
+        }
+    }
+
+    void startReconciliation() {
+        try {
+            ledgerReconciler.start();
+        } catch (RuntimeException e) {
+            log.warn("Failed to start point ledger reconciliation", e);
+        }
+    }
+}
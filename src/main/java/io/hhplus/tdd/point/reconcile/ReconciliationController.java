@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point.reconcile;
+
+import io.hhplus.tdd.point.dto.ReconciliationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/point/reconciliations")
+public class ReconciliationController {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconciliationController.class);
+
+    private final LedgerReconciler ledgerReconciler;
+
+    public ReconciliationController(LedgerReconciler ledgerReconciler) {
+        this.ledgerReconciler = ledgerReconciler;
+    }
+
+    /**
+     * 잔액-이력 대사를 시작합니다.
+     */
+    @PostMapping
+    public ResponseEntity<ReconciliationResponse> start() {
+        LedgerReconciliation reconciliation = ledgerReconciler.start();
+        log.info("Started point ledger reconciliation: {}", reconciliation.id());
+        return ResponseEntity.accepted()
+            .location(URI.create("/point/reconciliations/" + reconciliation.id()))
+            .body(ReconciliationResponse.from(reconciliation));
+    }
+
+    /**
+     * 가장 최근 대사 결과를 조회합니다.
+     */
+    @GetMapping("latest")
+    public ReconciliationResponse latest() {
+        return ReconciliationResponse.from(ledgerReconciler.latest());
+    }
+
+    /**
+     * 대사 진행 상황과 불일치 유저를 조회합니다.
+     */
+    @GetMapping("{reconciliationId}")
+    public ReconciliationResponse status(@PathVariable String reconciliationId) {
+        return ReconciliationResponse.from(ledgerReconciler.find(reconciliationId));
+    }
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.reconcile;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 잔액-이력 대사 설정
+ *
+ * @param enabled 주기적으로 대사를 실행할지 여부 (API로 요청하는 실행은 항상 가능)
+ * @param interval 주기 실행 간격
+ * @param parallelism 대사 전용 ForkJoinPool 크기. 0이면 코어 수의 절반 (나머지는 실시간 요청 처리에 남김)
+ * @param chunkRecords 집계 작업 하나가 맡는 아웃박스 레코드 수
+ * @param chunkUsers 잔액 비교 작업 하나가 맡는 유저 수
+ * @param maxReportedMismatches 보고서에 담을 최대 불일치 건수 (총 건수는 별도로 집계)
+ */
+@ConfigurationProperties(prefix = "point.reconciliation")
+public record ReconciliationProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("1h") Duration interval,
+    @DefaultValue("0") int parallelism,
+    @DefaultValue("1000000") int chunkRecords,
+    @DefaultValue("4096") int chunkUsers,
+    @DefaultValue("1000") int maxReportedMismatches
+) {
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point.snapshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 시작 시 스냅샷 복원, 종료 시 스냅샷 저장
+ *
+ * <p>웹 서버 라이프사이클(phase {@code Integer.MAX_VALUE - 1024})보다 먼저 시작하고 나중에 종료되므로,
+ * 복원이 끝나기 전에는 요청을 받지 않고 저장은 요청 처리가 멈춘 뒤에 실행됩니다.
+ * 레디니스(ACCEPTING_TRAFFIC)는 컨텍스트 시작이 모두 끝난 뒤 발행되므로 복원 완료 이후에만 보고됩니다.
+ * 주기 작업(만료, 계층화)도 컨텍스트 refresh 이후에 시작되므로 복원과 겹치지 않습니다.
+ */
+@Component
+public class PointSnapshotLifecycle implements SmartLifecycle {
+
+    static final int PHASE = Integer.MAX_VALUE - 2048;
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotLifecycle.class);
+
+    private final PointSnapshotRestorer restorer;
+    private final PointSnapshotWriter writer;
+    private final PointSnapshotProperties properties;
+    private volatile boolean running;
+
+    public PointSnapshotLifecycle(PointSnapshotRestorer restorer, PointSnapshotWriter writer,
+                                  PointSnapshotProperties properties) {
+        this.restorer = restorer;
+        this.writer = writer;
+        this.properties = properties;
+    }
+
+    @Override
+    public void start() {
+        if (properties.enabled()) {
+            try {
+                restorer.restore();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to restore point snapshot from " + properties.directory(), e);
+            }
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (properties.enabled()) {
+            try {
+                writer.write();
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to write point snapshot to {}", properties.directory(), e);
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * 포인트 스냅샷 설정
+ *
+ * @param enabled 종료 시 스냅샷 저장, 시작 시 복원 여부
+ * @param directory 스냅샷 파티션 파일을 저장할 디렉터리
+ * @param partitions 저장할 파티션 수 (userId 기준 분할)
+ * @param parallelism 복원 시 파티션 디코딩 병렬도. 0이면 CPU 코어 수
+ */
+@ConfigurationProperties(prefix = "point.snapshot")
+public record PointSnapshotProperties(
+    @DefaultValue("false") boolean enabled,
+    Path directory,
+    @DefaultValue("16") int partitions,
+    @DefaultValue("0") int parallelism
+) {
+    public int effectiveParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+}
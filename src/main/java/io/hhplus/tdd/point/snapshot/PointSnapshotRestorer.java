@@ -0,0 +1,227 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointUserDirectory;
+import io.hhplus.tdd.point.expiry.PointLotLedger;
+import io.hhplus.tdd.point.leaderboard.BalanceLeaderboard;
+import io.hhplus.tdd.point.store.BulkLoadablePointHistoryStore;
+import io.hhplus.tdd.point.store.BulkLoadableUserPointStore;
+import io.hhplus.tdd.point.store.PointHistoryStore;
+import io.hhplus.tdd.point.store.UserPointStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StopWatch;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 파티션 스냅샷으로부터 테이블 상태 복원
+ *
+ * <p>decode 단계에서 파티션마다 fork-join 작업 하나로 파일을 병렬 디코딩한 뒤, 저장소에 따라 적재 방식을 고릅니다.
+ *
+ * <p>두 저장소가 모두 일괄 적재({@link BulkLoadableUserPointStore}, {@link BulkLoadablePointHistoryStore})를
+ * 지원하면(메모리 저장소):
+ * <ol>
+ *   <li>apply: 같은 fork-join 풀에서 파티션을 병렬로 적재. 유저마다 잔액과 이력을 스냅샷의 id·updateMillis 그대로 넣고
+ *   유저 목록, 만료 장부, 잔액 리더보드도 함께 채움 (모두 유저별로 독립된 동시성 자료구조)</li>
+ * </ol>
+ *
+ * <p>그렇지 않으면(테이블 저장소, 지연을 주입한 저장소):
+ * <ol>
+ *   <li>sort-histories: 전체 이력을 id 순으로 병렬 정렬</li>
+ *   <li>apply-users / apply-histories: 테이블 공개 API로 순차 적재 (테이블은 스레드 안전하지 않고 id를 직접 부여함)</li>
+ *   <li>rebuild-indexes: 유저 목록, 만료 장부, 잔액 리더보드를 파티션별로 병렬 재구성</li>
+ * </ol>
+ * 이력은 빈 테이블에 id 순서대로 넣으므로 스냅샷 시점과 같은 id를 다시 받습니다.
+ * 포인트의 updateMillis는 테이블 API가 현재 시각으로 기록하므로 복원 시각으로 바뀝니다.
+ */
+@Component
+public class PointSnapshotRestorer {
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotRestorer.class);
+
+    private final UserPointStore userPointStore;
+    private final PointHistoryStore pointHistoryStore;
+    private final PointUserDirectory pointUserDirectory;
+    private final PointLotLedger pointLotLedger;
+    private final BalanceLeaderboard balanceLeaderboard;
+    private final PointSnapshotProperties properties;
+
+    public PointSnapshotRestorer(UserPointStore userPointStore, PointHistoryStore pointHistoryStore,
+                                 PointUserDirectory pointUserDirectory, PointLotLedger pointLotLedger,
+                                 BalanceLeaderboard balanceLeaderboard, PointSnapshotProperties properties) {
+        this.userPointStore = userPointStore;
+        this.pointHistoryStore = pointHistoryStore;
+        this.pointUserDirectory = pointUserDirectory;
+        this.pointLotLedger = pointLotLedger;
+        this.balanceLeaderboard = balanceLeaderboard;
+        this.properties = properties;
+    }
+
+    /**
+     * 스냅샷이 있으면 복원합니다.
+     *
+     * @return 복원한 유저 수. 스냅샷이 없으면 0
+     */
+    public long restore() throws IOException {
+        Path manifestFile = properties.directory().resolve(PointSnapshotWriter.MANIFEST);
+        if (!Files.exists(manifestFile)) {
+            log.info("No point snapshot found at {}, starting empty", properties.directory());
+            return 0;
+        }
+        StopWatch stopWatch = new StopWatch("point-snapshot-restore");
+
+        stopWatch.start("decode");
+        int partitions = readPartitionCount(manifestFile);
+        List<Path> files = new ArrayList<>(partitions);
+        for (int partition = 0; partition < partitions; partition++) {
+            files.add(PointSnapshotWriter.partitionFile(properties.directory(), partition));
+        }
+        List<List<UserSnapshot>> decoded = decodePartitions(files, properties.effectiveParallelism());
+        stopWatch.stop();
+
+        long users = decoded.stream().mapToLong(List::size).sum();
+        if (userPointStore instanceof BulkLoadableUserPointStore bulkPoints
+            && pointHistoryStore instanceof BulkLoadablePointHistoryStore bulkHistories) {
+            stopWatch.start("apply");
+            forEachUserInParallel(decoded, user -> {
+                bulkPoints.load(user.userPoint());
+                bulkHistories.load(user.userPoint().id(), user.histories());
+                rebuildIndexes(user);
+            });
+            stopWatch.stop();
+            log.info("Restored {} users from {} partitions\n{}",
+                users, partitions, stopWatch.prettyPrint(TimeUnit.MILLISECONDS));
+            return users;
+        }
+
+        stopWatch.start("sort-histories");
+        PointHistory[] histories = decoded.stream()
+            .flatMap(List::stream)
+            .flatMap(user -> user.histories().stream())
+            .toArray(PointHistory[]::new);
+        Arrays.parallelSort(histories, Comparator.comparingLong(PointHistory::id));
+        stopWatch.stop();
+
+        stopWatch.start("apply-users");
+        for (List<UserSnapshot> partition : decoded) {
+            for (UserSnapshot user : partition) {
+                userPointStore.insertOrUpdate(user.userPoint().id(), user.userPoint().point());
+            }
+        }
+        stopWatch.stop();
+
+        stopWatch.start("apply-histories");
+        long shifted = 0;
+        for (PointHistory history : histories) {
+            PointHistory inserted = pointHistoryStore.insert(
+                history.userId(), history.amount(), history.type(), history.updateMillis());
+            if (inserted.id() != history.id()) {
+                shifted++;
+            }
+        }
+        stopWatch.stop();
+
+        stopWatch.start("rebuild-indexes");
+        forEachUserInParallel(decoded, this::rebuildIndexes);
+        stopWatch.stop();
+
+        if (shifted > 0) {
+            log.warn("{} restored histories received different ids than in the snapshot", shifted);
+        }
+        log.info("Restored {} users and {} histories from {} partitions\n{}",
+            users, histories.length, partitions, stopWatch.prettyPrint(TimeUnit.MILLISECONDS));
+        return users;
+    }
+
+    private void rebuildIndexes(UserSnapshot user) {
+        pointUserDirectory.register(user.userPoint().id());
+        pointLotLedger.replay(user.userPoint().id(), user.histories());
+        balanceLeaderboard.update(user.userPoint().id(), user.userPoint().point());
+    }
+
+    /**
+     * 파티션마다 fork-join 작업 하나로 유저를 처리합니다. 한 유저는 한 파티션에만 있으므로 같은 유저를 동시에 다루지 않습니다.
+     */
+    private void forEachUserInParallel(List<List<UserSnapshot>> decoded, Consumer<UserSnapshot> action) {
+        ForkJoinPool pool = new ForkJoinPool(properties.effectiveParallelism());
+        try {
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(decoded.stream()
+                .map(partition -> ForkJoinTask.adapt(() -> partition.forEach(action)))
+                .toList())));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * 파티션 파일을 fork-join 풀에서 병렬로 디코딩합니다. 결과는 파일 순서를 유지합니다.
+     */
+    static List<List<UserSnapshot>> decodePartitions(List<Path> files, int parallelism) throws IOException {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return pool.invoke(new DecodeTask(files, 0, files.size()));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static int readPartitionCount(Path manifestFile) throws IOException {
+        Properties manifest = new Properties();
+        try (InputStream in = Files.newInputStream(manifestFile)) {
+            manifest.load(in);
+        }
+        return Integer.parseInt(manifest.getProperty("partitions"));
+    }
+
+    private static final class DecodeTask extends RecursiveTask<List<List<UserSnapshot>>> {
+
+        private final List<Path> files;
+        private final int from;
+        private final int to;
+
+        DecodeTask(List<Path> files, int from, int to) {
+            this.files = files;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<List<UserSnapshot>> compute() {
+            if (to - from == 1) {
+                try {
+                    return List.of(SnapshotPartitionCodec.read(files.get(from)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            if (to == from) {
+                return List.of();
+            }
+            int mid = (from + to) >>> 1;
+            DecodeTask left = new DecodeTask(files, from, mid);
+            left.fork();
+            List<List<UserSnapshot>> right = new DecodeTask(files, mid, to).compute();
+            List<List<UserSnapshot>> result = new ArrayList<>(left.join());
+            result.addAll(right);
+            return result;
+        }
+    }
+}
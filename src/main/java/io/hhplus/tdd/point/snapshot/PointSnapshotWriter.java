@@ -0,0 +1,119 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.point.PointUserDirectory;
+import io.hhplus.tdd.point.store.PointHistoryStore;
+import io.hhplus.tdd.point.store.UserPointStore;
+import io.hhplus.tdd.point.tiering.ColdHistoryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StopWatch;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테이블 상태를 userId 기준 파티션 파일로 저장
+ *
+ * <p>유저마다 포인트와 이력(cold tier로 옮긴 이력 포함)을 조회해 해당 파티션 파일에 바로 쓰며, 모든 파티션을 쓴 뒤 마지막으로
+ * 매니페스트를 원자적으로 기록합니다. 매니페스트가 없으면 복원하지 않으므로 저장 도중 중단된 스냅샷은 사용되지 않습니다.
+ */
+@Component
+public class PointSnapshotWriter {
+
+    static final String MANIFEST = "manifest.properties";
+    static final String PARTITION_GLOB = "partition-*.snap";
+
+    private static final Logger log = LoggerFactory.getLogger(PointSnapshotWriter.class);
+
+    private final UserPointStore userPointStore;
+    private final PointHistoryStore pointHistoryStore;
+    private final ColdHistoryStore coldHistoryStore;
+    private final PointUserDirectory pointUserDirectory;
+    private final PointSnapshotProperties properties;
+
+    public PointSnapshotWriter(UserPointStore userPointStore, PointHistoryStore pointHistoryStore,
+                               ColdHistoryStore coldHistoryStore, PointUserDirectory pointUserDirectory,
+                               PointSnapshotProperties properties) {
+        this.userPointStore = userPointStore;
+        this.pointHistoryStore = pointHistoryStore;
+        this.coldHistoryStore = coldHistoryStore;
+        this.pointUserDirectory = pointUserDirectory;
+        this.properties = properties;
+    }
+
+    static Path partitionFile(Path directory, int partition) {
+        return directory.resolve(String.format("partition-%04d.snap", partition));
+    }
+
+    public void write() throws IOException {
+        Path directory = properties.directory();
+        int partitions = properties.partitions();
+        StopWatch stopWatch = new StopWatch("point-snapshot-write");
+
+        stopWatch.start("prepare");
+        Files.createDirectories(directory);
+        Files.deleteIfExists(directory.resolve(MANIFEST));
+        try (DirectoryStream<Path> previous = Files.newDirectoryStream(directory, PARTITION_GLOB)) {
+            for (Path file : previous) {
+                Files.delete(file);
+            }
+        }
+        stopWatch.stop();
+
+        stopWatch.start("write-partitions");
+        long users = 0;
+        SnapshotPartitionCodec.PartitionWriter[] writers = new SnapshotPartitionCodec.PartitionWriter[partitions];
+        try {
+            for (int partition = 0; partition < partitions; partition++) {
+                writers[partition] = SnapshotPartitionCodec.open(partFile(directory, partition), partition);
+            }
+            for (long userId : pointUserDirectory.userIds()) {
+                writers[Math.floorMod(userId, partitions)].write(userPointStore.selectById(userId),
+                    coldHistoryStore.merge(userId, pointHistoryStore.selectAllByUserId(userId)));
+                users++;
+            }
+        } finally {
+            for (SnapshotPartitionCodec.PartitionWriter writer : writers) {
+                if (writer != null) {
+                    writer.close();
+                }
+            }
+        }
+        for (int partition = 0; partition < partitions; partition++) {
+            Files.move(partFile(directory, partition), partitionFile(directory, partition),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        }
+        stopWatch.stop();
+
+        stopWatch.start("write-manifest");
+        writeManifest(directory, partitions, users);
+        stopWatch.stop();
+
+        log.info("Wrote point snapshot of {} users into {} partitions at {}\n{}",
+            users, partitions, directory, stopWatch.prettyPrint(TimeUnit.MILLISECONDS));
+    }
+
+    private static Path partFile(Path directory, int partition) {
+        return directory.resolve(String.format("partition-%04d.snap.part", partition));
+    }
+
+    static void writeManifest(Path directory, int partitions, long users) throws IOException {
+        Properties manifest = new Properties();
+        manifest.setProperty("partitions", Integer.toString(partitions));
+        manifest.setProperty("users", Long.toString(users));
+        manifest.setProperty("createdMillis", Long.toString(System.currentTimeMillis()));
+
+        Path temp = directory.resolve(MANIFEST + ".part");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            manifest.store(out, "point snapshot");
+        }
+        Files.move(temp, directory.resolve(MANIFEST), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+}
@@ -0,0 +1,131 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 스냅샷 파티션 파일 인코더/디코더
+ *
+ * <pre>
+ * [magic:int][version:byte][partition:int]
+ * ['U'][userId:long][point:long][updateMillis:long][historyCount:int]
+ *     ([id:long][amount:long][type:byte][updateMillis:long])*   ← 유저마다 반복
+ * ['E'][userCount:int][historyCount:long][crc32:int]
+ * </pre>
+ * 유저 단위로 스트리밍하여 쓰므로 저장 시 전체 데이터를 메모리에 올리지 않습니다.
+ */
+final class SnapshotPartitionCodec {
+
+    static final int MAGIC = 0x50534E50; // "PSNP"
+    static final byte VERSION = 1;
+    private static final byte USER = 'U';
+    private static final byte END = 'E';
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private SnapshotPartitionCodec() {
+    }
+
+    static PartitionWriter open(Path file, int partition) throws IOException {
+        return new PartitionWriter(file, partition);
+    }
+
+    static List<UserSnapshot> read(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+            new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE), crc))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a point snapshot partition: " + file);
+            }
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported point snapshot version " + version + ": " + file);
+            }
+            in.readInt(); // partition
+
+            List<UserSnapshot> users = new ArrayList<>();
+            long historyCount = 0;
+            for (byte tag = in.readByte(); tag == USER; tag = in.readByte()) {
+                long userId = in.readLong();
+                UserPoint userPoint = new UserPoint(userId, in.readLong(), in.readLong());
+                int count = in.readInt();
+                List<PointHistory> histories = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    histories.add(new PointHistory(
+                        in.readLong(), userId, in.readLong(), TYPES[in.readByte()], in.readLong()));
+                }
+                users.add(new UserSnapshot(userPoint, histories));
+                historyCount += count;
+            }
+
+            if (in.readInt() != users.size() || in.readLong() != historyCount) {
+                throw new IOException("Point snapshot partition is truncated: " + file);
+            }
+            int expected = (int) crc.getValue();
+            if (in.readInt() != expected) {
+                throw new IOException("Point snapshot partition checksum mismatch: " + file);
+            }
+            return users;
+        }
+    }
+
+    /**
+     * 파티션 파일 하나에 유저를 순서대로 기록합니다. 닫을 때 종료 마커와 체크섬을 씁니다.
+     */
+    static final class PartitionWriter implements Closeable {
+
+        private final CRC32 crc = new CRC32();
+        private final DataOutputStream out;
+        private int userCount;
+        private long historyCount;
+
+        private PartitionWriter(Path file, int partition) throws IOException {
+            this.out = new DataOutputStream(new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE), crc));
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(partition);
+        }
+
+        void write(UserPoint userPoint, List<PointHistory> histories) throws IOException {
+            out.writeByte(USER);
+            out.writeLong(userPoint.id());
+            out.writeLong(userPoint.point());
+            out.writeLong(userPoint.updateMillis());
+            out.writeInt(histories.size());
+            for (PointHistory history : histories) {
+                out.writeLong(history.id());
+                out.writeLong(history.amount());
+                out.writeByte(history.type().ordinal());
+                out.writeLong(history.updateMillis());
+            }
+            userCount++;
+            historyCount += histories.size();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (out) {
+                out.writeByte(END);
+                out.writeInt(userCount);
+                out.writeLong(historyCount);
+                out.writeInt((int) crc.getValue());
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.List;
+
+/**
+ * 스냅샷에 저장된 한 유저의 포인트와 이력 (이력은 id 오름차순)
+ */
+public record UserSnapshot(
+    UserPoint userPoint,
+    List<PointHistory> histories
+) {
+}
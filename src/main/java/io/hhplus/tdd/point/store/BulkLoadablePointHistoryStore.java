@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.PointHistory;
+
+import java.util.List;
+
+/**
+ * 스냅샷 이력을 id 그대로 적재할 수 있는 이력 저장소
+ *
+ * <p>스냅샷 복원은 이 타입의 저장소일 때만 유저별로 병렬 적재합니다.
+ * 서로 다른 유저의 {@link #load}는 여러 스레드에서 동시에 호출될 수 있습니다.
+ */
+public interface BulkLoadablePointHistoryStore extends PointHistoryStore {
+
+    /**
+     * 스냅샷의 한 유저 이력을 id 그대로 적재합니다. 이후 저장되는 이력은 적재한 id보다 큰 id를 받습니다.
+     *
+     * @param histories 한 유저의 이력 (id 오름차순)
+     */
+    void load(long userId, List<PointHistory> histories);
+}
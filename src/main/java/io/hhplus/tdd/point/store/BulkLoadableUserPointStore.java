@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 스냅샷 잔액을 그대로 적재할 수 있는 잔액 저장소
+ *
+ * <p>스냅샷 복원은 이 타입의 저장소일 때만 유저별로 병렬 적재합니다.
+ * 서로 다른 유저의 {@link #load}는 여러 스레드에서 동시에 호출될 수 있습니다.
+ */
+public interface BulkLoadableUserPointStore extends UserPointStore {
+
+    /**
+     * 스냅샷의 잔액을 updateMillis까지 그대로 적재합니다.
+     */
+    void load(UserPoint userPoint);
+}
@@ -0,0 +1,113 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 지연 없이 메모리에만 보관하는 이력 저장소
+ *
+ * <p>{@code PointHistoryTable}은 조회할 때마다 전체 이력을 훑지만, 여기서는 유저별 배열에 이어 붙이므로
+ * 조회 비용이 해당 유저의 이력 수에만 비례합니다. 조회는 락 없이 배열의 앞부분을 복사합니다.
+ * cold tier로 옮긴 앞부분 이력은 {@link #deleteThrough}로 비워 메모리를 돌려받습니다.
+ * 스냅샷 복원은 {@link #load}로 유저별 배열을 한 번에 채우므로 서로 다른 유저를 병렬로 적재할 수 있습니다.
+ */
+public class InMemoryPointHistoryStore implements BulkLoadablePointHistoryStore {
+
+    private final Map<Long, UserHistories> histories = new ConcurrentHashMap<>();
+    private final AtomicLong cursor = new AtomicLong(1);
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        return histories.computeIfAbsent(userId, id -> new UserHistories())
+            .append(userId, amount, type, updateMillis, cursor);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        UserHistories userHistories = histories.get(userId);
+        return userHistories != null ? userHistories.snapshot() : List.of();
+    }
+
+    @Override
+    public void load(long userId, List<PointHistory> loaded) {
+        if (loaded.isEmpty()) {
+            return;
+        }
+        histories.computeIfAbsent(userId, id -> new UserHistories()).load(loaded);
+        cursor.accumulateAndGet(loaded.get(loaded.size() - 1).id() + 1, Math::max);
+    }
+
+    @Override
+    public boolean deleteThrough(long userId, long historyId) {
+        UserHistories userHistories = histories.get(userId);
+        if (userHistories != null) {
+            userHistories.deleteThrough(historyId);
+        }
+        return true;
+    }
+
+    /**
+     * 한 유저의 이력 배열
+     *
+     * <p>쓰기는 동기화하고, 읽기는 락 없이 현재 {@link Window}를 읽습니다.
+     * 추가는 배열의 빈 칸을 채운 뒤 크기를 늘린 창을 발행하고, 배열을 늘리거나 앞부분을 지울 때는
+     * 새 배열로 복사를 마친 뒤 창을 교체합니다. 창은 배열과 크기를 함께 담으므로 어느 창을 보더라도 앞의 {@code size}개는 채워져 있습니다.
+     */
+    private static final class UserHistories {
+
+        private volatile Window window = new Window(new PointHistory[8], 0);
+
+        synchronized PointHistory append(long userId, long amount, TransactionType type, long updateMillis,
+                                         AtomicLong cursor) {
+            Window current = window;
+            PointHistory[] items = current.items();
+            if (current.size() == items.length) {
+                items = Arrays.copyOf(items, items.length * 2);
+            }
+            PointHistory history = new PointHistory(cursor.getAndIncrement(), userId, amount, type, updateMillis);
+            items[current.size()] = history;
+            window = new Window(items, current.size() + 1);
+            return history;
+        }
+
+        synchronized void load(List<PointHistory> loaded) {
+            Window current = window;
+            PointHistory[] items = Arrays.copyOf(current.items(), Math.max(8, (current.size() + loaded.size()) * 2));
+            int size = current.size();
+            for (PointHistory history : loaded) {
+                items[size++] = history;
+            }
+            window = new Window(items, size);
+        }
+
+        synchronized void deleteThrough(long historyId) {
+            Window current = window;
+            int from = 0;
+            while (from < current.size() && current.items()[from].id() <= historyId) {
+                from++;
+            }
+            if (from == 0) {
+                return;
+            }
+            int remaining = current.size() - from;
+            PointHistory[] items = new PointHistory[Math.max(8, remaining * 2)];
+            System.arraycopy(current.items(), from, items, 0, remaining);
+            window = new Window(items, remaining);
+        }
+
+        List<PointHistory> snapshot() {
+            Window current = window;
+            return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(current.items(), current.size())));
+        }
+    }
+
+    private record Window(PointHistory[] items, int size) {
+    }
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 지연 없이 메모리에만 보관하는 잔액 저장소
+ */
+public class InMemoryUserPointStore implements BulkLoadableUserPointStore {
+
+    private final Map<Long, UserPoint> points = new ConcurrentHashMap<>();
+
+    @Override
+    public UserPoint selectById(long id) {
+        UserPoint userPoint = points.get(id);
+        return userPoint != null ? userPoint : UserPoint.empty(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+        points.put(id, userPoint);
+        return userPoint;
+    }
+
+    @Override
+    public void load(UserPoint userPoint) {
+        points.put(userPoint.id(), userPoint);
+    }
+}
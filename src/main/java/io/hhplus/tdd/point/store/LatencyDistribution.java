@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point.store;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+/**
+ * 저장소 호출 한 번의 지연 분포
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    LatencyDistribution NONE = random -> 0L;
+
+    /**
+     * 지연 한 건을 나노초 단위로 뽑습니다. 음수를 반환하지 않습니다.
+     */
+    long sampleNanos(RandomGenerator random);
+
+    static LatencyDistribution fixed(Duration latency) {
+        long nanos = latency.toNanos();
+        return random -> nanos;
+    }
+
+    static LatencyDistribution uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long maxNanos = max.toNanos();
+        if (maxNanos <= minNanos) {
+            return random -> minNanos;
+        }
+        return random -> random.nextLong(minNanos, maxNanos + 1);
+    }
+
+    /**
+     * 중앙값이 {@code median}인 로그 정규 분포. {@code sigma}가 1이면 약 1% 호출이 중앙값의 10배를 넘습니다.
+     */
+    static LatencyDistribution logNormal(Duration median, double sigma) {
+        double mu = Math.log(Math.max(1L, median.toNanos()));
+        return random -> (long) Math.exp(mu + sigma * random.nextGaussian());
+    }
+
+    /**
+     * {@code probability} 확률로 {@code spike}를 더하는 분포를 반환합니다.
+     */
+    default LatencyDistribution withSpikes(double probability, Duration spike) {
+        if (probability <= 0) {
+            return this;
+        }
+        long spikeNanos = spike.toNanos();
+        return random -> {
+            long nanos = sampleNanos(random);
+            return random.nextDouble() < probability ? nanos + spikeNanos : nanos;
+        };
+    }
+
+    static LatencyDistribution from(PointStoreProperties.LatencyProfile profile) {
+        LatencyDistribution base = switch (profile.distribution()) {
+            case NONE -> NONE;
+            case FIXED -> fixed(profile.fixed());
+            case UNIFORM -> uniform(profile.min(), profile.max());
+            case LOG_NORMAL -> logNormal(profile.median(), profile.sigma());
+        };
+        return base.withSpikes(profile.spikeProbability(), profile.spike());
+    }
+}
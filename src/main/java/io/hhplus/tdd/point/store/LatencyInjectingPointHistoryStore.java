@@ -0,0 +1,38 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+
+/**
+ * 다른 이력 저장소의 호출마다 설정된 지연을 더하는 데코레이터
+ */
+public class LatencyInjectingPointHistoryStore implements PointHistoryStore {
+
+    private final PointHistoryStore delegate;
+    private final LatencyInjector latencyInjector;
+
+    public LatencyInjectingPointHistoryStore(PointHistoryStore delegate, LatencyInjector latencyInjector) {
+        this.delegate = delegate;
+        this.latencyInjector = latencyInjector;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        latencyInjector.beforeWrite();
+        return delegate.insert(userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        latencyInjector.beforeRead();
+        return delegate.selectAllByUserId(userId);
+    }
+
+    @Override
+    public boolean deleteThrough(long userId, long historyId) {
+        latencyInjector.beforeWrite();
+        return delegate.deleteThrough(userId, historyId);
+    }
+}
@@ -0,0 +1,29 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 다른 잔액 저장소의 호출마다 설정된 지연을 더하는 데코레이터
+ */
+public class LatencyInjectingUserPointStore implements UserPointStore {
+
+    private final UserPointStore delegate;
+    private final LatencyInjector latencyInjector;
+
+    public LatencyInjectingUserPointStore(UserPointStore delegate, LatencyInjector latencyInjector) {
+        this.delegate = delegate;
+        this.latencyInjector = latencyInjector;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        latencyInjector.beforeRead();
+        return delegate.selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        latencyInjector.beforeWrite();
+        return delegate.insertOrUpdate(id, amount);
+    }
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.store;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 저장소 호출 전에 조회/저장 지연을 만들어 내는 도구
+ *
+ * <p>{@code Thread.sleep} 대신 {@link LockSupport#parkNanos}로 기다리므로 가상 스레드에서도 캐리어 스레드를 붙잡지 않습니다.
+ * 기다리는 중 인터럽트되면 남은 지연을 건너뛰고 인터럽트 상태를 유지합니다.
+ */
+public class LatencyInjector {
+
+    private final LatencyDistribution read;
+    private final LatencyDistribution write;
+
+    public LatencyInjector(LatencyDistribution read, LatencyDistribution write) {
+        this.read = read;
+        this.write = write;
+    }
+
+    public void beforeRead() {
+        pause(read.sampleNanos(ThreadLocalRandom.current()));
+    }
+
+    public void beforeWrite() {
+        pause(write.sampleNanos(ThreadLocalRandom.current()));
+    }
+
+    private static void pause(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        long deadline = System.nanoTime() + nanos;
+        long remaining = nanos;
+        while (remaining > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+            remaining = deadline - System.nanoTime();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.List;
+
+/**
+ * 포인트 이력 저장소
+ *
+ * <p>이력 ID는 저장소 전체에서 증가하는 순번이며, 한 유저의 이력은 저장된 순서대로 조회됩니다.
+ */
+public interface PointHistoryStore {
+
+    PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+    /**
+     * 유저의 이력을 저장된 순서대로 반환합니다. 반환된 목록은 이후의 저장에 영향을 받지 않습니다.
+     */
+    List<PointHistory> selectAllByUserId(long userId);
+
+    /**
+     * 유저의 이력 중 id가 {@code historyId} 이하인 항목을 삭제합니다. 다른 곳(cold tier 등)에 옮긴 이력을 비울 때 사용합니다.
+     *
+     * @return 삭제했으면 true, 삭제를 지원하지 않는 저장소면 false
+     */
+    default boolean deleteThrough(long userId, long historyId) {
+        return false;
+    }
+}
@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 잔액/이력 저장소 설정
+ *
+ * <p>{@code point.store.backend}로 구현을 고르고, 조회/저장 지연 중 하나라도 설정되어 있으면 지연 데코레이터로 감쌉니다.
+ * 예를 들어 MEMORY 저장소에 LOG_NORMAL 지연을 주면 테이블의 무작위 지연 대신 운영 DB와 비슷한 지연 분포로 부하 테스트할 수 있습니다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class PointStoreConfig {
+
+    @Bean
+    public UserPointStore userPointStore(PointStoreProperties properties, UserPointTable userPointTable) {
+        UserPointStore store = switch (properties.backend()) {
+            case TABLE -> new TableUserPointStore(userPointTable);
+            case MEMORY -> new InMemoryUserPointStore();
+        };
+        return injectsLatency(properties) ? new LatencyInjectingUserPointStore(store, latencyInjector(properties)) : store;
+    }
+
+    @Bean
+    public PointHistoryStore pointHistoryStore(PointStoreProperties properties, PointHistoryTable pointHistoryTable) {
+        PointHistoryStore store = switch (properties.backend()) {
+            case TABLE -> new TablePointHistoryStore(pointHistoryTable);
+            case MEMORY -> new InMemoryPointHistoryStore();
+        };
+        return injectsLatency(properties)
+            ? new LatencyInjectingPointHistoryStore(store, latencyInjector(properties)) : store;
+    }
+
+    private static boolean injectsLatency(PointStoreProperties properties) {
+        return properties.read().injects() || properties.write().injects();
+    }
+
+    private static LatencyInjector latencyInjector(PointStoreProperties properties) {
+        return new LatencyInjector(
+            LatencyDistribution.from(properties.read()), LatencyDistribution.from(properties.write()));
+    }
+}
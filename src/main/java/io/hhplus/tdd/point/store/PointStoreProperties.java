@@ -0,0 +1,70 @@
+package io.hhplus.tdd.point.store;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 잔액/이력 저장소 설정
+ *
+ * @param backend 저장소 구현. TABLE은 기존 테이블(호출마다 무작위 지연), MEMORY는 지연 없는 메모리 저장소
+ * @param read 조회 호출에 더할 지연
+ * @param write 저장 호출에 더할 지연
+ */
+@ConfigurationProperties(prefix = "point.store")
+public record PointStoreProperties(
+    @DefaultValue("TABLE") Backend backend,
+    @DefaultValue LatencyProfile read,
+    @DefaultValue LatencyProfile write
+) {
+
+    public enum Backend {
+        TABLE, MEMORY
+    }
+
+    public enum Distribution {
+        /** 지연을 더하지 않음 */
+        NONE,
+        /** 항상 {@code fixed}만큼 */
+        FIXED,
+        /** {@code min} ~ {@code max} 사이 균등 분포 */
+        UNIFORM,
+        /** 중앙값 {@code median}, 로그 표준편차 {@code sigma}인 로그 정규 분포 */
+        LOG_NORMAL
+    }
+
+    /**
+     * 저장소 호출 한 번에 더할 지연 분포
+     *
+     * <p>분포와 관계없이 {@code spikeProbability} 확률로 {@code spike}만큼 더 지연시켜,
+     * GC 정지나 디스크 플러시처럼 드물게 길어지는 꼬리 지연을 흉내 냅니다.
+     *
+     * @param distribution 지연 분포
+     * @param fixed FIXED 분포의 지연
+     * @param min UNIFORM 분포의 최소 지연
+     * @param max UNIFORM 분포의 최대 지연
+     * @param median LOG_NORMAL 분포의 중앙값
+     * @param sigma LOG_NORMAL 분포의 로그 표준편차 (클수록 꼬리가 길어짐)
+     * @param spikeProbability 호출마다 꼬리 지연이 붙을 확률 (0이면 붙지 않음)
+     * @param spike 꼬리 지연 길이
+     */
+    public record LatencyProfile(
+        @DefaultValue("NONE") Distribution distribution,
+        @DefaultValue("1ms") Duration fixed,
+        @DefaultValue("0ms") Duration min,
+        @DefaultValue("5ms") Duration max,
+        @DefaultValue("2ms") Duration median,
+        @DefaultValue("0.5") double sigma,
+        @DefaultValue("0") double spikeProbability,
+        @DefaultValue("200ms") Duration spike
+    ) {
+
+        /**
+         * 실제로 지연을 더하는 설정인지 여부
+         */
+        public boolean injects() {
+            return distribution != Distribution.NONE || spikeProbability > 0;
+        }
+    }
+}
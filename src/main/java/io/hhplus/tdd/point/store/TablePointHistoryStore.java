@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link PointHistoryTable}을 그대로 사용하는 이력 저장소
+ *
+ * <p>테이블의 {@code selectAllByUserId}는 호출마다 전체 이력을 훑으므로, 유저마다 조회하는 배치 작업(내보내기, 스냅샷)이
+ * 유저 수 × 이력 수만큼 걸립니다. 저장은 테이블을 거치되, 테이블이 돌려준 이력을 유저별 색인에도 담아 두고
+ * 조회는 색인에서 해당 유저의 이력만 복사합니다. 색인은 테이블과 같은 이력 객체를 가리키므로 추가 메모리는 참조 크기뿐입니다.
+ *
+ * <p>테이블에는 삭제 API가 없으므로 {@link #deleteThrough}를 지원하지 않습니다.
+ */
+public class TablePointHistoryStore implements PointHistoryStore {
+
+    private final PointHistoryTable pointHistoryTable;
+    private final Map<Long, List<PointHistory>> historiesByUser = new ConcurrentHashMap<>();
+
+    public TablePointHistoryStore(PointHistoryTable pointHistoryTable) {
+        this.pointHistoryTable = pointHistoryTable;
+    }
+
+    @Override
+    public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory history = pointHistoryTable.insert(userId, amount, type, updateMillis);
+        List<PointHistory> histories = historiesByUser.computeIfAbsent(userId, id -> new ArrayList<>());
+        synchronized (histories) {
+            // 테이블 호출은 락 밖에서 하므로, 같은 유저의 저장이 겹치면 id 순서를 맞춰 끼워 넣음
+            int index = histories.size();
+            while (index > 0 && histories.get(index - 1).id() > history.id()) {
+                index--;
+            }
+            histories.add(index, history);
+        }
+        return history;
+    }
+
+    @Override
+    public List<PointHistory> selectAllByUserId(long userId) {
+        List<PointHistory> histories = historiesByUser.get(userId);
+        if (histories == null) {
+            return List.of();
+        }
+        synchronized (histories) {
+            return List.copyOf(histories);
+        }
+    }
+}
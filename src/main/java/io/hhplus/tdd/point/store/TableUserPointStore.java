@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * {@link UserPointTable}을 그대로 사용하는 잔액 저장소
+ */
+public class TableUserPointStore implements UserPointStore {
+
+    private final UserPointTable userPointTable;
+
+    public TableUserPointStore(UserPointTable userPointTable) {
+        this.userPointTable = userPointTable;
+    }
+
+    @Override
+    public UserPoint selectById(long id) {
+        return userPointTable.selectById(id);
+    }
+
+    @Override
+    public UserPoint insertOrUpdate(long id, long amount) {
+        return userPointTable.insertOrUpdate(id, amount);
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 유저 잔액 저장소
+ *
+ * <p>동시성은 호출자가 책임집니다. 같은 유저에 대한 쓰기는 유저 락 안에서만 호출된다고 가정합니다.
+ */
+public interface UserPointStore {
+
+    /**
+     * 유저의 잔액을 조회합니다. 저장된 적이 없으면 잔액 0을 반환합니다.
+     */
+    UserPoint selectById(long id);
+
+    /**
+     * 유저의 잔액을 저장하고, 저장된 값을 반환합니다.
+     */
+    UserPoint insertOrUpdate(long id, long amount);
+}
@@ -0,0 +1,114 @@
+package io.hhplus.tdd.point.stream;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.event.PointChangedEvent;
+import io.hhplus.tdd.point.exception.InvalidOperationException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+/**
+ * 유저별 잔액 변경 구독 관리
+ *
+ * <p>SSE 연결은 서블릿 비동기 요청으로 유지되므로 구독자마다 스레드를 점유하지 않습니다.
+ * 잔액이 바뀌면 {@link PointChangedEvent} 리스너(쓰기 스레드, 유저 락 보유 중)는 구독자의 대기 값만 교체하고,
+ * 실제 전송은 고정 크기의 전송 스레드 풀이 처리합니다. 구독자 수가 늘어도 스레드 수는 늘지 않습니다.
+ */
+@Component
+public class BalanceStreamHub {
+
+    private final Map<Long, Set<BalanceSubscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final PointStreamProperties properties;
+    private final ExecutorService dispatcher;
+
+    public BalanceStreamHub(PointStreamProperties properties) {
+        this.properties = properties;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(properties.dispatchThreads(), task -> {
+            Thread thread = new Thread(task, "point-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 유저의 잔액 변경을 구독합니다. 먼저 구독자로 등록한 뒤 {@code balanceReader}로 현재 잔액을 읽어 첫 이벤트로 보내므로,
+     * 조회와 등록 사이의 변경을 놓치지 않습니다. 그 사이 변경 이벤트가 먼저 도착했다면 더 최신 잔액만 전달됩니다.
+     */
+    public SseEmitter subscribe(long userId, LongFunction<UserPoint> balanceReader) {
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        BalanceSubscriber subscriber = new BalanceSubscriber(userId, emitter, dispatcher);
+        subscribers.compute(userId, (id, existing) -> {
+            Set<BalanceSubscriber> set = existing != null ? existing : new CopyOnWriteArraySet<>();
+            if (set.size() >= properties.maxSubscribersPerUser()) {
+                throw InvalidOperationException.tooManySubscribers(userId, properties.maxSubscribersPerUser());
+            }
+            set.add(subscriber);
+            return set;
+        });
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(error -> unsubscribe(subscriber));
+        try {
+            subscriber.offerCurrent(balanceReader.apply(userId));
+        } catch (RuntimeException e) {
+            unsubscribe(subscriber);
+            throw e;
+        }
+        return emitter;
+    }
+
+    @EventListener
+    public void onPointChanged(PointChangedEvent event) {
+        Set<BalanceSubscriber> userSubscribers = subscribers.get(event.userId());
+        if (userSubscribers == null) {
+            return;
+        }
+        for (BalanceSubscriber subscriber : userSubscribers) {
+            subscriber.offer(event.userPoint());
+        }
+    }
+
+    /**
+     * 모든 구독자에게 하트비트를 예약합니다. 전송에 실패한 연결은 정리됩니다.
+     */
+    void sendHeartbeats() {
+        for (Set<BalanceSubscriber> userSubscribers : subscribers.values()) {
+            for (BalanceSubscriber subscriber : userSubscribers) {
+                subscriber.offerHeartbeat();
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        dispatcher.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter().complete()));
+    }
+
+    private void unsubscribe(BalanceSubscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId(), (id, set) -> {
+            if (set.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
+    }
+}
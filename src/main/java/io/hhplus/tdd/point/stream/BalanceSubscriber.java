@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point.stream;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.dto.UserPointResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 한 SSE 연결의 잔액 구독자
+ *
+ * <p>보낼 값은 {@code pending} 하나만 두고 새 잔액이 오면 덮어씁니다(coalescing).
+ * 전송이 밀리는 느린 클라이언트도 대기열이 쌓이지 않고, 전송이 가능해지는 시점의 최신 잔액만 받습니다.
+ * 구독자마다 전송 작업은 최대 하나만 예약되므로, 같은 연결에 동시에 쓰지 않고 순서도 뒤바뀌지 않습니다.
+ */
+final class BalanceSubscriber {
+
+    private static final Object HEARTBEAT = new Object();
+
+    private final long userId;
+    private final SseEmitter emitter;
+    private final Executor dispatcher;
+    private final AtomicReference<Object> pending = new AtomicReference<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile long lastSentMillis = Long.MIN_VALUE;
+
+    BalanceSubscriber(long userId, SseEmitter emitter, Executor dispatcher) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.dispatcher = dispatcher;
+    }
+
+    long userId() {
+        return userId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    /**
+     * 보낼 잔액을 최신 값으로 교체하고 전송을 예약합니다. 호출 스레드에서는 전송하지 않습니다.
+     */
+    void offer(UserPoint userPoint) {
+        pending.set(userPoint);
+        schedule();
+    }
+
+    /**
+     * 구독 직후 읽은 현재 잔액을 예약합니다. 이미 보냈거나 대기 중인 잔액이 같거나 더 최신이면 건너뜁니다.
+     * 등록과 조회 사이에 변경 이벤트가 먼저 도착해도 그 잔액을 더 오래된 값으로 덮어쓰지 않습니다.
+     */
+    void offerCurrent(UserPoint current) {
+        while (true) {
+            Object waiting = pending.get();
+            if (current.updateMillis() < lastSentMillis
+                || waiting instanceof UserPoint pendingPoint && pendingPoint.updateMillis() >= current.updateMillis()) {
+                return;
+            }
+            if (pending.compareAndSet(waiting, current)) {
+                schedule();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 보낼 값이 없을 때만 하트비트를 예약합니다. 대기 중인 잔액을 덮어쓰지 않습니다.
+     */
+    void offerHeartbeat() {
+        if (pending.compareAndSet(null, HEARTBEAT)) {
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Object next = pending.getAndSet(null);
+            if (next == null) {
+                scheduled.set(false);
+                if (pending.get() == null || !scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                send(next);
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    private void send(Object next) throws IOException {
+        if (next == HEARTBEAT) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+            return;
+        }
+        UserPoint userPoint = (UserPoint) next;
+        if (userPoint.updateMillis() < lastSentMillis) {
+            return;
+        }
+        lastSentMillis = userPoint.updateMillis();
+        emitter.send(SseEmitter.event()
+            .name("balance")
+            .id(Long.toString(userPoint.updateMillis()))
+            .data(UserPointResponse.from(userPoint), MediaType.APPLICATION_JSON));
+    }
+}
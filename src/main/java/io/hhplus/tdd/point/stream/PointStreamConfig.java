@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.stream;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * 잔액 스트림 하트비트 주기 작업 설정
+ *
+ * <p>프록시가 유휴 연결을 끊지 않도록 주기적으로 SSE 주석을 보내고, 전송에 실패한(이미 끊긴) 연결을 정리합니다.
+ */
+@Configuration
+public class PointStreamConfig implements SchedulingConfigurer {
+
+    private final BalanceStreamHub balanceStreamHub;
+    private final PointStreamProperties properties;
+
+    public PointStreamConfig(BalanceStreamHub balanceStreamHub, PointStreamProperties properties) {
+        this.balanceStreamHub = balanceStreamHub;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.addFixedDelayTask(balanceStreamHub::sendHeartbeats, properties.heartbeat());
+    }
+}
@@ -0,0 +1,37 @@
+package io.hhplus.tdd.point.stream;
+
+import io.hhplus.tdd.point.PointService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/point")
+public class PointStreamController {
+
+    private static final Logger log = LoggerFactory.getLogger(PointStreamController.class);
+
+    private final PointService pointService;
+    private final BalanceStreamHub balanceStreamHub;
+
+    public PointStreamController(PointService pointService, BalanceStreamHub balanceStreamHub) {
+        this.pointService = pointService;
+        this.balanceStreamHub = balanceStreamHub;
+    }
+
+    /**
+     * 특정 유저의 잔액 변경을 SSE로 구독합니다. 연결 직후 현재 잔액을 보내고, 이후 변경될 때마다 최신 잔액을 보냅니다.
+     */
+    @GetMapping(value = "{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@PathVariable long id) {
+        log.info("Subscribing balance stream for user: {}", id);
+        return balanceStreamHub.subscribe(id, pointService::getUserPoint);
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 변경 스트림(SSE) 설정
+ *
+ * @param timeout 구독 유지 시간. 지나면 연결을 닫고 클라이언트가 다시 연결함
+ * @param heartbeat 연결 유지/끊긴 연결 감지를 위한 주석 전송 주기
+ * @param dispatchThreads 구독자에게 이벤트를 보내는 스레드 수
+ * @param maxSubscribersPerUser 유저당 최대 동시 구독 수
+ */
+@ConfigurationProperties(prefix = "point.stream")
+public record PointStreamProperties(
+    @DefaultValue("30m") Duration timeout,
+    @DefaultValue("15s") Duration heartbeat,
+    @DefaultValue("8") int dispatchThreads,
+    @DefaultValue("16") int maxSubscribersPerUser
+) {
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point.summary;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 한 유저의 잔액과 이력을 같은 시점으로 묶은 불변 스냅샷
+ *
+ * <p>이력은 버전 사이에 공유되는 추가 전용 배열에 담고, 각 스냅샷은 자신이 볼 수 있는 길이만 기억합니다.
+ * 새 버전은 배열 뒤에 이력을 덧붙여 만들므로 복사 없이 O(추가 건수)로 생성되며,
+ * 이전 버전의 독자는 자신의 길이 이후를 읽지 않으므로 덧붙이는 중에도 영향을 받지 않습니다.
+ * 덧붙이기는 항상 최신 버전에서 한 스레드(유저 락 보유자)만 수행해야 합니다.
+ */
+public final class PointSummary {
+
+    private static final PointHistory[] NO_HISTORIES = new PointHistory[0];
+
+    private final UserPoint userPoint;
+    private final PointHistory[] histories;
+    private final int historyCount;
+    private final long version;
+
+    private PointSummary(UserPoint userPoint, PointHistory[] histories, int historyCount, long version) {
+        this.userPoint = userPoint;
+        this.histories = histories;
+        this.historyCount = historyCount;
+        this.version = version;
+    }
+
+    static PointSummary of(UserPoint userPoint, List<PointHistory> histories) {
+        PointHistory[] items = histories.toArray(NO_HISTORIES);
+        return new PointSummary(userPoint, items, items.length, 0L);
+    }
+
+    /**
+     * 변경 후 잔액과 이번 변경의 이력을 반영한 다음 버전을 만듭니다.
+     */
+    PointSummary append(UserPoint updatedPoint, List<PointHistory> added) {
+        int newCount = historyCount + added.size();
+        PointHistory[] items = histories;
+        if (newCount > items.length) {
+            items = Arrays.copyOf(items, Math.max(newCount, items.length * 2));
+        }
+        for (int i = 0; i < added.size(); i++) {
+            items[historyCount + i] = added.get(i);
+        }
+        return new PointSummary(updatedPoint, items, newCount, version + 1);
+    }
+
+    public UserPoint userPoint() {
+        return userPoint;
+    }
+
+    /**
+     * 이 스냅샷 시점까지의 이력 (읽기 전용)
+     */
+    public List<PointHistory> histories() {
+        return Collections.unmodifiableList(Arrays.asList(histories).subList(0, historyCount));
+    }
+
+    /**
+     * 스냅샷을 만든 뒤 반영된 변경 횟수. 같은 유저의 스냅샷끼리만 비교할 수 있습니다.
+     */
+    public long version() {
+        return version;
+    }
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.summary;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저별 잔액·이력 스냅샷 보관소 설정
+ *
+ * @param maxUsers 보관할 최대 유저 수. 가득 차면 새 유저의 스냅샷은 보관하지 않고 조회마다 저장소에서 만듦
+ */
+@ConfigurationProperties(prefix = "point.summary")
+public record PointSummaryProperties(
+    @DefaultValue("100000") int maxUsers
+) {
+}
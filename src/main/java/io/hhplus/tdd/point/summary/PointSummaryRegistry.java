@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.summary;
+
+import io.hhplus.tdd.point.event.PointChangedEvent;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.store.PointHistoryStore;
+import io.hhplus.tdd.point.store.UserPointStore;
+import io.hhplus.tdd.point.tiering.ColdHistoryStore;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별 최신 {@link PointSummary} 보관소
+ *
+ * <p>쓰기 연산은 유저 락을 보유한 채 {@link PointChangedEvent}를 발행하고, 이 리스너가 다음 버전을 만들어 교체합니다.
+ * 독자는 맵에서 현재 버전을 읽기만 하므로 쓰기 락을 거치지 않고, 다른 독자나 쓰기를 막지도 않습니다.
+ *
+ * <p>아직 스냅샷이 없는 유저(시작 후 처음 조회, 스냅샷 복원 직후 등)는 첫 조회 때 유저 락 안에서 저장소를 읽어
+ * 한 번만 만듭니다. 스냅샷이 없는 동안의 변경 이벤트는 무시해도 되는데, 첫 조회가 그 변경까지 포함한 저장소를 읽기 때문입니다.
+ *
+ * <p>보관하는 유저 수는 {@link PointSummaryProperties#maxUsers()}로 제한합니다. 가득 차면 새 유저의 스냅샷은
+ * 같은 방식으로 유저 락 안에서 만들되 보관하지 않습니다.
+ */
+@Component
+public class PointSummaryRegistry {
+
+    private final Map<Long, PointSummary> summaries = new ConcurrentHashMap<>();
+    private final UserPointStore userPointStore;
+    private final PointHistoryStore pointHistoryStore;
+    private final ColdHistoryStore coldHistoryStore;
+    private final UserLockManager userLockManager;
+    private final PointSummaryProperties properties;
+
+    public PointSummaryRegistry(UserPointStore userPointStore, PointHistoryStore pointHistoryStore,
+                                ColdHistoryStore coldHistoryStore, UserLockManager userLockManager,
+                                PointSummaryProperties properties) {
+        this.userPointStore = userPointStore;
+        this.pointHistoryStore = pointHistoryStore;
+        this.coldHistoryStore = coldHistoryStore;
+        this.userLockManager = userLockManager;
+        this.properties = properties;
+    }
+
+    @EventListener
+    public void onPointChanged(PointChangedEvent event) {
+        summaries.computeIfPresent(event.userId(),
+            (userId, current) -> current.append(event.userPoint(), event.histories()));
+    }
+
+    /**
+     * 유저의 최신 스냅샷을 반환합니다.
+     */
+    public PointSummary get(long userId) {
+        PointSummary summary = summaries.get(userId);
+        return summary != null ? summary : load(userId);
+    }
+
+    private PointSummary load(long userId) {
+        return userLockManager.withUserLock(userId, () -> {
+            if (summaries.size() >= properties.maxUsers()) {
+                PointSummary cached = summaries.get(userId);
+                return cached != null ? cached : read(userId);
+            }
+            return summaries.computeIfAbsent(userId, this::read);
+        });
+    }
+
+    private PointSummary read(long userId) {
+        return PointSummary.of(userPointStore.selectById(userId),
+            coldHistoryStore.merge(userId, pointHistoryStore.selectAllByUserId(userId)));
+    }
+}
@@ -0,0 +1,234 @@
+package io.hhplus.tdd.point.tiering;
+
+import io.hhplus.tdd.point.PointHistory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 오래된 포인트 이력을 압축 세그먼트 파일로 보관하는 저장소 (cold tier)
+ *
+ * <p>세그먼트는 {@code <directory>/<userId>/<firstId>-<lastId>.seg}로 저장되며, 한 번 쓰면 변경하지 않습니다.
+ * 유저별 세그먼트 목록과 워터마크(세그먼트에 담긴 마지막 이력 id)는 아카이브할 때마다 새 객체로 교체되므로
+ * 조회는 락 없이 일관된 스냅샷을 읽습니다. 세그먼트는 변경되지 않으므로 디코딩한 이력을 {@code cacheEntries}개까지
+ * 메모리에 두고, 자주 조회되는 유저는 파일을 다시 읽지 않습니다.
+ * 특정 id 이후만 필요하면({@link #mergeFrom}) 그 이전에 끝나는 세그먼트는 읽지 않고,
+ * 걸치는 세그먼트는 블록 인덱스로 앞쪽 블록을 건너뛰어 디코딩합니다.
+ *
+ * <p>hot 테이블이 메모리 기반이라 재시작하면 비워지므로, 시작 시 이전 실행의 세그먼트도 함께 정리합니다.
+ */
+@Component
+public class ColdHistoryStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ColdHistoryStore.class);
+
+    private final HistoryTieringProperties properties;
+    private final Map<Long, UserSegments> segmentsByUser = new ConcurrentHashMap<>();
+    private final SegmentCache segmentCache;
+
+    public ColdHistoryStore(HistoryTieringProperties properties) {
+        this.properties = properties;
+        this.segmentCache = new SegmentCache(properties.cacheEntries());
+        if (properties.enabled()) {
+            resetDirectory();
+        }
+    }
+
+    public boolean hasColdTier(long userId) {
+        return segmentsByUser.containsKey(userId);
+    }
+
+    /**
+     * 세그먼트에 보관된 마지막 이력 id. 보관된 이력이 없으면 0
+     */
+    public long watermark(long userId) {
+        UserSegments segments = segmentsByUser.get(userId);
+        return segments == null ? 0L : segments.watermark();
+    }
+
+    /**
+     * cold 이력과 hot 이력을 id 순서로 합칩니다.
+     * hot 이력 중 워터마크 이하인 항목은 이미 세그먼트에 있으므로 제외합니다.
+     * hot 이력은 이 메서드보다 먼저 읽어야 합니다. 계층화 작업은 세그먼트를 발행한 뒤에 hot 이력을 지우므로,
+     * 먼저 읽은 hot 이력에 없는 항목은 반드시 여기서 읽는 세그먼트에 있습니다.
+     */
+    public List<PointHistory> merge(long userId, List<PointHistory> hotHistories) {
+        UserSegments segments = segmentsByUser.get(userId);
+        if (segments == null) {
+            return hotHistories;
+        }
+        List<PointHistory> merged = new ArrayList<>(hotHistories.size());
+        for (Segment segment : segments.segments()) {
+            merged.addAll(segmentCache.get(segment.path()));
+        }
+        for (PointHistory history : hotHistories) {
+            if (history.id() > segments.watermark()) {
+                merged.add(history);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * {@link #merge}와 같지만 id가 {@code fromId} 이상인 이력만 반환합니다.
+     * {@code fromId} 이전에 끝나는 세그먼트는 읽지 않으며, hot 이력을 먼저 읽어야 하는 것도 같습니다.
+     */
+    public List<PointHistory> mergeFrom(long userId, long fromId, List<PointHistory> hotHistories) {
+        UserSegments segments = segmentsByUser.get(userId);
+        long watermark = segments == null ? 0L : segments.watermark();
+        List<PointHistory> merged = new ArrayList<>();
+        if (segments != null) {
+            for (Segment segment : segments.segments()) {
+                if (segment.lastId() < fromId) {
+                    continue;
+                }
+                merged.addAll(segment.firstId() >= fromId
+                    ? segmentCache.get(segment.path())
+                    : segmentCache.getFrom(segment.path(), fromId));
+            }
+        }
+        for (PointHistory history : hotHistories) {
+            if (history.id() > watermark && history.id() >= fromId) {
+                merged.add(history);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 이력을 새 세그먼트로 보관합니다. 이력은 워터마크 이후부터 id 오름차순으로 이어져야 하며,
+     * 같은 유저에 대해 동시에 호출되지 않아야 합니다. (계층화 작업이 단일 스레드로 실행)
+     */
+    public void archive(long userId, List<PointHistory> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        long firstId = entries.get(0).id();
+        long lastId = entries.get(entries.size() - 1).id();
+        if (firstId <= watermark(userId)) {
+            throw new IllegalArgumentException("History " + firstId + " is already archived for user: " + userId);
+        }
+
+        byte[] segment = HistorySegmentCodec.encode(userId, entries, properties.blockSize());
+        Path target = properties.directory().resolve(Long.toString(userId)).resolve(firstId + "-" + lastId + ".seg");
+        write(target, segment);
+
+        segmentsByUser.compute(userId, (id, current) -> {
+            List<Segment> segments = new ArrayList<>(current == null ? List.of() : current.segments());
+            segments.add(new Segment(target, firstId, lastId));
+            return new UserSegments(lastId, List.copyOf(segments));
+        });
+        log.debug("Archived {} histories ({} bytes) for user: {}", entries.size(), segment.length, userId);
+    }
+
+    private void resetDirectory() {
+        try {
+            FileSystemUtils.deleteRecursively(properties.directory());
+            Files.createDirectories(properties.directory());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to prepare history segment directory: " + properties.directory(), e);
+        }
+    }
+
+    private static void write(Path target, byte[] segment) {
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), "segment", ".tmp");
+            Files.write(temp, segment);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write history segment: " + target, e);
+        }
+    }
+
+    private static byte[] read(Path segment) {
+        try {
+            return Files.readAllBytes(segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read history segment: " + segment, e);
+        }
+    }
+
+    private record UserSegments(long watermark, List<Segment> segments) {
+    }
+
+    private record Segment(Path path, long firstId, long lastId) {
+    }
+
+    /**
+     * 디코딩한 세그먼트의 LRU 캐시. 담긴 이력 수의 합이 {@code maxEntries}를 넘지 않게 유지합니다.
+     * 맵 갱신만 {@link ReentrantLock}으로 보호하고, 파일 읽기와 디코딩은 락 밖에서 합니다.
+     */
+    private static final class SegmentCache {
+
+        private final int maxEntries;
+        private final LinkedHashMap<Path, List<PointHistory>> segments = new LinkedHashMap<>(16, 0.75f, true);
+        private final ReentrantLock lock = new ReentrantLock();
+        private int entries;
+
+        SegmentCache(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        List<PointHistory> get(Path segment) {
+            List<PointHistory> cached = cached(segment);
+            if (cached != null) {
+                return cached;
+            }
+            List<PointHistory> decoded = List.copyOf(HistorySegmentCodec.decode(read(segment)));
+            if (decoded.size() <= maxEntries) {
+                put(segment, decoded);
+            }
+            return decoded;
+        }
+
+        /**
+         * id가 {@code fromId} 이상인 이력만 반환합니다. 캐시에 없으면 필요한 블록만 디코딩하고 캐시에 넣지 않습니다.
+         */
+        List<PointHistory> getFrom(Path segment, long fromId) {
+            List<PointHistory> cached = cached(segment);
+            if (cached != null) {
+                return cached.stream().filter(history -> history.id() >= fromId).toList();
+            }
+            return HistorySegmentCodec.decodeFrom(read(segment), fromId);
+        }
+
+        private List<PointHistory> cached(Path segment) {
+            lock.lock();
+            try {
+                return segments.get(segment);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void put(Path segment, List<PointHistory> decoded) {
+            lock.lock();
+            try {
+                List<PointHistory> previous = segments.put(segment, decoded);
+                entries += decoded.size() - (previous == null ? 0 : previous.size());
+                Iterator<List<PointHistory>> eldest = segments.values().iterator();
+                while (entries > maxEntries) {
+                    entries -= eldest.next().size();
+                    eldest.remove();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
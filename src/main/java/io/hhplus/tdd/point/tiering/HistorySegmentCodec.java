@@ -0,0 +1,192 @@
+package io.hhplus.tdd.point.tiering;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * 이력 세그먼트 인코더/디코더
+ *
+ * <p>한 유저의 연속된 이력을 불변 세그먼트로 압축합니다.
+ * <pre>
+ * [magic:int][version:byte][userId:varlong][entryCount:varint][blockCount:varint]
+ * [block]* : 첫 이력은 id/updateMillis 원본, 이후 이력은 직전 값과의 차이(delta)를 varint로 기록
+ *            각 이력 = id, amount(zigzag varint), type(byte), updateMillis(zigzag varint)
+ * [index]  : 블록마다 [firstId:varlong][offset:varint][count:varint]
+ * [indexOffset:int][crc32:int]
+ * </pre>
+ * id와 시각은 단조 증가하므로 delta가 작아 대부분 1~2바이트로 기록됩니다.
+ * 블록 인덱스를 이용하면 특정 id 이후의 이력만 앞 블록을 건너뛰고 디코딩할 수 있습니다.
+ */
+final class HistorySegmentCodec {
+
+    static final int MAGIC = 0x50485347; // "PHSG"
+    static final byte VERSION = 1;
+    private static final int FOOTER_SIZE = Integer.BYTES * 2;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private HistorySegmentCodec() {
+    }
+
+    static byte[] encode(long userId, List<PointHistory> entries, int blockSize) {
+        int blockCount = (entries.size() + blockSize - 1) / blockSize;
+        VarintBuffer out = new VarintBuffer(16 + entries.size() * 8);
+        out.writeInt(MAGIC);
+        out.write(VERSION);
+        out.writeVarLong(userId);
+        out.writeVarLong(entries.size());
+        out.writeVarLong(blockCount);
+
+        long[] firstIds = new long[blockCount];
+        int[] offsets = new int[blockCount];
+        int[] counts = new int[blockCount];
+        for (int block = 0; block < blockCount; block++) {
+            int from = block * blockSize;
+            int to = Math.min(from + blockSize, entries.size());
+            firstIds[block] = entries.get(from).id();
+            offsets[block] = out.size();
+            counts[block] = to - from;
+
+            long previousId = 0;
+            long previousMillis = 0;
+            for (int i = from; i < to; i++) {
+                PointHistory entry = entries.get(i);
+                out.writeVarLong(entry.id() - previousId);
+                out.writeVarLong(zigzag(entry.amount()));
+                out.write((byte) entry.type().ordinal());
+                out.writeVarLong(zigzag(entry.updateMillis() - previousMillis));
+                previousId = entry.id();
+                previousMillis = entry.updateMillis();
+            }
+        }
+
+        int indexOffset = out.size();
+        for (int block = 0; block < blockCount; block++) {
+            out.writeVarLong(firstIds[block]);
+            out.writeVarLong(offsets[block]);
+            out.writeVarLong(counts[block]);
+        }
+        out.writeInt(indexOffset);
+        CRC32 crc = new CRC32();
+        crc.update(out.buffer(), 0, out.size());
+        out.writeInt((int) crc.getValue());
+        return out.toByteArray();
+    }
+
+    static List<PointHistory> decode(byte[] segment) {
+        return decodeFrom(segment, Long.MIN_VALUE);
+    }
+
+    /**
+     * id가 {@code fromId} 이상인 이력만 디코딩합니다. 블록 인덱스로 앞쪽 블록은 건너뜁니다.
+     */
+    static List<PointHistory> decodeFrom(byte[] segment, long fromId) {
+        ByteBuffer buffer = ByteBuffer.wrap(segment);
+        verify(segment, buffer);
+
+        long userId = readVarLong(buffer);
+        int entryCount = (int) readVarLong(buffer);
+        int blockCount = (int) readVarLong(buffer);
+
+        buffer.position(buffer.getInt(segment.length - FOOTER_SIZE));
+        long[] firstIds = new long[blockCount];
+        int[] offsets = new int[blockCount];
+        int[] counts = new int[blockCount];
+        for (int block = 0; block < blockCount; block++) {
+            firstIds[block] = readVarLong(buffer);
+            offsets[block] = (int) readVarLong(buffer);
+            counts[block] = (int) readVarLong(buffer);
+        }
+
+        int startBlock = 0;
+        while (startBlock + 1 < blockCount && firstIds[startBlock + 1] <= fromId) {
+            startBlock++;
+        }
+
+        List<PointHistory> entries = new ArrayList<>(entryCount);
+        for (int block = startBlock; block < blockCount; block++) {
+            buffer.position(offsets[block]);
+            long id = 0;
+            long updateMillis = 0;
+            for (int i = 0; i < counts[block]; i++) {
+                id += readVarLong(buffer);
+                long amount = unzigzag(readVarLong(buffer));
+                TransactionType type = TYPES[buffer.get()];
+                updateMillis += unzigzag(readVarLong(buffer));
+                if (id >= fromId) {
+                    entries.add(new PointHistory(id, userId, amount, type, updateMillis));
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static void verify(byte[] segment, ByteBuffer buffer) {
+        if (segment.length < FOOTER_SIZE + Integer.BYTES + 1 || buffer.getInt() != MAGIC) {
+            throw new IllegalStateException("Not a history segment");
+        }
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalStateException("Unsupported history segment version: " + version);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(segment, 0, segment.length - Integer.BYTES);
+        if ((int) crc.getValue() != ByteBuffer.wrap(segment).getInt(segment.length - Integer.BYTES)) {
+            throw new IllegalStateException("History segment checksum mismatch");
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    /**
+     * varint 쓰기를 지원하는 확장 가능한 바이트 버퍼
+     */
+    private static final class VarintBuffer extends ByteArrayOutputStream {
+
+        VarintBuffer(int initialCapacity) {
+            super(initialCapacity);
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+    }
+}
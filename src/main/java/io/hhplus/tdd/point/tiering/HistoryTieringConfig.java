@@ -0,0 +1,78 @@
+package io.hhplus.tdd.point.tiering;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointUserDirectory;
+import io.hhplus.tdd.point.store.PointHistoryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.util.List;
+
+/**
+ * 포인트 이력 계층화 주기 작업 설정
+ *
+ * <p>주기마다 전체 유저를 순회하며, 워터마크 이후의 이력 중 {@code coldAfter}보다 오래된 연속 구간을
+ * {@link ColdHistoryStore}의 세그먼트로 옮깁니다. 이력은 추가만 되므로 락 없이 읽고,
+ * 동시 추가로 조회가 실패한 유저는 다음 주기에 다시 처리합니다.
+ *
+ * <p>세그먼트를 발행한 뒤에는 hot 저장소에서 워터마크까지의 이력을 지워, hot tier의 메모리가 최근 이력만큼으로 유지되게 합니다.
+ * 삭제 API가 없는 테이블 저장소({@code point.store.backend=TABLE})에서는 이력이 hot 저장소에도 남고,
+ * 조회 시 워터마크 이하의 hot 이력을 건너뜁니다.
+ */
+@Configuration
+public class HistoryTieringConfig implements SchedulingConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(HistoryTieringConfig.class);
+
+    private final PointUserDirectory pointUserDirectory;
+    private final PointHistoryStore pointHistoryStore;
+    private final ColdHistoryStore coldHistoryStore;
+    private final HistoryTieringProperties properties;
+
+    public HistoryTieringConfig(PointUserDirectory pointUserDirectory, PointHistoryStore pointHistoryStore,
+                                ColdHistoryStore coldHistoryStore, HistoryTieringProperties properties) {
+        this.pointUserDirectory = pointUserDirectory;
+        this.pointHistoryStore = pointHistoryStore;
+        this.coldHistoryStore = coldHistoryStore;
+        this.properties = properties;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (properties.enabled()) {
+            taskRegistrar.addFixedDelayTask(this::archiveColdHistories, properties.interval());
+        }
+    }
+
+    void archiveColdHistories() {
+        long coldBefore = System.currentTimeMillis() - properties.coldAfter().toMillis();
+        for (long userId : pointUserDirectory.userIds()) {
+            try {
+                archiveColdHistories(userId, coldBefore);
+            } catch (RuntimeException e) {
+                log.warn("Failed to archive histories for user: {}", userId, e);
+            }
+        }
+    }
+
+    private void archiveColdHistories(long userId, long coldBefore) {
+        List<PointHistory> histories = List.copyOf(pointHistoryStore.selectAllByUserId(userId));
+        long watermark = coldHistoryStore.watermark(userId);
+
+        int from = 0;
+        while (from < histories.size() && histories.get(from).id() <= watermark) {
+            from++;
+        }
+        int to = from;
+        while (to < histories.size() && histories.get(to).updateMillis() < coldBefore) {
+            to++;
+        }
+        coldHistoryStore.archive(userId, histories.subList(from, to));
+        if (to > 0) {
+            pointHistoryStore.deleteThrough(userId, histories.get(to - 1).id());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.tiering;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 포인트 이력 계층화(cold tier) 설정
+ *
+ * @param enabled 계층화 작업 활성화 여부
+ * @param directory 세그먼트 파일을 저장할 디렉터리
+ * @param coldAfter 이 기간보다 오래된 이력을 세그먼트로 옮김
+ * @param interval 계층화 작업 실행 주기
+ * @param blockSize 세그먼트 블록당 이력 수 (블록 인덱스 단위)
+ * @param cacheEntries 디코딩한 세그먼트를 메모리에 보관할 최대 이력 수. 넘으면 가장 오래 조회되지 않은 세그먼트부터 버림
+ */
+@ConfigurationProperties(prefix = "point.history.tiering")
+public record HistoryTieringProperties(
+    @DefaultValue("false") boolean enabled,
+    Path directory,
+    @DefaultValue("30d") Duration coldAfter,
+    @DefaultValue("1h") Duration interval,
+    @DefaultValue("128") int blockSize,
+    @DefaultValue("100000") int cacheEntries
+) {
+}
@@ -1,6 +1,7 @@
 package io.hhplus.tdd.point.validator;
 
 import io.hhplus.tdd.point.exception.InvalidAmountException;
+import io.hhplus.tdd.point.exception.InvalidOperationException;
 import io.hhplus.tdd.point.exception.InvalidUserIdException;
 import io.hhplus.tdd.point.exception.PointLimitExceededException;
 import org.springframework.stereotype.Component;
@@ -25,6 +26,7 @@ public class PointValidator {
     private static final long MIN_TRANSACTION_AMOUNT = 100L;
     private static final long MAX_CHARGE_AMOUNT = 100_000L;
     private static final long MAX_BALANCE = 1_000_000L;
+    private static final int MAX_BATCH_OPERATIONS = 20;
 
     /**
      * 사용자 ID 유효성 검증
@@ -79,6 +81,23 @@ public class PointValidator {
         }
     }
 
+    /**
+     * 일괄 처리 연산 개수 검증
+     *
+     * <p>일괄 처리는 하나의 락 안에서 모든 이력을 기록하므로, 락 점유 시간을 제한하기 위해 최대 개수를 둡니다.
+     *
+     * @param size 연산 개수
+     * @throws InvalidOperationException 연산이 없거나 최대 개수를 초과한 경우
+     */
+    public void validateBatchSize(int size) {
+        if (size == 0) {
+            throw InvalidOperationException.emptyBatch();
+        }
+        if (size > MAX_BATCH_OPERATIONS) {
+            throw InvalidOperationException.batchTooLarge(size, MAX_BATCH_OPERATIONS);
+        }
+    }
+
     /**
      * 최소 거래 금액 조회 (테스트 또는 외부 참조용)
      */
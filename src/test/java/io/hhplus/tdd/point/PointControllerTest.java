@@ -1,5 +1,7 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.point.codec.PointBinaryFormat;
+import io.hhplus.tdd.point.dto.PointHistoryResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,7 +9,12 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -313,4 +320,285 @@ class PointControllerTest {
                 .andExpect(jsonPath("$[3].type").value("USE"))
                 .andExpect(jsonPath("$[3].amount").value(secondUse));
     }
+
+    @Test
+    @DisplayName("PATCH /async/point/{id}/charge - 비동기 충전 성공")
+    void asyncChargePoint_Success() throws Exception {
+        // given
+        long userId = 113L;
+        long chargeAmount = 3000L;
+
+        // when
+        MvcResult result = mockMvc.perform(patch("/async/point/{id}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(chargeAmount)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(userId))
+                .andExpect(jsonPath("$.point").value(chargeAmount));
+    }
+
+    @Test
+    @DisplayName("GET /async/point/{id}/histories - 비동기 히스토리 조회")
+    void asyncGetUserPointHistory_AfterUse() throws Exception {
+        // given
+        long userId = 114L;
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(5000L)))
+                .andExpect(status().isOk());
+
+        MvcResult useResult = mockMvc.perform(patch("/async/point/{id}/use", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(2000L)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(useResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(3000L));
+
+        // when
+        MvcResult result = mockMvc.perform(get("/async/point/{id}/histories", userId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].type").value("USE"));
+    }
+
+    @Test
+    @DisplayName("GET /async/point/{id} - 잘못된 userId는 비동기 처리 후 500 응답")
+    void asyncGetUserPoint_InvalidUserId() throws Exception {
+        // when
+        MvcResult result = mockMvc.perform(get("/async/point/{id}", 0L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.code").value("500"));
+    }
+
+    @Test
+    @DisplayName("POST /point/transfer - 포인트 이체 성공")
+    void transferPoint_Success() throws Exception {
+        // given
+        long fromUserId = 115L;
+        long toUserId = 116L;
+        mockMvc.perform(patch("/point/{id}/charge", fromUserId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(String.valueOf(5000L)))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(post("/point/transfer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fromUserId\":" + fromUserId + ",\"toUserId\":" + toUserId + ",\"amount\":2000}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sender.id").value(fromUserId))
+                .andExpect(jsonPath("$.sender.point").value(3000L))
+                .andExpect(jsonPath("$.receiver.id").value(toUserId))
+                .andExpect(jsonPath("$.receiver.point").value(2000L));
+
+        mockMvc.perform(get("/point/{id}/histories", toUserId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("TRANSFER_IN"));
+    }
+
+    @Test
+    @DisplayName("POST /point/{id}/batch - 충전 후 여러 번 사용을 일괄 처리")
+    void executeBatch_Success() throws Exception {
+        // given
+        long userId = 117L;
+        String operations = "[{\"type\":\"CHARGE\",\"amount\":5000},"
+                + "{\"type\":\"USE\",\"amount\":1000},"
+                + "{\"type\":\"USE\",\"amount\":500}]";
+
+        // when & then
+        mockMvc.perform(post("/point/{id}/batch", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(operations))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(3500L));
+
+        mockMvc.perform(get("/point/{id}/histories", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+    }
+
+    @Test
+    @DisplayName("POST /point/{id}/batch - 하나라도 실패하면 아무것도 반영되지 않음")
+    void executeBatch_AllOrNothing() throws Exception {
+        // given
+        long userId = 118L;
+        String operations = "[{\"type\":\"CHARGE\",\"amount\":1000},"
+                + "{\"type\":\"USE\",\"amount\":5000}]";
+
+        // when
+        mockMvc.perform(post("/point/{id}/batch", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(operations))
+                .andExpect(status().isInternalServerError());
+
+        // then
+        mockMvc.perform(get("/point/{id}", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(0));
+        mockMvc.perform(get("/point/{id}/histories", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("GET /point/{id}/summary - 잔액과 이력을 같은 시점으로 함께 조회")
+    void getUserPointSummary_Success() throws Exception {
+        // given
+        long userId = 119L;
+        mockMvc.perform(get("/point/{id}/summary", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point.point").value(0))
+                .andExpect(jsonPath("$.histories").isEmpty());
+
+        // when
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("3000"))
+                .andExpect(status().isOk());
+        mockMvc.perform(patch("/point/{id}/use", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("1000"))
+                .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(get("/point/{id}/summary", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point.id").value(userId))
+                .andExpect(jsonPath("$.point.point").value(2000))
+                .andExpect(jsonPath("$.histories.length()").value(2))
+                .andExpect(jsonPath("$.histories[0].type").value("CHARGE"))
+                .andExpect(jsonPath("$.histories[1].type").value("USE"))
+                .andExpect(jsonPath("$.version").value(2));
+    }
+
+    @Test
+    @DisplayName("GET /point/{id}, /point/{id}/histories - Accept가 바이너리 형식이면 바이너리로 응답")
+    void binaryContentNegotiation() throws Exception {
+        // given
+        long userId = 120L;
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("3000"))
+                .andExpect(status().isOk());
+
+        // when
+        MvcResult pointResult = mockMvc.perform(get("/point/{id}", userId)
+                        .accept(PointBinaryFormat.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PointBinaryFormat.MEDIA_TYPE))
+                .andReturn();
+        MvcResult historyResult = mockMvc.perform(get("/point/{id}/histories", userId)
+                        .accept(PointBinaryFormat.MEDIA_TYPE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(PointBinaryFormat.MEDIA_TYPE))
+                .andReturn();
+
+        // then
+        byte[] point = pointResult.getResponse().getContentAsByteArray();
+        assertEquals(PointBinaryFormat.USER_POINT_BYTES, point.length);
+        assertEquals(3000L, PointBinaryFormat.readUserPoint(ByteBuffer.wrap(point)).point());
+        List<PointHistoryResponse> histories = PointBinaryFormat.readHistories(
+                ByteBuffer.wrap(historyResult.getResponse().getContentAsByteArray()));
+        assertEquals(1, histories.size());
+        assertEquals(userId, histories.get(0).userId());
+        assertEquals(TransactionType.CHARGE, histories.get(0).type());
+        mockMvc.perform(get("/point/{id}/histories", userId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$[0].amount").value(3000));
+    }
+
+    @Test
+    @DisplayName("PATCH /point/{id}/charge - 같은 Idempotency-Key로 재시도하면 한 번만 충전됨")
+    void chargePoint_IdempotencyKeyReplay() throws Exception {
+        // given
+        long userId = 121L;
+        for (int attempt = 0; attempt < 2; attempt++) {
+            // when
+            mockMvc.perform(patch("/point/{id}/charge", userId)
+                            .header(PointController.IDEMPOTENCY_KEY_HEADER, "retry-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("1000"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.point").value(1000));
+        }
+
+        // then
+        mockMvc.perform(get("/point/{id}/histories", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("PATCH /async/point/{id}/charge - 동기 경로와 같은 Idempotency-Key로 재시도하면 한 번만 충전됨")
+    void asyncChargePoint_IdempotencyKeyReplay() throws Exception {
+        // given
+        long userId = 126L;
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                        .header(PointController.IDEMPOTENCY_KEY_HEADER, "retry-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("1000"))
+                .andExpect(status().isOk());
+
+        // when
+        MvcResult result = mockMvc.perform(patch("/async/point/{id}/charge", userId)
+                        .header(PointController.IDEMPOTENCY_KEY_HEADER, "retry-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("1000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(1000));
+        mockMvc.perform(get("/point/{id}/histories", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("POST /point/balances - 여러 유저의 포인트를 중복 없이 한 번에 조회")
+    void balances_Success() throws Exception {
+        // given
+        mockMvc.perform(patch("/point/{id}/charge", 122L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("2000"))
+                .andExpect(status().isOk());
+
+        // when & then
+        mockMvc.perform(post("/point/balances")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[122, 123, 122]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$['122'].point").value(2000))
+                .andExpect(jsonPath("$['123'].point").value(0));
+    }
+
+    @Test
+    @DisplayName("POST /point/balances - 빈 목록은 500 에러")
+    void balances_EmptyList() throws Exception {
+        mockMvc.perform(post("/point/balances")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isInternalServerError());
+    }
 }
@@ -16,8 +16,9 @@ import static org.junit.jupiter.api.Assertions.*;
  * PointService AOP 기반 동시성 제어 검증 테스트
  *
  * <p>@UserLock 어노테이션과 AOP가 올바르게 작동하는지 검증합니다.
+ * 같은 두 유저의 이체는 모두 순서대로 실행되므로, 지연이 큰 기본 저장소에 맞춰 이체 락 대기 시간을 늘려 둡니다.
  */
-@SpringBootTest
+@SpringBootTest(properties = "point.lock.transfer-timeout=60s")
 @DisplayName("PointService 동시성 제어 테스트")
 class PointServiceConcurrencyTest {
 
@@ -135,4 +136,45 @@ class PointServiceConcurrencyTest {
         assertTrue(duration < 800,
             "서로 다른 사용자는 병렬로 처리되어야 함 (actual: " + duration + "ms)");
     }
+
+    @Test
+    @DisplayName("교차 이체 (A→B, B→A) - 데드락 없이 모두 완료됨")
+    void crossTransfers_noDeadlock() throws InterruptedException {
+        // given
+        long userA = 50000L;
+        long userB = 50001L;
+        int transferCount = 10;
+        long amount = 100L;
+        pointService.chargePoint(userA, 10_000L);
+        pointService.chargePoint(userB, 10_000L);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(transferCount * 2);
+        CountDownLatch latch = new CountDownLatch(transferCount * 2);
+
+        // when - 같은 두 유저 사이에서 양방향 이체를 동시에 실행
+        for (int i = 0; i < transferCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    pointService.transferPoint(userA, userB, amount);
+                } finally {
+                    latch.countDown();
+                }
+            });
+            executorService.submit(() -> {
+                try {
+                    pointService.transferPoint(userB, userA, amount);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        boolean completed = latch.await(60, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertTrue(completed, "락을 전역 순서로 획득하므로 교차 이체에서도 데드락이 없어야 함");
+        assertEquals(10_000L, pointService.getUserPoint(userA).point());
+        assertEquals(10_000L, pointService.getUserPoint(userB).point());
+    }
 }
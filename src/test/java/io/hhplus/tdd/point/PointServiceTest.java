@@ -1,15 +1,24 @@
 package io.hhplus.tdd.point;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.coalesce.BalanceReadCoalescer;
+import io.hhplus.tdd.point.event.PointChangedEvent;
 import io.hhplus.tdd.point.exception.*;
+import io.hhplus.tdd.point.expiry.PointLotLedger;
+import io.hhplus.tdd.point.hotkey.CombinedOperation;
+import io.hhplus.tdd.point.store.PointHistoryStore;
+import io.hhplus.tdd.point.store.UserPointStore;
+import io.hhplus.tdd.point.summary.PointSummaryRegistry;
+import io.hhplus.tdd.point.tiering.ColdHistoryStore;
 import io.hhplus.tdd.point.validator.PointValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 
@@ -21,7 +30,7 @@ import static org.mockito.Mockito.*;
  * PointService 단위 테스트
  *
  * <p>이 테스트는 Mockito를 사용하여 PointService의 비즈니스 로직만을 순수하게 검증합니다.
- * 외부 의존성(Table, Validator)은 Mock 객체로 대체하여 테스트의 독립성을 보장합니다.
+ * 외부 의존성(Store, Validator)은 Mock 객체로 대체하여 테스트의 독립성을 보장합니다.
  *
  * <p>통합 테스트와 동시성 테스트는 PointServiceIntegrationTest를 참조하세요.
  */
@@ -30,14 +39,29 @@ import static org.mockito.Mockito.*;
 class PointServiceTest {
 
     @Mock
-    private UserPointTable userPointTable;
+    private UserPointStore userPointStore;
 
     @Mock
-    private PointHistoryTable pointHistoryTable;
+    private PointHistoryStore pointHistoryStore;
 
     @Mock
     private PointValidator pointValidator;
 
+    @Mock
+    private PointLotLedger pointLotLedger;
+
+    @Mock
+    private ColdHistoryStore coldHistoryStore;
+
+    @Mock
+    private PointSummaryRegistry pointSummaryRegistry;
+
+    @Spy
+    private BalanceReadCoalescer balanceReadCoalescer = new BalanceReadCoalescer(new SimpleMeterRegistry());
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PointService pointService;
 
@@ -47,7 +71,7 @@ class PointServiceTest {
         // given
         long userId = 1L;
         UserPoint expected = new UserPoint(userId, 5000L, System.currentTimeMillis());
-        when(userPointTable.selectById(userId)).thenReturn(expected);
+        when(userPointStore.selectById(userId)).thenReturn(expected);
 
         // when
         UserPoint result = pointService.getUserPoint(userId);
@@ -56,7 +80,7 @@ class PointServiceTest {
         assertNotNull(result);
         assertEquals(expected, result);
         verify(pointValidator).validateUserId(userId);
-        verify(userPointTable).selectById(userId);
+        verify(userPointStore).selectById(userId);
     }
 
     @Test
@@ -72,7 +96,7 @@ class PointServiceTest {
             pointService.getUserPoint(invalidUserId);
         });
         verify(pointValidator).validateUserId(invalidUserId);
-        verify(userPointTable, never()).selectById(anyLong());
+        verify(userPointStore, never()).selectById(anyLong());
     }
 
     @Test
@@ -84,7 +108,7 @@ class PointServiceTest {
             new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, System.currentTimeMillis()),
             new PointHistory(2L, userId, 500L, TransactionType.USE, System.currentTimeMillis())
         );
-        when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(expected);
+        when(pointHistoryStore.selectAllByUserId(userId)).thenReturn(expected);
 
         // when
         List<PointHistory> result = pointService.getUserPointHistory(userId);
@@ -94,7 +118,32 @@ class PointServiceTest {
         assertEquals(2, result.size());
         assertEquals(expected, result);
         verify(pointValidator).validateUserId(userId);
-        verify(pointHistoryTable).selectAllByUserId(userId);
+        verify(pointHistoryStore).selectAllByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("유저 포인트 히스토리 조회 - cold tier가 있으면 세그먼트 이력과 합쳐서 반환")
+    void getUserPointHistory_MergesColdTier() {
+        // given
+        long userId = 1L;
+        List<PointHistory> hot = List.of(
+            new PointHistory(3L, userId, 700L, TransactionType.CHARGE, System.currentTimeMillis())
+        );
+        List<PointHistory> merged = List.of(
+            new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 1L),
+            new PointHistory(2L, userId, 500L, TransactionType.USE, 2L),
+            hot.get(0)
+        );
+        when(pointHistoryStore.selectAllByUserId(userId)).thenReturn(hot);
+        when(coldHistoryStore.hasColdTier(userId)).thenReturn(true);
+        when(coldHistoryStore.merge(userId, hot)).thenReturn(merged);
+
+        // when
+        List<PointHistory> result = pointService.getUserPointHistory(userId);
+
+        // then
+        assertEquals(merged, result);
+        verify(coldHistoryStore).merge(userId, hot);
     }
 
     @Test
@@ -106,9 +155,9 @@ class PointServiceTest {
         UserPoint currentPoint = new UserPoint(userId, 5000L, System.currentTimeMillis());
         UserPoint updatedPoint = new UserPoint(userId, 6000L, System.currentTimeMillis());
 
-        when(userPointTable.selectById(userId)).thenReturn(currentPoint);
-        when(userPointTable.insertOrUpdate(eq(userId), eq(6000L))).thenReturn(updatedPoint);
-        when(pointHistoryTable.insert(eq(userId), eq(amount), eq(TransactionType.CHARGE), anyLong()))
+        when(userPointStore.selectById(userId)).thenReturn(currentPoint);
+        when(userPointStore.insertOrUpdate(eq(userId), eq(6000L))).thenReturn(updatedPoint);
+        when(pointHistoryStore.insert(eq(userId), eq(amount), eq(TransactionType.CHARGE), anyLong()))
             .thenReturn(new PointHistory(1L, userId, amount, TransactionType.CHARGE, System.currentTimeMillis()));
 
         // when
@@ -121,9 +170,9 @@ class PointServiceTest {
         verify(pointValidator).validateTransactionAmount(amount);
         verify(pointValidator).validateChargeAmount(amount);
         verify(pointValidator).validateBalanceLimit(currentPoint.point(), amount);
-        verify(userPointTable).selectById(userId);
-        verify(userPointTable).insertOrUpdate(userId, 6000L);
-        verify(pointHistoryTable).insert(eq(userId), eq(amount), eq(TransactionType.CHARGE), anyLong());
+        verify(userPointStore).selectById(userId);
+        verify(userPointStore).insertOrUpdate(userId, 6000L);
+        verify(pointHistoryStore).insert(eq(userId), eq(amount), eq(TransactionType.CHARGE), anyLong());
     }
 
     @Test
@@ -141,8 +190,8 @@ class PointServiceTest {
         });
         verify(pointValidator).validateUserId(userId);
         verify(pointValidator).validateTransactionAmount(invalidAmount);
-        verify(userPointTable, never()).selectById(anyLong());
-        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(userPointStore, never()).selectById(anyLong());
+        verify(userPointStore, never()).insertOrUpdate(anyLong(), anyLong());
     }
 
     @Test
@@ -161,7 +210,7 @@ class PointServiceTest {
         verify(pointValidator).validateUserId(userId);
         verify(pointValidator).validateTransactionAmount(exceedAmount);
         verify(pointValidator).validateChargeAmount(exceedAmount);
-        verify(userPointTable, never()).selectById(anyLong());
+        verify(userPointStore, never()).selectById(anyLong());
     }
 
     @Test
@@ -172,7 +221,7 @@ class PointServiceTest {
         long amount = 100_000L;
         UserPoint currentPoint = new UserPoint(userId, 950_000L, System.currentTimeMillis());
 
-        when(userPointTable.selectById(userId)).thenReturn(currentPoint);
+        when(userPointStore.selectById(userId)).thenReturn(currentPoint);
         doThrow(PointLimitExceededException.balanceLimit(1_050_000L, 1_000_000L))
             .when(pointValidator).validateBalanceLimit(currentPoint.point(), amount);
 
@@ -183,9 +232,9 @@ class PointServiceTest {
         verify(pointValidator).validateUserId(userId);
         verify(pointValidator).validateTransactionAmount(amount);
         verify(pointValidator).validateChargeAmount(amount);
-        verify(userPointTable).selectById(userId);
+        verify(userPointStore).selectById(userId);
         verify(pointValidator).validateBalanceLimit(currentPoint.point(), amount);
-        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(userPointStore, never()).insertOrUpdate(anyLong(), anyLong());
     }
 
     @Test
@@ -197,9 +246,9 @@ class PointServiceTest {
         UserPoint currentPoint = new UserPoint(userId, 5000L, System.currentTimeMillis());
         UserPoint updatedPoint = new UserPoint(userId, 4000L, System.currentTimeMillis());
 
-        when(userPointTable.selectById(userId)).thenReturn(currentPoint);
-        when(userPointTable.insertOrUpdate(eq(userId), eq(4000L))).thenReturn(updatedPoint);
-        when(pointHistoryTable.insert(eq(userId), eq(amount), eq(TransactionType.USE), anyLong()))
+        when(userPointStore.selectById(userId)).thenReturn(currentPoint);
+        when(userPointStore.insertOrUpdate(eq(userId), eq(4000L))).thenReturn(updatedPoint);
+        when(pointHistoryStore.insert(eq(userId), eq(amount), eq(TransactionType.USE), anyLong()))
             .thenReturn(new PointHistory(1L, userId, amount, TransactionType.USE, System.currentTimeMillis()));
 
         // when
@@ -210,9 +259,9 @@ class PointServiceTest {
         assertEquals(4000L, result.point());
         verify(pointValidator).validateUserId(userId);
         verify(pointValidator).validateTransactionAmount(amount);
-        verify(userPointTable).selectById(userId);
-        verify(userPointTable).insertOrUpdate(userId, 4000L);
-        verify(pointHistoryTable).insert(eq(userId), eq(amount), eq(TransactionType.USE), anyLong());
+        verify(userPointStore).selectById(userId);
+        verify(userPointStore).insertOrUpdate(userId, 4000L);
+        verify(pointHistoryStore).insert(eq(userId), eq(amount), eq(TransactionType.USE), anyLong());
     }
 
     @Test
@@ -223,7 +272,7 @@ class PointServiceTest {
         long amount = 10000L;
         UserPoint currentPoint = new UserPoint(userId, 5000L, System.currentTimeMillis());
 
-        when(userPointTable.selectById(userId)).thenReturn(currentPoint);
+        when(userPointStore.selectById(userId)).thenReturn(currentPoint);
 
         // when & then
         assertThrows(InsufficientPointException.class, () -> {
@@ -231,9 +280,9 @@ class PointServiceTest {
         });
         verify(pointValidator).validateUserId(userId);
         verify(pointValidator).validateTransactionAmount(amount);
-        verify(userPointTable).selectById(userId);
-        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
-        verify(pointHistoryTable, never()).insert(anyLong(), anyLong(), any(), anyLong());
+        verify(userPointStore).selectById(userId);
+        verify(userPointStore, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(pointHistoryStore, never()).insert(anyLong(), anyLong(), any(), anyLong());
     }
 
     @Test
@@ -251,7 +300,214 @@ class PointServiceTest {
         });
         verify(pointValidator).validateUserId(userId);
         verify(pointValidator).validateTransactionAmount(invalidAmount);
-        verify(userPointTable, never()).selectById(anyLong());
-        verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(userPointStore, never()).selectById(anyLong());
+        verify(userPointStore, never()).insertOrUpdate(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("포인트 이체 - 성공")
+    void transferPoint_Success() {
+        // given
+        long fromUserId = 1L;
+        long toUserId = 2L;
+        long amount = 1000L;
+        UserPoint sender = new UserPoint(fromUserId, 5000L, System.currentTimeMillis());
+        UserPoint receiver = new UserPoint(toUserId, 2000L, System.currentTimeMillis());
+
+        when(userPointStore.selectById(fromUserId)).thenReturn(sender);
+        when(userPointStore.selectById(toUserId)).thenReturn(receiver);
+        when(userPointStore.insertOrUpdate(fromUserId, 4000L))
+            .thenReturn(new UserPoint(fromUserId, 4000L, System.currentTimeMillis()));
+        when(userPointStore.insertOrUpdate(toUserId, 3000L))
+            .thenReturn(new UserPoint(toUserId, 3000L, System.currentTimeMillis()));
+
+        // when
+        PointTransferResult result = pointService.transferPoint(fromUserId, toUserId, amount);
+
+        // then
+        assertEquals(4000L, result.sender().point());
+        assertEquals(3000L, result.receiver().point());
+        verify(pointValidator).validateTransactionAmount(amount);
+        verify(pointValidator).validateBalanceLimit(receiver.point(), amount);
+        verify(pointHistoryStore).insert(eq(fromUserId), eq(amount), eq(TransactionType.TRANSFER_OUT), anyLong());
+        verify(pointHistoryStore).insert(eq(toUserId), eq(amount), eq(TransactionType.TRANSFER_IN), anyLong());
+    }
+
+    @Test
+    @DisplayName("포인트 이체 - 보내는 유저 잔액 부족")
+    void transferPoint_InsufficientBalance() {
+        // given
+        long fromUserId = 1L;
+        long toUserId = 2L;
+        long amount = 10000L;
+        when(userPointStore.selectById(fromUserId))
+            .thenReturn(new UserPoint(fromUserId, 5000L, System.currentTimeMillis()));
+
+        // when & then
+        assertThrows(InsufficientPointException.class, () -> {
+            pointService.transferPoint(fromUserId, toUserId, amount);
+        });
+        verify(userPointStore, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(pointHistoryStore, never()).insert(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("포인트 이체 - 받는 유저 잔액 한도 초과 시 어느 쪽도 변경되지 않음")
+    void transferPoint_ReceiverExceedsBalanceLimit() {
+        // given
+        long fromUserId = 1L;
+        long toUserId = 2L;
+        long amount = 100_000L;
+        UserPoint receiver = new UserPoint(toUserId, 950_000L, System.currentTimeMillis());
+        when(userPointStore.selectById(fromUserId))
+            .thenReturn(new UserPoint(fromUserId, 200_000L, System.currentTimeMillis()));
+        when(userPointStore.selectById(toUserId)).thenReturn(receiver);
+        doThrow(PointLimitExceededException.balanceLimit(1_050_000L, 1_000_000L))
+            .when(pointValidator).validateBalanceLimit(receiver.point(), amount);
+
+        // when & then
+        assertThrows(PointLimitExceededException.class, () -> {
+            pointService.transferPoint(fromUserId, toUserId, amount);
+        });
+        verify(userPointStore, never()).insertOrUpdate(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("포인트 이체 - 자기 자신에게 이체 불가")
+    void transferPoint_SelfTransfer() {
+        // when & then
+        assertThrows(InvalidOperationException.class, () -> {
+            pointService.transferPoint(1L, 1L, 1000L);
+        });
+        verify(userPointStore, never()).selectById(anyLong());
+    }
+
+    @Test
+    @DisplayName("일괄 처리 - 한 번 조회하고 한 번 저장하며 연산마다 이력을 남김")
+    void executeBatch_Success() {
+        // given
+        long userId = 1L;
+        List<PointOperation> operations = List.of(
+            new PointOperation(TransactionType.CHARGE, 5000L),
+            new PointOperation(TransactionType.USE, 1000L),
+            new PointOperation(TransactionType.USE, 2000L)
+        );
+        when(userPointStore.selectById(userId))
+            .thenReturn(new UserPoint(userId, 1000L, System.currentTimeMillis()));
+        when(userPointStore.insertOrUpdate(userId, 3000L))
+            .thenReturn(new UserPoint(userId, 3000L, System.currentTimeMillis()));
+
+        // when
+        UserPoint result = pointService.executeBatch(userId, operations);
+
+        // then
+        assertEquals(3000L, result.point());
+        verify(pointValidator).validateBatchSize(3);
+        verify(userPointStore, times(1)).selectById(userId);
+        verify(userPointStore, times(1)).insertOrUpdate(anyLong(), anyLong());
+        verify(pointHistoryStore).insert(eq(userId), eq(5000L), eq(TransactionType.CHARGE), anyLong());
+        verify(pointHistoryStore).insert(eq(userId), eq(1000L), eq(TransactionType.USE), anyLong());
+        verify(pointHistoryStore).insert(eq(userId), eq(2000L), eq(TransactionType.USE), anyLong());
+    }
+
+    @Test
+    @DisplayName("일괄 처리 - 중간 연산의 잔액 부족 시 아무것도 반영되지 않음")
+    void executeBatch_InsufficientBalanceMidway() {
+        // given
+        long userId = 1L;
+        List<PointOperation> operations = List.of(
+            new PointOperation(TransactionType.CHARGE, 1000L),
+            new PointOperation(TransactionType.USE, 5000L),
+            new PointOperation(TransactionType.CHARGE, 10000L)
+        );
+        when(userPointStore.selectById(userId))
+            .thenReturn(new UserPoint(userId, 1000L, System.currentTimeMillis()));
+
+        // when & then
+        assertThrows(InsufficientPointException.class, () -> {
+            pointService.executeBatch(userId, operations);
+        });
+        verify(userPointStore, never()).insertOrUpdate(anyLong(), anyLong());
+        verify(pointHistoryStore, never()).insert(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("일괄 처리 - 지원하지 않는 연산 종류")
+    void executeBatch_UnsupportedType() {
+        // given
+        long userId = 1L;
+        when(userPointStore.selectById(userId))
+            .thenReturn(new UserPoint(userId, 1000L, System.currentTimeMillis()));
+
+        // when & then
+        assertThrows(InvalidOperationException.class, () -> {
+            pointService.executeBatch(userId, List.of(new PointOperation(TransactionType.TRANSFER_OUT, 500L)));
+        });
+        verify(userPointStore, never()).insertOrUpdate(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("포인트 소멸 - 묶음의 남은 금액만큼 차감하고 EXPIRE 이력을 남김")
+    void expireLot_DeductsRemaining() {
+        // given
+        long userId = 1L;
+        long lotId = 10L;
+        when(pointLotLedger.expire(userId, lotId)).thenReturn(3000L);
+        when(userPointStore.selectById(userId))
+            .thenReturn(new UserPoint(userId, 5000L, System.currentTimeMillis()));
+
+        // when
+        long expired = pointService.expireLot(userId, lotId);
+
+        // then
+        assertEquals(3000L, expired);
+        verify(userPointStore).insertOrUpdate(userId, 2000L);
+        verify(pointHistoryStore).insert(eq(userId), eq(3000L), eq(TransactionType.EXPIRE), anyLong());
+        verify(eventPublisher).publishEvent(any(PointChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("포인트 소멸 - 이미 모두 사용된 묶음이면 아무것도 하지 않음")
+    void expireLot_AlreadyConsumed() {
+        // given
+        long userId = 1L;
+        when(pointLotLedger.expire(userId, 10L)).thenReturn(0L);
+
+        // when
+        long expired = pointService.expireLot(userId, 10L);
+
+        // then
+        assertEquals(0L, expired);
+        verify(userPointStore, never()).selectById(anyLong());
+        verify(pointHistoryStore, never()).insert(anyLong(), anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("합친 요청 처리 - 실패한 요청만 예외로 끝나고 나머지는 한 번의 저장과 이벤트로 반영됨")
+    void applyCombined_AppliesEachOperationIndependently() {
+        // given
+        long userId = 1L;
+        when(userPointStore.selectById(userId)).thenReturn(new UserPoint(userId, 1000L, 0L));
+        when(userPointStore.insertOrUpdate(userId, 1200L)).thenReturn(new UserPoint(userId, 1200L, 5L));
+        when(pointHistoryStore.insert(eq(userId), anyLong(), any(), anyLong()))
+            .thenAnswer(invocation -> new PointHistory(1L, userId, invocation.getArgument(1),
+                invocation.getArgument(2), invocation.getArgument(3)));
+        CombinedOperation charge = new CombinedOperation(new PointOperation(TransactionType.CHARGE, 500L));
+        CombinedOperation overdraw = new CombinedOperation(new PointOperation(TransactionType.USE, 2000L));
+        CombinedOperation use = new CombinedOperation(new PointOperation(TransactionType.USE, 300L));
+
+        // when
+        pointService.applyCombined(userId, List.of(charge, overdraw, use));
+
+        // then
+        assertEquals(new UserPoint(userId, 1500L, 5L), charge.join());
+        assertThrows(InsufficientPointException.class, overdraw::join);
+        assertEquals(new UserPoint(userId, 1200L, 5L), use.join());
+        verify(userPointStore).selectById(userId);
+        verify(userPointStore).insertOrUpdate(userId, 1200L);
+        verify(pointHistoryStore).insert(eq(userId), eq(500L), eq(TransactionType.CHARGE), anyLong());
+        verify(pointHistoryStore).insert(eq(userId), eq(300L), eq(TransactionType.USE), anyLong());
+        verify(pointHistoryStore, never()).insert(eq(userId), eq(2000L), any(), anyLong());
+        verify(eventPublisher, times(1)).publishEvent(any(PointChangedEvent.class));
     }
 }
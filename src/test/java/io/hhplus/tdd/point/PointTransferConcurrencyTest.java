@@ -0,0 +1,98 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.exception.InsufficientPointException;
+import io.hhplus.tdd.point.exception.UserLockTimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 여러 유저 사이의 무작위 동시 이체 검증 테스트
+ *
+ * <p>수천 건의 이체를 돌리기 위해 메모리 저장소에 짧은 지연만 넣어 실행합니다.
+ * 이체 결과는 예외 종류별로 세고, 락 타임아웃은 한 건도 허용하지 않습니다.
+ */
+@SpringBootTest(properties = {
+    "point.store.backend=MEMORY",
+    "point.store.read.distribution=UNIFORM",
+    "point.store.read.max=1ms",
+    "point.store.write.distribution=UNIFORM",
+    "point.store.write.max=1ms"
+})
+@DisplayName("PointService 무작위 동시 이체 테스트")
+class PointTransferConcurrencyTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Test
+    @DisplayName("무작위 동시 이체 - 락 타임아웃 없이 완료되고 전체 포인트 총합이 보존됨")
+    void randomConcurrentTransfers_conserveTotal() throws InterruptedException {
+        // given
+        long baseUserId = 60000L;
+        int userCount = 20;
+        int transferCount = 5_000;
+        long initialBalance = 100_000L;
+        for (int i = 0; i < userCount; i++) {
+            pointService.chargePoint(baseUserId + i, initialBalance);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(transferCount);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger insufficient = new AtomicInteger();
+        AtomicInteger lockTimeouts = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        // when
+        for (int i = 0; i < transferCount; i++) {
+            executorService.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int from = random.nextInt(userCount);
+                int to = (from + 1 + random.nextInt(userCount - 1)) % userCount;
+                try {
+                    pointService.transferPoint(baseUserId + from, baseUserId + to, 100L + random.nextInt(900));
+                    succeeded.incrementAndGet();
+                } catch (InsufficientPointException e) {
+                    insufficient.incrementAndGet();
+                } catch (UserLockTimeoutException e) {
+                    lockTimeouts.incrementAndGet();
+                } catch (Throwable e) {
+                    unexpected.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        boolean completed = latch.await(120, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertTrue(completed, "모든 이체가 데드락 없이 완료되어야 함");
+        assertEquals(0, lockTimeouts.get(), "락 타임아웃으로 실패한 이체가 없어야 함");
+        assertTrue(unexpected.isEmpty(), () -> "예상하지 못한 예외: " + unexpected);
+        assertEquals(transferCount, succeeded.get() + insufficient.get());
+        assertTrue(succeeded.get() >= transferCount * 9 / 10,
+            "잔액이 충분하므로 대부분의 이체가 성공해야 함: " + succeeded.get() + "건");
+
+        long total = 0;
+        for (int i = 0; i < userCount; i++) {
+            total += pointService.getUserPoint(baseUserId + i).point();
+        }
+        assertEquals(userCount * initialBalance, total,
+            "성공한 이체 " + succeeded.get() + "건 이후에도 전체 포인트 총합은 보존되어야 함");
+    }
+}
@@ -0,0 +1,102 @@
+package io.hhplus.tdd.point.bulk;
+
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.exception.InvalidOperationException;
+import io.hhplus.tdd.point.exception.InvalidUserIdException;
+import io.hhplus.tdd.point.validator.PointValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BulkBalanceReader 테스트")
+class BulkBalanceReaderTest {
+
+    private static final long LOOKUP_MILLIS = 50L;
+
+    private final PointService pointService = mock(PointService.class);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final BulkBalanceReader reader = new BulkBalanceReader(
+        pointService, new PointValidator(), new BulkBalanceProperties(100, 32, 256), executor);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("중복된 유저는 한 번만 조회하고 결과는 처음 등장한 순서를 따름")
+    void read_dedupesAndKeepsFirstSeenOrder() {
+        // given
+        when(pointService.getUserPoint(anyLong()))
+            .thenAnswer(invocation -> new UserPoint(invocation.getArgument(0), 100L, 0L));
+
+        // when
+        Map<Long, UserPoint> balances = reader.read(List.of(3L, 1L, 3L, 2L, 1L));
+
+        // then
+        assertEquals(List.of(3L, 1L, 2L), List.copyOf(balances.keySet()));
+        balances.forEach((userId, userPoint) -> assertEquals(userId, userPoint.id()));
+        verify(pointService, times(3)).getUserPoint(anyLong());
+    }
+
+    @Test
+    @DisplayName("parallelism 이하의 유저는 조회 한 번에 가까운 시간 안에 모두 조회됨")
+    void read_fansOutLookups() {
+        // given
+        when(pointService.getUserPoint(anyLong())).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(LOOKUP_MILLIS);
+            return new UserPoint(invocation.getArgument(0), 100L, 0L);
+        });
+        List<Long> userIds = LongStream.rangeClosed(1, 32).boxed().toList();
+
+        // when
+        long start = System.nanoTime();
+        Map<Long, UserPoint> balances = reader.read(userIds);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then
+        assertEquals(32, balances.size());
+        assertTrue(elapsedMillis < LOOKUP_MILLIS * 8, "elapsed: " + elapsedMillis + "ms");
+    }
+
+    @Test
+    @DisplayName("빈 목록이나 최대 유저 수를 넘는 목록은 거부됨")
+    void read_rejectsInvalidSize() {
+        List<Long> tooMany = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        assertThrows(InvalidOperationException.class, () -> reader.read(List.of()));
+        assertThrows(InvalidOperationException.class, () -> reader.read(tooMany));
+        verifyNoInteractions(pointService);
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 유저 ID가 있으면 조회하지 않고 거부됨")
+    void read_rejectsInvalidUserId() {
+        assertThrows(InvalidUserIdException.class, () -> reader.read(List.of(1L, 0L)));
+        verifyNoInteractions(pointService);
+    }
+
+    @Test
+    @DisplayName("작업자 조회 중 발생한 예외는 원래 예외로 전달됨")
+    void read_propagatesLookupFailure() {
+        // given
+        when(pointService.getUserPoint(anyLong())).thenThrow(new IllegalStateException("store down"));
+
+        // when & then
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+            () -> reader.read(List.of(1L, 2L, 3L)));
+        assertEquals("store down", e.getMessage());
+    }
+}
@@ -0,0 +1,55 @@
+package io.hhplus.tdd.point.cache;
+
+import io.hhplus.tdd.point.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HistoryJsonCache 메모리 한도 테스트
+ */
+@SpringBootTest(properties = {
+    "point.store.backend=MEMORY",
+    "point.history.json-cache.max-user-bytes=1KB"
+})
+@DisplayName("HistoryJsonCache 테스트")
+class HistoryJsonCacheTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private HistoryJsonCache historyJsonCache;
+
+    @Test
+    @DisplayName("유저 한 명분이 한도를 넘으면 캐시하지 않거나 캐시에서 빼고, 요청마다 직렬화함")
+    void userOverByteCap_isServedUncached() {
+        // given
+        long smallUser = 88000L;
+        long largeUser = 88001L;
+        pointService.chargePoint(smallUser, 100L);
+        for (int i = 0; i < 15; i++) {
+            pointService.chargePoint(largeUser, 100L);
+        }
+        int size = historyJsonCache.size();
+        long retainedBytes = historyJsonCache.retainedBytes();
+
+        // when & then - 처음부터 한도를 넘는 유저는 캐시하지 않음
+        assertEquals(1, historyJsonCache.get(smallUser).count());
+        assertEquals(15, historyJsonCache.get(largeUser).count());
+        assertEquals(size + 1, historyJsonCache.size());
+        assertTrue(historyJsonCache.retainedBytes() > retainedBytes);
+
+        // when & then - 덧붙이다 한도를 넘은 유저는 캐시에서 빠지고 예약한 바이트도 돌려줌
+        for (int i = 0; i < 14; i++) {
+            pointService.chargePoint(smallUser, 100L);
+        }
+        assertEquals(size, historyJsonCache.size());
+        assertEquals(retainedBytes, historyJsonCache.retainedBytes());
+        assertEquals(15, historyJsonCache.get(smallUser).count());
+        assertEquals(size, historyJsonCache.size());
+    }
+}
@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistoryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HistoryJson 테스트")
+class HistoryJsonTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("직렬화 결과가 PointHistoryResponse 목록을 Jackson으로 직렬화한 것과 같음")
+    void of_matchesJackson() throws IOException {
+        // given
+        List<PointHistory> histories = List.of(
+            new PointHistory(1L, 7L, 1000L, TransactionType.CHARGE, 1_700_000_000_000L),
+            new PointHistory(2L, 7L, 300L, TransactionType.USE, 1_700_000_000_001L),
+            new PointHistory(Long.MAX_VALUE, 7L, 0L, TransactionType.TRANSFER_IN, 0L));
+
+        // when
+        HistoryJson json = HistoryJson.of(histories);
+
+        // then
+        assertEquals(jackson(histories), write(json));
+        assertEquals(write(json).getBytes(StandardCharsets.UTF_8).length, json.contentLength());
+        assertEquals("[]", write(HistoryJson.of(List.of())));
+    }
+
+    @Test
+    @DisplayName("이력을 덧붙여도 이전 버전의 바이트는 바뀌지 않음")
+    void append_keepsPreviousVersions() throws IOException {
+        // given
+        List<PointHistory> histories = new ArrayList<>();
+        HistoryJson empty = HistoryJson.of(List.of());
+        HistoryJson current = empty;
+        List<HistoryJson> versions = new ArrayList<>();
+
+        // when
+        for (long id = 1; id <= 100; id++) {
+            PointHistory history = new PointHistory(id, 7L, id * 100, TransactionType.CHARGE, id);
+            histories.add(history);
+            current = current.append(List.of(history));
+            versions.add(current);
+        }
+
+        // then
+        assertEquals("[]", write(empty));
+        assertEquals(100, current.count());
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(jackson(histories.subList(0, i + 1)), write(versions.get(i)));
+        }
+    }
+
+    private String jackson(List<PointHistory> histories) throws IOException {
+        return objectMapper.writeValueAsString(histories.stream().map(PointHistoryResponse::from).toList());
+    }
+
+    private static String write(HistoryJson json) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        json.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,113 @@
+package io.hhplus.tdd.point.coalesce;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.event.PointChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BalanceReadCoalescer 테스트")
+class BalanceReadCoalescerTest {
+
+    private static final int READERS = 16;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BalanceReadCoalescer coalescer = new BalanceReadCoalescer(meterRegistry);
+
+    @Test
+    @DisplayName("같은 유저를 동시에 조회하는 N개의 요청은 저장소 조회 한 번의 결과를 함께 받음")
+    void read_concurrentReadersShareOneStoreCall() throws Exception {
+        // given
+        AtomicInteger storeCalls = new AtomicInteger();
+        LongFunction<UserPoint> loader = userId -> {
+            storeCalls.incrementAndGet();
+            awaitWaiting(userId, READERS - 1);
+            return new UserPoint(userId, 1000L, System.currentTimeMillis());
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(READERS);
+
+        // when
+        List<UserPoint> results = new ArrayList<>();
+        try {
+            List<Future<UserPoint>> futures = new ArrayList<>();
+            for (int i = 0; i < READERS; i++) {
+                futures.add(executor.submit(() -> coalescer.read(1L, loader)));
+            }
+            for (Future<UserPoint> future : futures) {
+                results.add(future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertEquals(1, storeCalls.get());
+        assertTrue(results.stream().allMatch(result -> result == results.get(0)));
+        assertEquals(1.0, meterRegistry.counter("point.read.balance.store").count());
+        assertEquals(READERS - 1.0, meterRegistry.counter("point.read.balance.coalesced").count());
+    }
+
+    @Test
+    @DisplayName("쓰기가 끝난 뒤 들어온 조회는 진행 중인 조회에 합쳐지지 않고 새로 조회함")
+    void read_afterWriteStartsNewStoreCall() throws Exception {
+        // given
+        AtomicInteger storeCalls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        LongFunction<UserPoint> slowLoader = userId -> {
+            storeCalls.incrementAndGet();
+            await(release);
+            return new UserPoint(userId, 0L, 0L);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<UserPoint> before = executor.submit(() -> coalescer.read(1L, slowLoader));
+            Future<UserPoint> joined = executor.submit(() -> coalescer.read(1L, slowLoader));
+
+            // when
+            UserPoint written = new UserPoint(1L, 1000L, 1L);
+            awaitWaiting(1L, 1);
+            coalescer.onPointChanged(new PointChangedEvent(1L, written, List.of()));
+            UserPoint after = coalescer.read(1L, userId -> {
+                storeCalls.incrementAndGet();
+                return written;
+            });
+            release.countDown();
+
+            // then
+            assertEquals(1000L, after.point());
+            assertEquals(0L, before.get(5, TimeUnit.SECONDS).point());
+            assertEquals(0L, joined.get(5, TimeUnit.SECONDS).point());
+            assertEquals(2, storeCalls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitWaiting(long userId, int waiting) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.waiting(userId) < waiting && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.codec;
+
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.dto.PointHistoryResponse;
+import io.hhplus.tdd.point.dto.UserPointResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PointBinaryFormat 테스트")
+class PointBinaryFormatTest {
+
+    @Test
+    @DisplayName("잔액은 24바이트로 인코딩되고 그대로 디코딩됨")
+    void userPoint_roundTrip() throws IOException {
+        // given
+        UserPointResponse userPoint = new UserPointResponse(7L, 1_000_000L, 1_700_000_000_000L);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        PointBinaryFormat.write(userPoint, ByteBuffer.allocate(64), out);
+
+        // then
+        assertEquals(PointBinaryFormat.USER_POINT_BYTES, out.size());
+        assertEquals(7, out.toByteArray()[0]);
+        assertEquals(userPoint, PointBinaryFormat.readUserPoint(ByteBuffer.wrap(out.toByteArray())));
+    }
+
+    @Test
+    @DisplayName("버퍼보다 큰 이력 목록도 나눠 써서 그대로 디코딩됨")
+    void histories_roundTripAcrossFlushes() throws IOException {
+        // given
+        TransactionType[] types = TransactionType.values();
+        List<PointHistoryResponse> histories = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            histories.add(new PointHistoryResponse(id, 7L, id * 100, types[(int) (id % types.length)], id));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        PointBinaryFormat.write(histories, ByteBuffer.allocate(PointBinaryFormat.HISTORY_BYTES * 3), out);
+
+        // then
+        assertEquals(PointBinaryFormat.historiesLength(histories.size()), out.size());
+        assertEquals(histories, PointBinaryFormat.readHistories(ByteBuffer.wrap(out.toByteArray())));
+    }
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.point.expiry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HierarchicalTimingWheel 단위 테스트
+ */
+@DisplayName("HierarchicalTimingWheel 단위 테스트")
+class HierarchicalTimingWheelTest {
+
+    @Test
+    @DisplayName("만료 시각이 지난 작업만 만료 순서대로 반환됨")
+    void advance_returnsExpiredInOrder() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        wheel.schedule("b", 50);
+        wheel.schedule("a", 20);
+        wheel.schedule("c", 1000);
+
+        // when & then
+        assertEquals(List.of(), wheel.advance(19));
+        assertEquals(List.of("a"), wheel.advance(20));
+        assertEquals(List.of("b"), wheel.advance(100));
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    @DisplayName("상위 레벨에 놓인 먼 미래의 작업이 하위 레벨로 내려와 정확히 만료됨")
+    void advance_cascadesFarFutureTimeouts() {
+        // given - 틱 1초, 레벨당 64칸이면 30일은 4번째 레벨에 배치됨
+        long tick = 1000;
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(tick, 64, 0);
+        long deadline = Duration.ofDays(30).toMillis() + 500;
+        wheel.schedule("lot", deadline);
+
+        // when & then
+        assertEquals(List.of(), wheel.advance(deadline - tick));
+        assertEquals(List.of("lot"), wheel.advance(deadline + tick));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("취소된 작업은 반환되지 않음")
+    void cancel_removesTimeout() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 0);
+        HierarchicalTimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 500);
+        wheel.schedule("kept", 500);
+
+        // when
+        boolean result = wheel.cancel(cancelled);
+
+        // then
+        assertTrue(result);
+        assertFalse(wheel.cancel(cancelled), "이미 취소된 작업은 다시 취소되지 않음");
+        assertEquals(List.of("kept"), wheel.advance(500));
+    }
+
+    @Test
+    @DisplayName("이미 지난 만료 시각으로 등록하면 다음 틱에 반환됨")
+    void schedule_pastDeadline_expiresOnNextTick() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 1000);
+
+        // when
+        wheel.schedule("late", 500);
+
+        // then
+        assertEquals(List.of("late"), wheel.advance(1010));
+    }
+}
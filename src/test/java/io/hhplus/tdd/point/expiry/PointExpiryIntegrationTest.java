@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 포인트 만료 통합 테스트
+ *
+ * <p>유효기간을 짧게 설정하여 타이밍 휠 주기 작업이 실제로 포인트를 소멸시키는지 검증합니다.
+ */
+@SpringBootTest(properties = {
+    "point.expiry.ttl=2s",
+    "point.expiry.tick=100ms"
+})
+@DisplayName("포인트 만료 통합 테스트")
+class PointExpiryIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Test
+    @DisplayName("유효기간이 지나면 사용하고 남은 포인트만 소멸되고 EXPIRE 이력이 남음")
+    void expiredLot_isDeductedWithHistory() throws InterruptedException {
+        // given
+        long userId = 70000L;
+        pointService.chargePoint(userId, 5000L);
+        pointService.usePoint(userId, 2000L);
+
+        // when
+        Thread.sleep(4000);
+
+        // then
+        assertEquals(0L, pointService.getUserPoint(userId).point());
+        List<PointHistory> histories = pointService.getUserPointHistory(userId);
+        PointHistory last = histories.get(histories.size() - 1);
+        assertEquals(TransactionType.EXPIRE, last.type());
+        assertEquals(3000L, last.amount());
+    }
+}
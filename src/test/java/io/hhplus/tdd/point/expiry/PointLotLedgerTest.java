@@ -0,0 +1,64 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.event.PointChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PointLotLedger 단위 테스트
+ */
+@DisplayName("PointLotLedger 단위 테스트")
+class PointLotLedgerTest {
+
+    private static final long USER_ID = 1L;
+
+    private final PointLotLedger ledger =
+        new PointLotLedger(new PointExpiryProperties(Duration.ofMillis(1000), Duration.ofMillis(10), 64));
+
+    @Test
+    @DisplayName("사용 시 가장 오래된 묶음부터 차감됨")
+    void use_consumesOldestLotFirst() {
+        // given
+        long now = System.currentTimeMillis();
+        record(TransactionType.CHARGE, 1000L, now);
+        record(TransactionType.CHARGE, 2000L, now + 100);
+
+        // when
+        record(TransactionType.USE, 1500L, now + 200);
+
+        // then - 첫 번째 묶음은 모두 사용되어 만료되지 않고, 두 번째 묶음의 남은 1500만 만료 대상
+        assertEquals(1500L, ledger.remaining(USER_ID));
+        List<PointLot> expired = ledger.pollExpired(now + 5000);
+        assertEquals(1, expired.size());
+        assertEquals(1500L, ledger.expire(USER_ID, expired.get(0).lotId()));
+        assertEquals(0L, ledger.remaining(USER_ID));
+    }
+
+    @Test
+    @DisplayName("만료 전에 모두 사용된 묶음은 소멸 대상이 아님")
+    void expire_alreadyConsumedLot_returnsZero() {
+        // given
+        long now = System.currentTimeMillis();
+        record(TransactionType.CHARGE, 1000L, now);
+        List<PointLot> expired = ledger.pollExpired(now + 5000);
+
+        // when - 만료 처리 전에 사용됨
+        record(TransactionType.USE, 1000L, now + 5000);
+
+        // then
+        assertEquals(0L, ledger.expire(USER_ID, expired.get(0).lotId()));
+    }
+
+    private void record(TransactionType type, long amount, long updateMillis) {
+        PointHistory history = new PointHistory(0L, USER_ID, amount, type, updateMillis);
+        ledger.onPointChanged(new PointChangedEvent(USER_ID, new UserPoint(USER_ID, 0L, updateMillis), List.of(history)));
+    }
+}
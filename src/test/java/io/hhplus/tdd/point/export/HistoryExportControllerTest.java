@@ -0,0 +1,88 @@
+package io.hhplus.tdd.point.export;
+
+import com.jayway.jsonpath.JsonPath;
+import io.hhplus.tdd.point.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("HistoryExportController 통합 테스트")
+class HistoryExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private HistoryExporter historyExporter;
+
+    @Test
+    @DisplayName("내보내기 완료 후 다운로드한 파일에 전체 이력이 있고 Digest 헤더와 일치함")
+    void export_thenDownload() throws Exception {
+        // given
+        pointService.chargePoint(80000L, 1000L);
+        pointService.chargePoint(80001L, 2000L);
+        pointService.usePoint(80001L, 500L);
+
+        // when
+        MvcResult started = mockMvc.perform(post("/point/exports"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andReturn();
+        String jobId = JsonPath.read(started.getResponse().getContentAsString(), "$.jobId");
+        awaitCompletion(jobId);
+
+        // then
+        mockMvc.perform(get("/point/exports/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.sha256").isString());
+
+        MvcResult downloaded = mockMvc.perform(get("/point/exports/{jobId}/file", jobId))
+                .andExpect(status().isOk())
+                .andReturn();
+        byte[] body = downloaded.getResponse().getContentAsByteArray();
+        String csv = new String(body, StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("id,userId,type,amount,updateMillis\n"));
+        assertTrue(csv.contains(",80000,CHARGE,1000,"));
+        assertTrue(csv.contains(",80001,CHARGE,2000,"));
+        assertTrue(csv.contains(",80001,USE,500,"));
+
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+        assertEquals("sha-256=" + Base64.getEncoder().encodeToString(digest),
+                downloaded.getResponse().getHeader("Digest"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 내보내기 조회 시 에러")
+    void status_unknownJob() throws Exception {
+        mockMvc.perform(get("/point/exports/{jobId}", "unknown"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.code").value("500"));
+    }
+
+    private void awaitCompletion(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000L;
+        while (historyExporter.find(jobId).state() == HistoryExportJob.State.RUNNING) {
+            assertTrue(System.currentTimeMillis() < deadline, "export did not finish in time");
+            Thread.sleep(50);
+        }
+        assertEquals(HistoryExportJob.State.COMPLETED, historyExporter.find(jobId).state());
+    }
+}
@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point.export;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.PointUserDirectory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.exception.InvalidOperationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisplayName("HistoryExporter 테스트")
+class HistoryExporterTest {
+
+    @TempDir
+    Path directory;
+
+    private final PointService pointService = mock(PointService.class);
+    private final PointUserDirectory pointUserDirectory = new PointUserDirectory();
+    private HistoryExporter historyExporter;
+
+    @AfterEach
+    void tearDown() {
+        if (historyExporter != null) {
+            historyExporter.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("내보내는 도중 추가된 유저는 포함되지 않아 진행률이 전체 유저 수를 넘지 않음")
+    void export_usesUserSnapshot() throws Exception {
+        // given
+        historyExporter = new HistoryExporter(pointUserDirectory, pointService, properties(Duration.ofHours(1)));
+        pointUserDirectory.register(20L);
+        pointUserDirectory.register(30L);
+        when(pointService.getUserPointHistory(anyLong())).thenAnswer(invocation -> {
+            long userId = invocation.getArgument(0);
+            pointUserDirectory.register(userId - 10);
+            return List.of(new PointHistory(userId, userId, 100L, TransactionType.CHARGE, 0L));
+        });
+
+        // when
+        HistoryExportJob job = historyExporter.start();
+        awaitCompletion(job);
+
+        // then
+        assertEquals(2, job.totalUsers());
+        assertEquals(2, job.exportedUsers());
+        assertEquals(2, job.exportedRecords());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 작업은 목록과 파일이 함께 지워짐")
+    void purgeExpired_deletesJobAndFile() throws Exception {
+        // given
+        historyExporter = new HistoryExporter(pointUserDirectory, pointService, properties(Duration.ZERO));
+        HistoryExportJob job = historyExporter.start();
+        awaitCompletion(job);
+        assertTrue(Files.exists(job.file()));
+        Thread.sleep(5);
+
+        // when
+        historyExporter.purgeExpired();
+
+        // then
+        assertFalse(Files.exists(job.file()));
+        assertThrows(InvalidOperationException.class, () -> historyExporter.find(job.id()));
+    }
+
+    @Test
+    @DisplayName("시작할 때 이전 실행이 남긴 내보내기 파일을 지움")
+    void constructor_deletesPreviousFiles() throws Exception {
+        // given
+        Path previous = Files.writeString(directory.resolve("previous.csv"), "id\n");
+        Path partial = Files.writeString(directory.resolve("previous.csv.part"), "id\n");
+        Path unrelated = Files.writeString(directory.resolve("notes.txt"), "keep");
+
+        // when
+        historyExporter = new HistoryExporter(pointUserDirectory, pointService, properties(Duration.ofHours(1)));
+
+        // then
+        assertFalse(Files.exists(previous));
+        assertFalse(Files.exists(partial));
+        assertTrue(Files.exists(unrelated));
+    }
+
+    private HistoryExportProperties properties(Duration retention) {
+        return new HistoryExportProperties(directory, 4096, retention, Duration.ofMinutes(5));
+    }
+
+    private static void awaitCompletion(HistoryExportJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000L;
+        while (job.state() == HistoryExportJob.State.RUNNING) {
+            assertTrue(System.currentTimeMillis() < deadline, "export did not finish in time");
+            Thread.sleep(10);
+        }
+        assertEquals(HistoryExportJob.State.COMPLETED, job.state());
+    }
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.hotkey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DecayingFrequencySketch 테스트")
+class DecayingFrequencySketchTest {
+
+    @Test
+    @DisplayName("추정치는 실제 빈도보다 작지 않고, 드문 키는 자주 쓰인 키보다 작게 추정됨")
+    void estimate_neverUnderCounts() {
+        // given
+        DecayingFrequencySketch sketch = new DecayingFrequencySketch(1024, 1_000_000);
+
+        // when
+        for (int i = 0; i < 500; i++) {
+            sketch.incrementAndEstimate(42L);
+        }
+        for (long key = 1000; key < 3000; key++) {
+            sketch.incrementAndEstimate(key);
+        }
+
+        // then
+        assertTrue(sketch.estimate(42L) >= 500);
+        assertTrue(sketch.estimate(1500L) >= 1);
+        assertTrue(sketch.estimate(1500L) < 50);
+    }
+
+    @Test
+    @DisplayName("sampleSize번 기록할 때마다 모든 빈도가 절반으로 줄어듦")
+    void estimate_decaysEverySample() {
+        // given
+        DecayingFrequencySketch sketch = new DecayingFrequencySketch(1024, 100);
+
+        // when
+        for (int i = 0; i < 99; i++) {
+            sketch.incrementAndEstimate(7L);
+        }
+        int beforeDecay = sketch.estimate(7L);
+        sketch.incrementAndEstimate(7L);
+
+        // then
+        assertEquals(99, beforeDecay);
+        assertEquals(50, sketch.estimate(7L));
+    }
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.hotkey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HotKeyDetector 테스트")
+class HotKeyDetectorTest {
+
+    @Test
+    @DisplayName("빈도가 hotThreshold에 닿으면 hot이 되고, coolThreshold 아래로 식을 때까지 유지됨")
+    void recordWrite_usesHysteresis() {
+        // given
+        HotKeyDetector detector = new HotKeyDetector(
+            new HotKeyProperties(true, 1024, 40, 8, 4, 64), new SimpleMeterRegistry());
+        long hotUserId = 1L;
+
+        // when
+        boolean beforeThreshold = false;
+        for (int i = 0; i < 7; i++) {
+            beforeThreshold |= detector.recordWrite(hotUserId);
+        }
+        boolean atThreshold = detector.recordWrite(hotUserId);
+        // 다른 유저 쓰기로 두 번 감쇠시켜 8 -> 4 -> 2로 식힘
+        for (long otherUserId = 100; otherUserId < 100 + 72; otherUserId++) {
+            detector.recordWrite(otherUserId);
+        }
+        boolean afterCooling = detector.recordWrite(hotUserId);
+
+        // then
+        assertFalse(beforeThreshold);
+        assertTrue(atThreshold);
+        assertFalse(afterCooling);
+        assertFalse(detector.isHot(hotUserId));
+    }
+
+    @Test
+    @DisplayName("비활성화하면 모든 쓰기를 일반 경로로 보냄")
+    void recordWrite_disabled() {
+        // given
+        HotKeyDetector detector = new HotKeyDetector(
+            new HotKeyProperties(false, 1024, 40, 1, 1, 64), new SimpleMeterRegistry());
+
+        // when & then
+        assertFalse(detector.recordWrite(1L));
+        assertTrue(detector.hotUsers().isEmpty());
+    }
+}
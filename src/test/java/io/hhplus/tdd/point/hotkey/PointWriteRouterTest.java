@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.hotkey;
+
+import io.hhplus.tdd.point.PointService;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.exception.InsufficientPointException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * hot 유저 전용 경로 통합 테스트
+ *
+ * <p>기준값을 1로 두어 모든 쓰기가 전용 경로로 가게 하고, 동시에 들어온 요청이 합쳐져도 결과가 일반 경로와 같은지 검증합니다.
+ */
+@SpringBootTest(properties = {
+    "point.hotkey.hot-threshold=1",
+    "point.hotkey.cool-threshold=1"
+})
+@DisplayName("PointWriteRouter 통합 테스트")
+class PointWriteRouterTest {
+
+    @Autowired
+    private PointWriteRouter pointWriteRouter;
+
+    @Autowired
+    private PointService pointService;
+
+    @Test
+    @DisplayName("동시 충전이 합쳐져 처리되어도 각 요청은 서로 다른 중간 잔액을 받고 최종 잔액과 이력이 모두 반영됨")
+    void concurrentCharges_areCombined() throws Exception {
+        // given
+        long userId = 90000L;
+        int requests = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+
+        // when
+        List<Future<UserPoint>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> pointWriteRouter.chargePoint(userId, 100L)));
+        }
+        Set<Long> balances = new HashSet<>();
+        for (Future<UserPoint> future : futures) {
+            balances.add(future.get().point());
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(LongStream.rangeClosed(1, requests).map(i -> i * 100).boxed().collect(Collectors.toSet()), balances);
+        assertEquals(requests * 100L, pointService.getUserPoint(userId).point());
+        assertEquals(requests, pointService.getUserPointHistory(userId).stream()
+            .filter(history -> history.type() == TransactionType.CHARGE)
+            .count());
+    }
+
+    @Test
+    @DisplayName("전용 경로에서도 잔액이 부족한 사용 요청은 같은 예외로 실패함")
+    void use_insufficientPoint() {
+        // given
+        long userId = 90001L;
+        pointWriteRouter.chargePoint(userId, 500L);
+
+        // when & then
+        assertThrows(InsufficientPointException.class, () -> pointWriteRouter.usePoint(userId, 1000L));
+        assertEquals(500L, pointService.getUserPoint(userId).point());
+    }
+}
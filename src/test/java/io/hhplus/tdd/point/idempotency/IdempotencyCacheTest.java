@@ -0,0 +1,196 @@
+package io.hhplus.tdd.point.idempotency;
+
+import io.hhplus.tdd.point.PointOperation;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.exception.InsufficientPointException;
+import io.hhplus.tdd.point.exception.InvalidOperationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("IdempotencyCache 테스트")
+class IdempotencyCacheTest {
+
+    private static final PointOperation CHARGE = new PointOperation(TransactionType.CHARGE, 1000L);
+
+    @Test
+    @DisplayName("같은 키로 다시 보낸 요청은 쓰기를 실행하지 않고 처음 결과를 받음")
+    void execute_replaysStoredResult() {
+        // given
+        IdempotencyCache cache = cache(Duration.ofHours(1), 100);
+        AtomicInteger writes = new AtomicInteger();
+        UserPoint first = cache.execute(1L, "key-1", CHARGE, () -> point(1L, writes.incrementAndGet() * 1000L));
+
+        // when
+        UserPoint replayed = cache.execute(1L, "key-1", CHARGE, () -> point(1L, writes.incrementAndGet() * 1000L));
+        UserPoint otherUser = cache.execute(2L, "key-1", CHARGE, () -> point(2L, writes.incrementAndGet() * 1000L));
+
+        // then
+        assertSame(first, replayed);
+        assertEquals(2000L, otherUser.point());
+        assertEquals(2, writes.get());
+    }
+
+    @Test
+    @DisplayName("실행 중인 원래 요청이 있으면 같은 키의 요청은 끝날 때까지 기다렸다가 같은 결과를 받음")
+    void execute_concurrentDuplicatesWaitForOriginal() throws Exception {
+        // given
+        IdempotencyCache cache = cache(Duration.ofHours(1), 100);
+        AtomicInteger writes = new AtomicInteger();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // when
+            Future<UserPoint> original = executor.submit(() -> cache.execute(1L, "key-1", CHARGE, () -> {
+                writes.incrementAndGet();
+                writing.countDown();
+                await(release);
+                return point(1L, 1000L);
+            }));
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+            List<Future<UserPoint>> duplicates = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                duplicates.add(executor.submit(() -> cache.execute(1L, "key-1", CHARGE, () -> {
+                    writes.incrementAndGet();
+                    return point(1L, -1L);
+                })));
+            }
+            Thread.sleep(50);
+            assertTrue(duplicates.stream().noneMatch(Future::isDone));
+            release.countDown();
+
+            // then
+            UserPoint result = original.get(5, TimeUnit.SECONDS);
+            for (Future<UserPoint> duplicate : duplicates) {
+                assertSame(result, duplicate.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, writes.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("실패한 결과는 보관하지 않아 같은 키로 다시 시도할 수 있음")
+    void execute_doesNotStoreFailures() {
+        // given
+        IdempotencyCache cache = cache(Duration.ofHours(1), 100);
+        PointOperation use = new PointOperation(TransactionType.USE, 1000L);
+
+        // when
+        assertThrows(InsufficientPointException.class, () -> cache.execute(1L, "key-1", use, () -> {
+            throw new InsufficientPointException(0L, 1000L);
+        }));
+        UserPoint retried = cache.execute(1L, "key-1", use, () -> point(1L, 0L));
+
+        // then
+        assertEquals(0L, retried.point());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("실행 중인 원래 요청이 실패하면 기다리던 요청도 같은 예외를 받고 재사용으로 세지 않음")
+    void execute_duplicateOfFailureIsNotCountedAsReplay() throws Exception {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        IdempotencyCache cache = new IdempotencyCache(
+            new IdempotencyProperties(true, Duration.ofHours(1), 100, 255), meterRegistry);
+        PointOperation use = new PointOperation(TransactionType.USE, 1000L);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<UserPoint> original = executor.submit(() -> cache.execute(1L, "key-1", use, () -> {
+                writing.countDown();
+                await(release);
+                throw new InsufficientPointException(0L, 1000L);
+            }));
+            assertTrue(writing.await(5, TimeUnit.SECONDS));
+            Future<UserPoint> duplicate = executor.submit(() -> cache.execute(1L, "key-1", use, () -> point(1L, 0L)));
+            Thread.sleep(50);
+            release.countDown();
+
+            // then
+            ExecutionException originalFailure = assertThrows(ExecutionException.class,
+                () -> original.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(InsufficientPointException.class, originalFailure.getCause());
+            ExecutionException duplicateFailure = assertThrows(ExecutionException.class,
+                () -> duplicate.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(InsufficientPointException.class, duplicateFailure.getCause());
+            assertEquals(0.0, meterRegistry.counter("point.idempotency.replays").count());
+            assertEquals(0, cache.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 키를 다른 연산에 쓰거나 키가 비어 있으면 거부함")
+    void execute_rejectsInvalidKeys() {
+        // given
+        IdempotencyCache cache = cache(Duration.ofHours(1), 100);
+        cache.execute(1L, "key-1", CHARGE, () -> point(1L, 1000L));
+
+        // when & then
+        assertThrows(InvalidOperationException.class, () -> cache.execute(1L, "key-1",
+            new PointOperation(TransactionType.USE, 1000L), () -> point(1L, 0L)));
+        assertThrows(InvalidOperationException.class, () -> cache.execute(1L, " ", CHARGE, () -> point(1L, 0L)));
+        assertThrows(InvalidOperationException.class, () -> cache.execute(1L, "k".repeat(256), CHARGE,
+            () -> point(1L, 0L)));
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 오래된 결과부터, 보관 기간이 지나면 만료된 결과를 버림")
+    void execute_evictsOldestAndExpired() throws InterruptedException {
+        // given
+        IdempotencyCache bounded = cache(Duration.ofHours(1), 10);
+        IdempotencyCache expiring = cache(Duration.ofMillis(20), 100);
+        AtomicInteger writes = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            bounded.execute(1L, "key-" + i, CHARGE, () -> point(1L, 0L));
+        }
+        expiring.execute(1L, "key-1", CHARGE, () -> point(1L, writes.incrementAndGet()));
+        Thread.sleep(50);
+        UserPoint afterExpiry = expiring.execute(1L, "key-1", CHARGE, () -> point(1L, writes.incrementAndGet()));
+
+        // then
+        assertTrue(bounded.size() <= 11, "size " + bounded.size());
+        assertEquals(2L, afterExpiry.point());
+    }
+
+    private static IdempotencyCache cache(Duration ttl, int maxEntries) {
+        return new IdempotencyCache(new IdempotencyProperties(true, ttl, maxEntries, 255), new SimpleMeterRegistry());
+    }
+
+    private static UserPoint point(long userId, long point) {
+        return new UserPoint(userId, point, System.currentTimeMillis());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
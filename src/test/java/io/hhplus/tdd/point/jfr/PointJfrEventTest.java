@@ -0,0 +1,120 @@
+package io.hhplus.tdd.point.jfr;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.exception.InsufficientPointException;
+import io.hhplus.tdd.point.lock.UserLock;
+import io.hhplus.tdd.point.lock.UserLockAdvisor;
+import io.hhplus.tdd.point.lock.UserLockInterceptor;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JFR 이벤트 기록 테스트
+ *
+ * <p>테스트 안에서 직접 JFR 기록을 시작하고, 파일로 저장한 이벤트를 읽어 필드를 검증합니다.
+ */
+@DisplayName("JFR 이벤트 테스트")
+class PointJfrEventTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("@UserLock 메서드 호출마다 userId, amount, 락 대기/보유 시간, 결과가 기록됨")
+    void userLockInterceptor_recordsOperation() throws IOException {
+        // given
+        ProxyFactory factory = new ProxyFactory(new Wallet());
+        factory.addAdvisor(new UserLockAdvisor(new UserLockInterceptor(new UserLockManager())));
+        Wallet wallet = (Wallet) factory.getProxy();
+
+        // when
+        List<RecordedEvent> events = record(PointOperationEvent.NAME, () -> {
+            wallet.charge(7L, 300L);
+            assertThrows(InsufficientPointException.class, () -> wallet.use(7L, 1000L));
+        });
+
+        // then
+        assertEquals(2, events.size());
+        RecordedEvent charge = events.get(0);
+        assertEquals("charge", charge.getString("operation"));
+        assertEquals(7L, charge.getLong("userId"));
+        assertEquals(300L, charge.getLong("amount"));
+        assertEquals("SUCCESS", charge.getString("outcome"));
+        assertTrue(charge.getDuration("lockHold").compareTo(Duration.ofMillis(10)) >= 0);
+        assertFalse(charge.getDuration("lockWait").isNegative());
+        assertEquals("InsufficientPointException", events.get(1).getString("outcome"));
+    }
+
+    @Test
+    @DisplayName("테이블 호출마다 테이블, 메서드, userId가 기록됨")
+    void tableCallAdvisor_recordsCall() throws IOException {
+        // given
+        ProxyFactory factory = new ProxyFactory(new UserPointTable());
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new TableCallAdvisor());
+        UserPointTable table = (UserPointTable) factory.getProxy();
+
+        // when
+        List<RecordedEvent> events = record(TableCallEvent.NAME, () -> table.insertOrUpdate(9L, 100L));
+
+        // then
+        assertEquals(1, events.size());
+        assertEquals("UserPointTable", events.get(0).getString("table"));
+        assertEquals("insertOrUpdate", events.get(0).getString("method"));
+        assertEquals(9L, events.get(0).getLong("userId"));
+    }
+
+    private List<RecordedEvent> record(String eventName, Runnable action) throws IOException {
+        Path file = directory.resolve("test.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+            .filter(event -> event.getEventType().getName().equals(eventName))
+            .toList();
+    }
+
+    public static class Wallet {
+
+        private long balance;
+
+        @UserLock
+        public void charge(long userId, long amount) {
+            sleep();
+            balance += amount;
+        }
+
+        @UserLock
+        public void use(long userId, long amount) {
+            if (balance < amount) {
+                throw new InsufficientPointException(balance, amount);
+            }
+            balance -= amount;
+        }
+
+        private static void sleep() {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package io.hhplus.tdd.point.leaderboard;
+
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.validator.PointValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BalanceLeaderboard 테스트")
+class BalanceLeaderboardTest {
+
+    @Test
+    @DisplayName("상위 목록은 잔액 내림차순, 같은 잔액은 같은 순위(경쟁 순위)로 반환함")
+    void top_usesCompetitionRanking() {
+        // given
+        BalanceLeaderboard leaderboard = new BalanceLeaderboard(new PointValidator());
+        leaderboard.update(1L, 500L);
+        leaderboard.update(2L, 900L);
+        leaderboard.update(3L, 500L);
+        leaderboard.update(4L, 100L);
+
+        // when
+        List<RankedBalance> top = leaderboard.top(3);
+
+        // then
+        assertEquals(List.of(
+            new RankedBalance(1L, 2L, 900L),
+            new RankedBalance(2L, 1L, 500L),
+            new RankedBalance(2L, 3L, 500L)
+        ), top);
+        assertEquals(new RankedBalance(4L, 4L, 100L), leaderboard.rank(4L));
+    }
+
+    @Test
+    @DisplayName("잔액이 바뀌면 이전 위치의 항목은 사라지고 순위가 다시 계산됨")
+    void update_movesUser() {
+        // given
+        BalanceLeaderboard leaderboard = new BalanceLeaderboard(new PointValidator());
+        leaderboard.update(1L, 500L);
+        leaderboard.update(2L, 900L);
+
+        // when
+        leaderboard.update(1L, 1000L);
+
+        // then
+        assertEquals(List.of(new RankedBalance(1L, 1L, 1000L), new RankedBalance(2L, 2L, 900L)),
+            leaderboard.top(10));
+        assertEquals(new RankedBalance(2L, 2L, 900L), leaderboard.rank(2L));
+        assertEquals(new RankedBalance(3L, 99L, 0L), leaderboard.rank(99L));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 유저들을 유저 락 안에서 갱신해도 최종 목록과 순위가 마지막 잔액과 일치함")
+    void concurrentUpdates_remainConsistent() throws InterruptedException {
+        // given
+        BalanceLeaderboard leaderboard = new BalanceLeaderboard(new PointValidator());
+        UserLockManager userLockManager = new UserLockManager();
+        ConcurrentHashMap<Long, Long> latest = new ConcurrentHashMap<>();
+        int users = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 20_000; i++) {
+            executor.execute(() -> {
+                long userId = ThreadLocalRandom.current().nextLong(1, users + 1);
+                long balance = ThreadLocalRandom.current().nextLong(0, 1_000_001);
+                userLockManager.withUserLock(userId, () -> {
+                    leaderboard.update(userId, balance);
+                    latest.put(userId, balance);
+                    return null;
+                });
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // then
+        List<Long> expected = new ArrayList<>(latest.keySet());
+        expected.sort(Comparator.comparing(latest::get, Comparator.reverseOrder()));
+        List<RankedBalance> top = leaderboard.top(users);
+        assertEquals(latest.size(), top.size());
+        assertEquals(expected.stream().map(latest::get).toList(), top.stream().map(RankedBalance::point).toList());
+        for (RankedBalance ranked : top) {
+            assertEquals(ranked, leaderboard.rank(ranked.userId()));
+        }
+    }
+
+    @Test
+    @DisplayName("조회 중 잔액이 올라 순위가 앞당겨진 유저도 상위 목록에서 빠지지 않음")
+    void top_keepsRisingUsers() throws InterruptedException {
+        // given
+        BalanceLeaderboard leaderboard = new BalanceLeaderboard(new PointValidator());
+        int users = 200;
+        for (long userId = 1; userId <= users; userId++) {
+            leaderboard.update(userId, userId);
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            long[] balances = new long[users + 1];
+            while (running.get()) {
+                int userId = ThreadLocalRandom.current().nextInt(1, users + 1);
+                balances[userId] += ThreadLocalRandom.current().nextLong(1, 1_000);
+                leaderboard.update(userId, userId + balances[userId]);
+            }
+        });
+        writer.start();
+
+        // when & then
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+            while (System.nanoTime() < deadline) {
+                assertEquals(users, leaderboard.top(users).size());
+            }
+        } finally {
+            running.set(false);
+            writer.join();
+        }
+    }
+}
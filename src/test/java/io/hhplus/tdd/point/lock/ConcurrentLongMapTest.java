@@ -0,0 +1,72 @@
+package io.hhplus.tdd.point.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConcurrentLongMap 단위 테스트
+ */
+@DisplayName("ConcurrentLongMap 단위 테스트")
+class ConcurrentLongMapTest {
+
+    @Test
+    @DisplayName("없는 키는 null, 추가한 키는 같은 값을 반환 (재해시 이후 포함)")
+    void computeIfAbsent_thenGet() {
+        // given
+        ConcurrentLongMap<String> map = new ConcurrentLongMap<>(2);
+
+        // when
+        for (long key = -50; key < 1000; key++) {
+            map.computeIfAbsent(key, Long::toString);
+        }
+
+        // then
+        assertEquals(1050, map.size());
+        assertEquals("0", map.get(0L));
+        assertEquals("-50", map.get(-50L));
+        assertEquals("999", map.get(999L));
+        assertNull(map.get(1000L));
+        assertSame(map.get(7L), map.computeIfAbsent(7L, key -> "other"));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 키로 동시에 추가해도 값은 하나만 만들어짐")
+    void computeIfAbsent_concurrent() throws Exception {
+        // given
+        ConcurrentLongMap<Object> map = new ConcurrentLongMap<>(4);
+        ConcurrentHashMap<Long, Object> seen = new ConcurrentHashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < 8; t++) {
+            Random random = new Random(t);
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    long key = random.nextInt(10_000);
+                    Object value = map.computeIfAbsent(key, k -> new Object());
+                    Object previous = seen.putIfAbsent(key, value);
+                    assertTrue(previous == null || previous == value, "duplicated value for key " + key);
+                    assertSame(value, map.get(key));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertEquals(seen.size(), map.size());
+    }
+}
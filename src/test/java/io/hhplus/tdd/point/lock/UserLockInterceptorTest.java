@@ -0,0 +1,176 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.exception.UserLockTimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopConfigException;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UserLockInterceptor 단위 테스트
+ *
+ * <p>스프링 컨텍스트 없이 ProxyFactory로 Advisor를 적용한 프록시를 만들어 검증합니다.
+ */
+@DisplayName("UserLockInterceptor 단위 테스트")
+class UserLockInterceptorTest {
+
+    private final UserLockManager userLockManager = new UserLockManager();
+
+    @Test
+    @DisplayName("같은 userId에 대한 동시 호출은 순차적으로 실행됨")
+    void sameUser_isSerialized() throws InterruptedException {
+        // given
+        Counter target = new Counter();
+        Counter counter = proxy(target);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 8_000; i++) {
+            executor.execute(() -> counter.increment(1L));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(8_000, target.value);
+    }
+
+    @Test
+    @DisplayName("두 userId를 반대 순서로 동시에 잠가도 데드락이 발생하지 않음")
+    void crossedUsers_noDeadlock() throws InterruptedException {
+        // given
+        Counter target = new Counter();
+        Counter counter = proxy(target);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 4_000; i++) {
+            boolean forward = i % 2 == 0;
+            executor.execute(() -> counter.transfer(forward ? 1L : 2L, forward ? 2L : 1L));
+        }
+        executor.shutdown();
+
+        // then
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(4_000, target.value);
+    }
+
+    @Test
+    @DisplayName("userId 파라미터가 long이 아닌 메서드가 있으면 프록시 생성 시점에 예외")
+    void invalidParameter_failsOnProxyCreation() {
+        // given
+        ProxyFactory factory = new ProxyFactory(new InvalidTarget());
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new UserLockAdvisor(new UserLockInterceptor(userLockManager)));
+
+        // when & then
+        AopConfigException e = assertThrows(AopConfigException.class, factory::getProxy);
+        assertInstanceOf(IllegalStateException.class, NestedExceptionUtils.getMostSpecificCause(e));
+    }
+
+    @Test
+    @DisplayName("withUserLock은 다른 스레드가 락을 보유하면 제한 시간 후 예외")
+    void withUserLock_timeout() throws InterruptedException {
+        // given
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> userLockManager.withUserLock(5L, () -> {
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+            }
+            return null;
+        }));
+        holder.start();
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        // when & then
+        try {
+            assertThrows(UserLockTimeoutException.class,
+                () -> userLockManager.withUserLock(5L, 50L, () -> "unreachable"));
+            assertEquals("ok", userLockManager.withUserLock(6L, 50L, () -> "ok"));
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+
+    @Test
+    @DisplayName("timeout의 설정값을 해석하여 락 대기 시간으로 사용")
+    void timeoutPlaceholder_isResolved() throws InterruptedException {
+        // given
+        MockEnvironment environment = new MockEnvironment().withProperty("test.lock-timeout", "50ms");
+        ProxyFactory factory = new ProxyFactory(new TimedTarget());
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new UserLockAdvisor(
+            new UserLockInterceptor(userLockManager, environment::resolveRequiredPlaceholders)));
+        TimedTarget timed = (TimedTarget) factory.getProxy();
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> userLockManager.withUserLock(7L, () -> {
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+            }
+            return null;
+        }));
+        holder.start();
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        // when & then
+        try {
+            assertThrows(UserLockTimeoutException.class, () -> timed.run(7L));
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+
+    private Counter proxy(Counter target) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new UserLockAdvisor(new UserLockInterceptor(userLockManager)));
+        return (Counter) factory.getProxy();
+    }
+
+    static class Counter {
+
+        int value;
+
+        @UserLock
+        public void increment(long userId) {
+            value++;
+        }
+
+        @UserLock(userIdParams = {0, 1})
+        public void transfer(long fromUserId, long toUserId) {
+            value++;
+        }
+    }
+
+    static class TimedTarget {
+
+        @UserLock(timeout = "${test.lock-timeout}")
+        public void run(long userId) {
+        }
+    }
+
+    static class InvalidTarget {
+
+        @UserLock
+        public void invalid(String userId) {
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.lock;
+
+import io.hhplus.tdd.point.exception.UserLockTimeoutException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 사용자 락 전략 테스트
+ *
+ * <p>모든 전략이 같은 유저에 대해 상호 배제와 대기 시간 제한을 지키는지 검증합니다.
+ */
+@DisplayName("UserLockStrategy 테스트")
+class UserLockStrategyTest {
+
+    @ParameterizedTest
+    @EnumSource(UserLockProperties.Type.class)
+    @DisplayName("같은 유저에 대한 동시 작업은 순차적으로 실행됨")
+    void sameUser_isSerialized(UserLockProperties.Type type) throws InterruptedException {
+        // given
+        UserLockManager userLockManager = manager(type);
+        long[] counters = new long[4];
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 8_000; i++) {
+            int userId = i % counters.length;
+            executor.execute(() -> userLockManager.withUserLock(userId, () -> counters[userId]++));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // then
+        assertArrayEquals(new long[]{2_000, 2_000, 2_000, 2_000}, counters);
+    }
+
+    @ParameterizedTest
+    @EnumSource(UserLockProperties.Type.class)
+    @DisplayName("다른 스레드가 락을 보유하면 제한 시간 후 예외")
+    void heldLock_timesOut(UserLockProperties.Type type) throws InterruptedException {
+        // given
+        UserLockManager userLockManager = manager(type);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> userLockManager.withUserLock(1L, () -> {
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+            }
+            return null;
+        }));
+        holder.start();
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        // when & then
+        try {
+            assertThrows(UserLockTimeoutException.class, () -> userLockManager.withUserLock(1L, 50L, () -> null));
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(UserLockProperties.Type.class)
+    @DisplayName("락을 보유한 스레드는 같은 유저의 락을 다시 획득할 수 있음")
+    void nestedAcquisition_isReentrant(UserLockProperties.Type type) throws Exception {
+        // given
+        UserLockManager userLockManager = manager(type);
+
+        // when
+        String result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> userLockManager.withUserLock(1L,
+            () -> userLockManager.withUserLock(1L, 50L, () -> userLockManager.withUserLock(1L, () -> "nested"))));
+
+        // then
+        assertEquals("nested", result);
+        CompletableFuture<String> other =
+            CompletableFuture.supplyAsync(() -> userLockManager.withUserLock(1L, 50L, () -> "released"));
+        assertEquals("released", other.get(5, TimeUnit.SECONDS), "중첩 획득을 모두 해제하면 다른 스레드가 락을 얻어야 함");
+    }
+
+    private static UserLockManager manager(UserLockProperties.Type type) {
+        return new UserLockManager(UserLockStrategy.of(new UserLockProperties(type, 256)));
+    }
+}
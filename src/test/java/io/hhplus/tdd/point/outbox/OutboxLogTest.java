@@ -0,0 +1,79 @@
+package io.hhplus.tdd.point.outbox;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OutboxLog 테스트")
+class OutboxLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록한 이력을 오프셋 순서대로 임의 위치부터 읽을 수 있음")
+    void appendThenRead() throws IOException {
+        // given
+        try (OutboxLog log = new OutboxLog(directory.resolve("outbox.log"), false)) {
+            long first = log.append(List.of(
+                new PointHistory(1L, 10L, 1000L, TransactionType.CHARGE, 100L),
+                new PointHistory(2L, 10L, 300L, TransactionType.USE, 200L)
+            ));
+            long second = log.append(List.of(new PointHistory(3L, 20L, 50L, TransactionType.TRANSFER_IN, 300L)));
+
+            // when
+            List<OutboxRecord> records = log.read(1, 10);
+
+            // then
+            assertEquals(0L, first);
+            assertEquals(2L, second);
+            assertEquals(3L, log.endOffset());
+            assertEquals(List.of(
+                new OutboxRecord(1L, 2L, 10L, TransactionType.USE, 300L, 200L),
+                new OutboxRecord(2L, 3L, 20L, TransactionType.TRANSFER_IN, 50L, 300L)
+            ), records);
+            assertTrue(log.read(3, 10).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("다시 열면 기록 도중 중단된 꼬리를 잘라내고 이어서 기록함")
+    void reopen_truncatesTornTail() throws IOException {
+        // given
+        Path file = directory.resolve("outbox.log");
+        try (OutboxLog log = new OutboxLog(file, false)) {
+            log.append(List.of(
+                new PointHistory(1L, 10L, 1000L, TransactionType.CHARGE, 100L),
+                new PointHistory(2L, 10L, 300L, TransactionType.USE, 200L)
+            ));
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            // 두 번째 레코드 일부를 덮어쓰고 세 번째 레코드의 앞부분만 남김
+            channel.write(ByteBuffer.wrap(new byte[]{1, 2, 3}), OutboxLog.RECORD_SIZE + 5);
+            channel.write(ByteBuffer.wrap(new byte[7]), OutboxLog.RECORD_SIZE * 2L);
+        }
+
+        // when
+        try (OutboxLog log = new OutboxLog(file, false)) {
+            long next = log.append(List.of(new PointHistory(3L, 10L, 500L, TransactionType.CHARGE, 300L)));
+
+            // then
+            assertEquals(1L, next);
+            assertEquals(List.of(
+                new OutboxRecord(0L, 1L, 10L, TransactionType.CHARGE, 1000L, 100L),
+                new OutboxRecord(1L, 3L, 10L, TransactionType.CHARGE, 500L, 300L)
+            ), log.read(0, 10));
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.hhplus.tdd.point.outbox;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.event.PointChangedEvent;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.store.InMemoryPointHistoryStore;
+import io.hhplus.tdd.point.store.PointHistoryStore;
+import io.hhplus.tdd.point.tiering.ColdHistoryStore;
+import io.hhplus.tdd.point.tiering.HistoryTieringProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 아웃박스 전달 보장 테스트
+ *
+ * <p>주기 작업 대신 {@link OutboxConsumerConfig#drain}을 직접 호출하여 오프셋 커밋과 재전달을 검증합니다.
+ */
+@DisplayName("PointOutbox 테스트")
+class PointOutboxTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("컨슈머가 실패하면 오프셋을 커밋하지 않고 같은 배치를 다시 전달함")
+    void failedBatch_isRedelivered() throws IOException {
+        // given
+        OutboxProperties properties = new OutboxProperties(true, directory, 2, Duration.ofSeconds(1), false);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PointOutbox outbox = new PointOutbox(properties, meterRegistry);
+        RecordingConsumer consumer = new RecordingConsumer();
+        OutboxConsumerConfig config = new OutboxConsumerConfig(outbox, null, meterRegistry, properties);
+        DistributionSummary batchSize = meterRegistry.summary("point.outbox.consumer.batch.size");
+        for (long id = 1; id <= 3; id++) {
+            outbox.onPointChanged(changed(id));
+        }
+
+        // when
+        consumer.failNext = true;
+        config.drain(consumer, batchSize);
+        long committedAfterFailure = outbox.committedOffset(consumer.name());
+        config.drain(consumer, batchSize);
+
+        // then
+        assertEquals(0L, committedAfterFailure);
+        assertEquals(3L, outbox.committedOffset(consumer.name()));
+        assertEquals(List.of(0L, 1L, 0L, 1L, 2L), consumer.offsets);
+        assertEquals(2L, batchSize.count());
+        assertEquals(3.0, batchSize.totalAmount());
+        outbox.close();
+    }
+
+    @Test
+    @DisplayName("재시작하면 마지막으로 커밋한 오프셋 다음부터 이어서 전달함")
+    void restart_resumesFromCommittedOffset() throws IOException {
+        // given
+        OutboxProperties properties = new OutboxProperties(true, directory, 10, Duration.ofSeconds(1), false);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DistributionSummary batchSize = meterRegistry.summary("point.outbox.consumer.batch.size");
+        PointOutbox before = new PointOutbox(properties, meterRegistry);
+        before.onPointChanged(changed(1L));
+        before.onPointChanged(changed(2L));
+        new OutboxConsumerConfig(before, null, meterRegistry, properties).drain(new RecordingConsumer(), batchSize);
+        before.onPointChanged(changed(3L));
+        before.close();
+
+        // when
+        SimpleMeterRegistry restartedRegistry = new SimpleMeterRegistry();
+        PointOutbox after = new PointOutbox(properties, restartedRegistry);
+        RecordingConsumer consumer = new RecordingConsumer();
+        new OutboxConsumerConfig(after, null, restartedRegistry, properties).drain(consumer, batchSize);
+
+        // then
+        assertEquals(List.of(2L), consumer.offsets);
+        assertEquals(3L, after.endOffset());
+        assertEquals(3L, after.committedOffset(consumer.name()));
+        after.close();
+    }
+
+    @Test
+    @DisplayName("기록에 실패한 이력은 목록에 남고, 재시작 후 재기록 작업이 저장소에서 읽어 아웃박스에 기록함")
+    void failedAppend_isReplayedAfterRestart() throws IOException {
+        // given
+        OutboxProperties properties = new OutboxProperties(true, directory, 10, Duration.ofSeconds(1), false);
+        PointHistoryStore pointHistoryStore = new InMemoryPointHistoryStore();
+        PointHistory history = pointHistoryStore.insert(1L, 100L, TransactionType.CHARGE, 1L);
+        PointOutbox before = new PointOutbox(properties, new SimpleMeterRegistry());
+        before.close();
+        before.onPointChanged(new PointChangedEvent(1L, new UserPoint(1L, 100L, 1L), List.of(history)));
+
+        // when
+        PointOutbox after = new PointOutbox(properties, new SimpleMeterRegistry());
+        ColdHistoryStore coldHistoryStore = new ColdHistoryStore(new HistoryTieringProperties(
+            false, directory.resolve("cold"), Duration.ofDays(30), Duration.ofHours(1), 128, 1000));
+        int replayed = new OutboxRepairer(after, pointHistoryStore, coldHistoryStore, new UserLockManager()).repair();
+
+        // then
+        assertEquals(1, replayed);
+        assertEquals(1L, after.endOffset());
+        assertEquals(history.id(), after.poll("recording").get(0).historyId());
+        assertTrue(after.missed().isEmpty());
+        after.close();
+    }
+
+    private static PointChangedEvent changed(long historyId) {
+        long userId = 1L;
+        return new PointChangedEvent(userId, new UserPoint(userId, historyId * 100, historyId),
+            List.of(new PointHistory(historyId, userId, 100L, TransactionType.CHARGE, historyId)));
+    }
+
+    private static class RecordingConsumer implements OutboxConsumer {
+
+        private final List<Long> offsets = new ArrayList<>();
+        private boolean failNext;
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void consume(List<OutboxRecord> batch) {
+            batch.forEach(record -> offsets.add(record.offset()));
+            if (failNext) {
+                failNext = false;
+                throw new IllegalStateException("downstream unavailable");
+            }
+        }
+    }
+}
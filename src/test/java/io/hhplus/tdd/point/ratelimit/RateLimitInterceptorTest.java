@@ -0,0 +1,78 @@
+package io.hhplus.tdd.point.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+    "point.rate-limit.enabled=true",
+    "point.rate-limit.endpoints.charge.capacity=2",
+    "point.rate-limit.endpoints.charge.refill-per-second=0.01"
+})
+@AutoConfigureMockMvc
+@DisplayName("RateLimitInterceptor 통합 테스트")
+class RateLimitInterceptorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("버킷이 비면 충전 요청을 429로 거부하고, 다른 엔드포인트와 다른 유저는 영향을 받지 않음")
+    void charge_rejectedWhenBucketEmpty() throws Exception {
+        // given
+        long userId = 95000L;
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(patch("/point/{id}/charge", userId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("1000"))
+                .andExpect(status().isOk());
+        }
+
+        // when & then
+        mockMvc.perform(patch("/point/{id}/charge", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("1000"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists("Retry-After"))
+            .andExpect(jsonPath("$.code").value("429"));
+        mockMvc.perform(get("/point/{id}", userId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.point").value(2000));
+        mockMvc.perform(patch("/point/{id}/charge", userId + 1)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("1000"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("비동기 충전 요청은 결과를 쓰는 재디스패치에서 다시 세지 않음")
+    void asyncCharge_countedOnce() throws Exception {
+        // given
+        long userId = 95100L;
+        for (int i = 0; i < 2; i++) {
+            MvcResult result = mockMvc.perform(patch("/async/point/{id}/charge", userId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("1000"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+            mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+        }
+
+        // when & then
+        mockMvc.perform(patch("/async/point/{id}/charge", userId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("1000"))
+            .andExpect(status().isTooManyRequests());
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenBucketLimiter 테스트")
+class TokenBucketLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    @DisplayName("버킷 크기만큼 한 번에 허용하고, 이후에는 충전 속도만큼만 허용함")
+    void tryAcquire_burstThenRefill() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(5, 10);
+        long now = 1_000 * SECOND;
+
+        // when & then
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0L, limiter.tryAcquire(1L, now));
+        }
+        long wait = limiter.tryAcquire(1L, now);
+        assertEquals(SECOND / 10, wait);
+        assertEquals(0L, limiter.tryAcquire(2L, now), "다른 유저는 별도 버킷");
+        assertEquals(0L, limiter.tryAcquire(1L, now + wait));
+        assertTrue(limiter.tryAcquire(1L, now + wait) > 0);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0L, limiter.tryAcquire(1L, now + 10 * SECOND));
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 유저로 동시에 요청해도 버킷 크기보다 많이 허용하지 않음")
+    void tryAcquire_concurrent() throws Exception {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(100, 0.001);
+        long now = System.nanoTime();
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        if (limiter.tryAcquire(1L, now) == 0L) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertEquals(100, allowed.get());
+    }
+
+    @Test
+    @DisplayName("유휴 기간 동안 가득 찬 상태로 남은 버킷만 정리함")
+    void evictIdle_removesFullIdleBuckets() {
+        // given
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, 1);
+        long now = 1_000 * SECOND;
+        limiter.tryAcquire(1L, now);
+        limiter.tryAcquire(2L, now + 60 * SECOND);
+
+        // when
+        int evicted = limiter.evictIdle(now + 70 * SECOND, 30 * SECOND);
+
+        // then
+        assertEquals(1, evicted);
+        assertEquals(1, limiter.size());
+    }
+}
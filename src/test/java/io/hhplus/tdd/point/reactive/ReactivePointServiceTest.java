@@ -0,0 +1,90 @@
+package io.hhplus.tdd.point.reactive;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.exception.InsufficientPointException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReactivePointService 통합 테스트
+ *
+ * <p>사용자별 직렬 큐를 통해 같은 사용자의 쓰기가 순서대로 반영되는지 검증합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("reactive")
+@DisplayName("ReactivePointService 통합 테스트")
+class ReactivePointServiceTest {
+
+    @Autowired
+    private ReactivePointService reactivePointService;
+
+    @Test
+    @DisplayName("동시 충전 - 사용자별 큐를 통해 모든 충전이 정확히 반영됨")
+    void concurrentCharges_serializedPerUser() {
+        // given
+        long userId = 40000L;
+        int requestCount = 10;
+        long chargeAmount = 1000L;
+
+        // when
+        Flux.range(0, requestCount)
+            .flatMap(i -> reactivePointService.chargePoint(userId, chargeAmount))
+            .blockLast(Duration.ofSeconds(30));
+
+        // then
+        UserPoint result = reactivePointService.getUserPoint(userId).block(Duration.ofSeconds(5));
+        assertNotNull(result);
+        assertEquals(requestCount * chargeAmount, result.point());
+
+        List<PointHistory> histories = reactivePointService.getUserPointHistory(userId).block(Duration.ofSeconds(5));
+        assertNotNull(histories);
+        assertEquals(requestCount, histories.size());
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 동시에 충전해도 한 번만 반영됨")
+    void concurrentCharges_withSameIdempotencyKey_appliedOnce() {
+        // given
+        long userId = 40002L;
+
+        // when
+        List<UserPoint> results = Flux.range(0, 5)
+            .flatMap(i -> reactivePointService.chargePoint(userId, 1000L, "retry-1"))
+            .collectList()
+            .block(Duration.ofSeconds(30));
+
+        // then
+        assertNotNull(results);
+        assertTrue(results.stream().allMatch(result -> result.point() == 1000L));
+        assertEquals(1, reactivePointService.getUserPointHistory(userId).block(Duration.ofSeconds(5)).size());
+    }
+
+    @Test
+    @DisplayName("실패한 작업 이후에도 같은 사용자의 다음 작업이 실행됨")
+    void failedOperation_doesNotBlockQueue() {
+        // given
+        long userId = 40001L;
+
+        // when
+        assertThrows(InsufficientPointException.class,
+            () -> reactivePointService.usePoint(userId, 1000L).block(Duration.ofSeconds(5)));
+        UserPoint result = reactivePointService.chargePoint(userId, 2000L).block(Duration.ofSeconds(5));
+
+        // then
+        assertNotNull(result);
+        assertEquals(2000L, result.point());
+        List<PointHistory> histories = reactivePointService.getUserPointHistory(userId).block(Duration.ofSeconds(5));
+        assertEquals(TransactionType.CHARGE, histories.get(0).type());
+    }
+}
@@ -0,0 +1,81 @@
+package io.hhplus.tdd.point.reconcile;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointUserDirectory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.event.PointChangedEvent;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.outbox.OutboxProperties;
+import io.hhplus.tdd.point.outbox.PointOutbox;
+import io.hhplus.tdd.point.store.InMemoryUserPointStore;
+import io.hhplus.tdd.point.store.UserPointStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 잔액-이력 대사 테스트
+ *
+ * <p>작은 구간/유저 단위로 작업을 나누도록 설정하여 ForkJoin 분할과 합치기 경로를 모두 거치게 합니다.
+ */
+@DisplayName("LedgerReconciler 테스트")
+class LedgerReconcilerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("이력 합계와 잔액이 다른 유저만 불일치로 보고함")
+    void reportsOnlyMismatchedUsers() throws IOException {
+        // given
+        PointOutbox outbox = new PointOutbox(
+            new OutboxProperties(true, directory, 500, Duration.ofSeconds(1), false), new SimpleMeterRegistry());
+        UserPointStore userPointStore = new InMemoryUserPointStore();
+        PointUserDirectory pointUserDirectory = new PointUserDirectory();
+        record(outbox, userPointStore, 1L, 700L,
+            history(1L, 1L, 1000L, TransactionType.CHARGE),
+            history(2L, 1L, 300L, TransactionType.USE));
+        record(outbox, userPointStore, 2L, 400L,
+            history(3L, 2L, 500L, TransactionType.CHARGE));
+        record(outbox, userPointStore, 3L, 250L,
+            history(4L, 3L, 400L, TransactionType.TRANSFER_IN),
+            history(5L, 3L, 100L, TransactionType.TRANSFER_OUT),
+            history(6L, 3L, 50L, TransactionType.EXPIRE));
+        pointUserDirectory.register(1L);
+        pointUserDirectory.register(2L);
+        pointUserDirectory.register(3L);
+        LedgerReconciler reconciler = new LedgerReconciler(outbox, userPointStore, pointUserDirectory,
+            new UserLockManager(), new ReconciliationProperties(false, Duration.ofHours(1), 2, 2, 1, 1000));
+        LedgerReconciliation reconciliation = new LedgerReconciliation("test");
+
+        // when
+        reconciler.run(reconciliation);
+
+        // then
+        assertEquals(LedgerReconciliation.State.COMPLETED, reconciliation.state());
+        assertEquals(6L, reconciliation.cutoffOffset());
+        assertEquals(3L, reconciliation.checkedUsers());
+        assertEquals(1L, reconciliation.mismatchCount());
+        assertEquals(List.of(new LedgerMismatch(2L, 400L, 500L)), reconciliation.mismatches());
+        reconciler.shutdown();
+    }
+
+    private static void record(PointOutbox outbox, UserPointStore userPointStore, long userId, long balance,
+                               PointHistory... histories) {
+        UserPoint userPoint = userPointStore.insertOrUpdate(userId, balance);
+        outbox.onPointChanged(new PointChangedEvent(userId, userPoint, List.of(histories)));
+    }
+
+    private static PointHistory history(long id, long userId, long amount, TransactionType type) {
+        return new PointHistory(id, userId, amount, type, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point.reconcile;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LongLongHashMap 테스트")
+class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("무작위 키에 더한 값이 HashMap으로 계산한 합계와 같음 (빈 슬롯 표시 값 키 포함)")
+    void add_matchesHashMap() {
+        // given
+        Random random = new Random(42);
+        LongLongHashMap map = new LongLongHashMap();
+        Map<Long, Long> expected = new HashMap<>();
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            long key = i % 1000 == 0 ? Long.MIN_VALUE : random.nextInt(5000);
+            long delta = random.nextInt(1000) - 500;
+            map.add(key, delta);
+            expected.merge(key, delta, Long::sum);
+        }
+
+        // then
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+        assertEquals(expected.size(), map.keys().length);
+        assertFalse(map.containsKey(-1L));
+    }
+
+    @Test
+    @DisplayName("두 맵을 합치면 같은 키의 값이 더해짐")
+    void merge_sumsValues() {
+        // given
+        LongLongHashMap left = new LongLongHashMap();
+        left.add(1L, 100L);
+        left.add(2L, 200L);
+        LongLongHashMap right = new LongLongHashMap();
+        right.add(2L, -50L);
+        right.add(3L, 30L);
+
+        // when
+        LongLongHashMap merged = LongLongHashMap.merge(left, right);
+
+        // then
+        assertEquals(3, merged.size());
+        assertEquals(100L, merged.get(1L));
+        assertEquals(150L, merged.get(2L));
+        assertEquals(30L, merged.get(3L));
+    }
+}
@@ -0,0 +1,139 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.PointUserDirectory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.expiry.PointExpiryProperties;
+import io.hhplus.tdd.point.expiry.PointLotLedger;
+import io.hhplus.tdd.point.leaderboard.BalanceLeaderboard;
+import io.hhplus.tdd.point.leaderboard.RankedBalance;
+import io.hhplus.tdd.point.store.InMemoryPointHistoryStore;
+import io.hhplus.tdd.point.store.InMemoryUserPointStore;
+import io.hhplus.tdd.point.store.PointHistoryStore;
+import io.hhplus.tdd.point.store.TablePointHistoryStore;
+import io.hhplus.tdd.point.store.TableUserPointStore;
+import io.hhplus.tdd.point.store.UserPointStore;
+import io.hhplus.tdd.point.tiering.ColdHistoryStore;
+import io.hhplus.tdd.point.tiering.HistoryTieringProperties;
+import io.hhplus.tdd.point.validator.PointValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 스냅샷 저장/복원 테스트
+ *
+ * <p>실제 테이블에 데이터를 넣고 스냅샷을 저장한 뒤, 새 테이블로 복원하여 상태가 같은지 검증합니다.
+ */
+@DisplayName("PointSnapshotRestorer 테스트")
+class PointSnapshotRestorerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("저장한 스냅샷을 빈 테이블에 복원하면 포인트, 이력 id, 만료 장부가 같아짐")
+    void writeThenRestore() throws IOException {
+        // given
+        PointSnapshotProperties properties = new PointSnapshotProperties(true, directory, 4, 2);
+        UserPointStore sourcePoints = new InMemoryUserPointStore();
+        PointHistoryStore sourceHistories = new InMemoryPointHistoryStore();
+        PointUserDirectory sourceDirectory = new PointUserDirectory();
+        long now = System.currentTimeMillis();
+        sourcePoints.insertOrUpdate(1L, 700L);
+        sourceHistories.insert(1L, 1000L, TransactionType.CHARGE, now);
+        sourceHistories.insert(2L, 500L, TransactionType.CHARGE, now);
+        sourceHistories.insert(1L, 300L, TransactionType.USE, now);
+        sourcePoints.insertOrUpdate(2L, 500L);
+        sourceDirectory.register(1L);
+        sourceDirectory.register(2L);
+        ColdHistoryStore coldHistoryStore = new ColdHistoryStore(new HistoryTieringProperties(
+            false, directory.resolve("cold"), Duration.ofDays(30), Duration.ofHours(1), 128, 1000));
+        new PointSnapshotWriter(sourcePoints, sourceHistories, coldHistoryStore, sourceDirectory, properties).write();
+
+        UserPointStore userPointStore = new InMemoryUserPointStore();
+        PointHistoryStore pointHistoryStore = new InMemoryPointHistoryStore();
+        PointUserDirectory pointUserDirectory = new PointUserDirectory();
+        PointLotLedger pointLotLedger = new PointLotLedger(
+            new PointExpiryProperties(Duration.ofDays(365), Duration.ofSeconds(1), 512));
+        BalanceLeaderboard balanceLeaderboard = new BalanceLeaderboard(new PointValidator());
+        PointSnapshotRestorer restorer = new PointSnapshotRestorer(
+            userPointStore, pointHistoryStore, pointUserDirectory, pointLotLedger, balanceLeaderboard, properties);
+
+        // when
+        long restored = restorer.restore();
+
+        // then
+        assertEquals(2, restored);
+        assertEquals(700L, userPointStore.selectById(1L).point());
+        assertEquals(500L, userPointStore.selectById(2L).point());
+        assertEquals(sourceHistories.selectAllByUserId(1L), pointHistoryStore.selectAllByUserId(1L));
+        assertEquals(sourceHistories.selectAllByUserId(2L), pointHistoryStore.selectAllByUserId(2L));
+        assertEquals(2, pointUserDirectory.size());
+        assertEquals(700L, pointLotLedger.remaining(1L));
+        assertEquals(500L, pointLotLedger.remaining(2L));
+        assertEquals(new RankedBalance(1L, 1L, 700L), balanceLeaderboard.rank(1L));
+        assertEquals(sourcePoints.selectById(1L).updateMillis(), userPointStore.selectById(1L).updateMillis());
+        assertEquals(4L, pointHistoryStore.insert(2L, 100L, TransactionType.CHARGE, now).id());
+    }
+
+    @Test
+    @DisplayName("테이블 저장소에는 이력을 id 순서대로 순차 적재하여 같은 id를 다시 받음")
+    void writeThenRestore_intoTables() throws IOException {
+        // given
+        PointSnapshotProperties properties = new PointSnapshotProperties(true, directory, 4, 2);
+        UserPointStore sourcePoints = new InMemoryUserPointStore();
+        PointHistoryStore sourceHistories = new InMemoryPointHistoryStore();
+        PointUserDirectory sourceDirectory = new PointUserDirectory();
+        long now = System.currentTimeMillis();
+        sourcePoints.insertOrUpdate(1L, 700L);
+        sourceHistories.insert(1L, 1000L, TransactionType.CHARGE, now);
+        sourceHistories.insert(2L, 500L, TransactionType.CHARGE, now);
+        sourceHistories.insert(1L, 300L, TransactionType.USE, now);
+        sourcePoints.insertOrUpdate(2L, 500L);
+        sourceDirectory.register(1L);
+        sourceDirectory.register(2L);
+        ColdHistoryStore coldHistoryStore = new ColdHistoryStore(new HistoryTieringProperties(
+            false, directory.resolve("cold"), Duration.ofDays(30), Duration.ofHours(1), 128, 1000));
+        new PointSnapshotWriter(sourcePoints, sourceHistories, coldHistoryStore, sourceDirectory, properties).write();
+
+        UserPointStore userPointStore = new TableUserPointStore(new UserPointTable());
+        PointHistoryStore pointHistoryStore = new TablePointHistoryStore(new PointHistoryTable());
+        PointUserDirectory pointUserDirectory = new PointUserDirectory();
+        PointSnapshotRestorer restorer = new PointSnapshotRestorer(
+            userPointStore, pointHistoryStore, pointUserDirectory,
+            new PointLotLedger(new PointExpiryProperties(Duration.ofDays(365), Duration.ofSeconds(1), 512)),
+            new BalanceLeaderboard(new PointValidator()), properties);
+
+        // when
+        long restored = restorer.restore();
+
+        // then
+        assertEquals(2, restored);
+        assertEquals(700L, userPointStore.selectById(1L).point());
+        assertEquals(sourceHistories.selectAllByUserId(1L), pointHistoryStore.selectAllByUserId(1L));
+        assertEquals(sourceHistories.selectAllByUserId(2L), pointHistoryStore.selectAllByUserId(2L));
+        assertEquals(2, pointUserDirectory.size());
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 아무것도 복원하지 않음")
+    void restore_withoutSnapshot() throws IOException {
+        // given
+        PointSnapshotRestorer restorer = new PointSnapshotRestorer(
+            new InMemoryUserPointStore(), new InMemoryPointHistoryStore(), new PointUserDirectory(),
+            new PointLotLedger(new PointExpiryProperties(Duration.ofDays(365), Duration.ofSeconds(1), 512)),
+            new BalanceLeaderboard(new PointValidator()),
+            new PointSnapshotProperties(true, directory, 4, 2));
+
+        // when & then
+        assertEquals(0, restorer.restore());
+    }
+}
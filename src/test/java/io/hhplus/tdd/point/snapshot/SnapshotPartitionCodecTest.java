@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SnapshotPartitionCodec 단위 테스트
+ */
+@DisplayName("SnapshotPartitionCodec 단위 테스트")
+class SnapshotPartitionCodecTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("저장한 파티션을 읽으면 유저와 이력이 그대로 복원됨")
+    void writeThenRead() throws IOException {
+        // given
+        Path file = directory.resolve("partition-0000.snap");
+        List<UserSnapshot> users = List.of(
+            new UserSnapshot(new UserPoint(1L, 700L, 10L), List.of(
+                new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 5L),
+                new PointHistory(3L, 1L, 300L, TransactionType.USE, 9L)
+            )),
+            new UserSnapshot(new UserPoint(17L, 0L, 20L), List.of())
+        );
+
+        // when
+        try (SnapshotPartitionCodec.PartitionWriter writer = SnapshotPartitionCodec.open(file, 0)) {
+            for (UserSnapshot user : users) {
+                writer.write(user.userPoint(), user.histories());
+            }
+        }
+
+        // then
+        assertEquals(users, SnapshotPartitionCodec.read(file));
+    }
+
+    @Test
+    @DisplayName("손상된 파티션은 읽기에 실패")
+    void read_corruptedPartition_fails() throws IOException {
+        // given
+        Path file = directory.resolve("partition-0000.snap");
+        try (SnapshotPartitionCodec.PartitionWriter writer = SnapshotPartitionCodec.open(file, 0)) {
+            writer.write(new UserPoint(1L, 700L, 10L),
+                List.of(new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 5L)));
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[20] ^= 0x01;
+        Files.write(file, bytes);
+
+        // when & then
+        assertThrows(IOException.class, () -> SnapshotPartitionCodec.read(file));
+    }
+}
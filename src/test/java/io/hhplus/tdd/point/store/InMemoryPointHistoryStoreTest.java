@@ -0,0 +1,127 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryPointHistoryStore 테스트")
+class InMemoryPointHistoryStoreTest {
+
+    @Test
+    @DisplayName("이력 id는 저장 순서대로 1부터 증가하고, 유저별로 저장 순서대로 조회됨")
+    void insert_assignsSequentialIds() {
+        // given
+        InMemoryPointHistoryStore store = new InMemoryPointHistoryStore();
+
+        // when
+        store.insert(1L, 1000L, TransactionType.CHARGE, 10L);
+        store.insert(2L, 500L, TransactionType.CHARGE, 20L);
+        store.insert(1L, 300L, TransactionType.USE, 30L);
+
+        // then
+        assertEquals(List.of(
+            new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 10L),
+            new PointHistory(3L, 1L, 300L, TransactionType.USE, 30L)), store.selectAllByUserId(1L));
+        assertEquals(List.of(new PointHistory(2L, 2L, 500L, TransactionType.CHARGE, 20L)), store.selectAllByUserId(2L));
+        assertTrue(store.selectAllByUserId(3L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("조회한 목록은 이후의 저장에 영향을 받지 않음")
+    void selectAllByUserId_returnsSnapshot() {
+        // given
+        InMemoryPointHistoryStore store = new InMemoryPointHistoryStore();
+        for (int i = 0; i < 8; i++) {
+            store.insert(1L, 100L, TransactionType.CHARGE, i);
+        }
+        List<PointHistory> before = store.selectAllByUserId(1L);
+
+        // when
+        store.insert(1L, 100L, TransactionType.CHARGE, 8L);
+
+        // then
+        assertEquals(8, before.size());
+        assertEquals(9, store.selectAllByUserId(1L).size());
+        assertThrows(UnsupportedOperationException.class, () -> before.add(before.get(0)));
+    }
+
+    @Test
+    @DisplayName("여러 유저가 동시에 저장해도 id가 겹치지 않고 유저별 이력이 모두 남음")
+    void insert_concurrentUsers() throws Exception {
+        // given
+        InMemoryPointHistoryStore store = new InMemoryPointHistoryStore();
+        int users = 8;
+        int perUser = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+
+        // when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long userId = 1; userId <= users; userId++) {
+                long id = userId;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perUser; i++) {
+                        store.insert(id, 100L, TransactionType.CHARGE, i);
+                        if (i % 1000 == 0) {
+                            assertEquals(i + 1, store.selectAllByUserId(id).size());
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        Set<Long> ids = new HashSet<>();
+        for (long userId = 1; userId <= users; userId++) {
+            List<PointHistory> histories = store.selectAllByUserId(userId);
+            assertEquals(perUser, histories.size());
+            for (int i = 0; i < perUser; i++) {
+                assertEquals(i, histories.get(i).updateMillis());
+                if (i > 0) {
+                    assertTrue(histories.get(i).id() > histories.get(i - 1).id());
+                }
+                ids.add(histories.get(i).id());
+            }
+        }
+        assertEquals((long) users * perUser, ids.size());
+    }
+
+    @Test
+    @DisplayName("deleteThrough는 지정한 id까지의 앞부분만 지우고, 이후 저장과 조회는 그대로 동작함")
+    void deleteThrough_dropsPrefix() {
+        // given
+        InMemoryPointHistoryStore store = new InMemoryPointHistoryStore();
+        for (int i = 0; i < 20; i++) {
+            store.insert(1L, 100L, TransactionType.CHARGE, i);
+        }
+        List<PointHistory> before = store.selectAllByUserId(1L);
+
+        // when
+        boolean deleted = store.deleteThrough(1L, before.get(14).id());
+        store.insert(1L, 300L, TransactionType.USE, 20L);
+
+        // then
+        assertTrue(deleted);
+        List<PointHistory> after = store.selectAllByUserId(1L);
+        assertEquals(before.subList(15, 20), after.subList(0, 5));
+        assertEquals(6, after.size());
+        assertEquals(300L, after.get(5).amount());
+        assertEquals(20, before.size());
+    }
+}
@@ -0,0 +1,87 @@
+package io.hhplus.tdd.point.store;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LatencyDistribution 테스트")
+class LatencyDistributionTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    @DisplayName("균등 분포는 최소~최대 사이 값만 뽑음")
+    void uniform_staysWithinBounds() {
+        // given
+        LatencyDistribution distribution = LatencyDistribution.uniform(Duration.ofMillis(1), Duration.ofMillis(3));
+        Random random = new Random(42);
+
+        // when & then
+        for (int i = 0; i < SAMPLES; i++) {
+            long nanos = distribution.sampleNanos(random);
+            assertTrue(nanos >= 1_000_000L && nanos <= 3_000_000L, "sample " + nanos);
+        }
+    }
+
+    @Test
+    @DisplayName("로그 정규 분포의 표본 중앙값은 설정한 중앙값에 가깝고, 꼬리는 중앙값보다 훨씬 김")
+    void logNormal_matchesMedian() {
+        // given
+        LatencyDistribution distribution = LatencyDistribution.logNormal(Duration.ofMillis(2), 1.0);
+        long[] samples = sample(distribution);
+
+        // when
+        Arrays.sort(samples);
+
+        // then
+        long median = samples[SAMPLES / 2];
+        assertEquals(2_000_000.0, median, 100_000.0);
+        assertTrue(samples[(int) (SAMPLES * 0.999)] > median * 10);
+    }
+
+    @Test
+    @DisplayName("꼬리 지연은 설정한 확률만큼 붙음")
+    void withSpikes_addsSpikeAtProbability() {
+        // given
+        LatencyDistribution distribution = LatencyDistribution.fixed(Duration.ofMillis(1))
+            .withSpikes(0.01, Duration.ofMillis(100));
+
+        // when
+        long spikes = Arrays.stream(sample(distribution)).filter(nanos -> nanos == 101_000_000L).count();
+
+        // then
+        assertEquals(SAMPLES * 0.01, spikes, SAMPLES * 0.002);
+    }
+
+    @Test
+    @DisplayName("설정으로 만든 분포: NONE은 지연이 없고, 꼬리 지연만 설정해도 적용됨")
+    void from_profile() {
+        // given
+        PointStoreProperties.LatencyProfile none = new PointStoreProperties.LatencyProfile(
+            PointStoreProperties.Distribution.NONE, Duration.ofMillis(1), Duration.ZERO, Duration.ofMillis(5),
+            Duration.ofMillis(2), 0.5, 0, Duration.ofMillis(200));
+        PointStoreProperties.LatencyProfile spikesOnly = new PointStoreProperties.LatencyProfile(
+            PointStoreProperties.Distribution.NONE, Duration.ofMillis(1), Duration.ZERO, Duration.ofMillis(5),
+            Duration.ofMillis(2), 0.5, 1.0, Duration.ofMillis(200));
+
+        // when & then
+        assertFalse(none.injects());
+        assertEquals(0L, LatencyDistribution.from(none).sampleNanos(new Random(42)));
+        assertTrue(spikesOnly.injects());
+        assertEquals(200_000_000L, LatencyDistribution.from(spikesOnly).sampleNanos(new Random(42)));
+    }
+
+    private static long[] sample(LatencyDistribution distribution) {
+        Random random = new Random(42);
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            samples[i] = distribution.sampleNanos(random);
+        }
+        return samples;
+    }
+}
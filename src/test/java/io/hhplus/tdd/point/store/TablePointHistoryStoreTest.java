@@ -0,0 +1,40 @@
+package io.hhplus.tdd.point.store;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TablePointHistoryStore 테스트")
+class TablePointHistoryStoreTest {
+
+    @Test
+    @DisplayName("유저별 색인 조회 결과가 테이블 조회 결과와 같고, 겹친 저장도 id 순서로 조회됨")
+    void selectAllByUserId_matchesTable() {
+        // given
+        PointHistoryTable table = new PointHistoryTable();
+        TablePointHistoryStore store = new TablePointHistoryStore(table);
+
+        // when
+        CompletableFuture<?>[] inserts = new CompletableFuture<?>[6];
+        for (int i = 0; i < inserts.length; i++) {
+            long userId = i % 2 + 1;
+            inserts[i] = CompletableFuture.runAsync(() -> store.insert(userId, 100L, TransactionType.CHARGE, 0L));
+        }
+        CompletableFuture.allOf(inserts).join();
+
+        // then
+        for (long userId = 1; userId <= 2; userId++) {
+            List<PointHistory> histories = store.selectAllByUserId(userId);
+            assertEquals(table.selectAllByUserId(userId), histories);
+            assertEquals(3, histories.size());
+        }
+        assertTrue(store.selectAllByUserId(3L).isEmpty());
+    }
+}
@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.stream;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BalanceSubscriber 단위 테스트
+ */
+@DisplayName("BalanceSubscriber 단위 테스트")
+class BalanceSubscriberTest {
+
+    @Test
+    @DisplayName("전송이 막힌 동안 들어온 잔액은 최신 값 하나로 합쳐져 전송됨")
+    void slowConsumer_receivesLatestOnly() throws InterruptedException {
+        // given
+        CountDownLatch firstSendStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter emitter = new RecordingEmitter(firstSendStarted, release);
+        ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+        BalanceSubscriber subscriber = new BalanceSubscriber(1L, emitter, dispatcher);
+
+        // when
+        subscriber.offer(new UserPoint(1L, 0L, 1L));
+        assertTrue(firstSendStarted.await(5, TimeUnit.SECONDS));
+        for (long i = 2; i <= 100; i++) {
+            subscriber.offer(new UserPoint(1L, i * 100, i));
+        }
+        release.countDown();
+        dispatcher.shutdown();
+        assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(2, emitter.sent.size());
+    }
+
+    @Test
+    @DisplayName("보낼 잔액이 있으면 하트비트가 잔액을 덮어쓰지 않음")
+    void heartbeat_doesNotReplaceBalance() throws InterruptedException {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter(new CountDownLatch(1), new CountDownLatch(0));
+        ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+        CountDownLatch blocker = new CountDownLatch(1);
+        dispatcher.execute(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        BalanceSubscriber subscriber = new BalanceSubscriber(1L, emitter, dispatcher);
+
+        // when
+        subscriber.offer(new UserPoint(1L, 500L, 1L));
+        subscriber.offerHeartbeat();
+        blocker.countDown();
+        dispatcher.shutdown();
+        assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(1, emitter.sent.size());
+    }
+
+    @Test
+    @DisplayName("구독 직후 읽은 잔액은 먼저 도착한 더 최신 잔액을 덮어쓰지 않음")
+    void offerCurrent_keepsNewerPending() throws InterruptedException {
+        // given
+        RecordingEmitter emitter = new RecordingEmitter(new CountDownLatch(1), new CountDownLatch(0));
+        ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+        CountDownLatch blocker = new CountDownLatch(1);
+        dispatcher.execute(() -> {
+            try {
+                blocker.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        BalanceSubscriber subscriber = new BalanceSubscriber(1L, emitter, dispatcher);
+
+        // when
+        subscriber.offer(new UserPoint(1L, 700L, 2L));
+        subscriber.offerCurrent(new UserPoint(1L, 500L, 1L));
+        blocker.countDown();
+        subscriber.offerCurrent(new UserPoint(1L, 500L, 1L));
+        dispatcher.shutdown();
+        assertTrue(dispatcher.awaitTermination(5, TimeUnit.SECONDS));
+
+        // then
+        assertEquals(1, emitter.sent.size());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch firstSendStarted;
+        private final CountDownLatch release;
+
+        RecordingEmitter(CountDownLatch firstSendStarted, CountDownLatch release) {
+            this.firstSendStarted = firstSendStarted;
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder);
+            firstSendStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.stream;
+
+import io.hhplus.tdd.point.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("PointStreamController 통합 테스트")
+class PointStreamControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PointService pointService;
+
+    @Test
+    @DisplayName("GET /point/{id}/stream - 현재 잔액과 이후 변경된 잔액을 SSE로 받음")
+    void stream_receivesBalanceChanges() throws Exception {
+        // given
+        long userId = 125000L;
+        MvcResult result = mockMvc.perform(get("/point/{id}/stream", userId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when
+        pointService.chargePoint(userId, 1500L);
+
+        // then
+        long deadline = System.currentTimeMillis() + 5_000L;
+        String body = result.getResponse().getContentAsString();
+        while (!body.contains("\"point\":1500") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            body = result.getResponse().getContentAsString();
+        }
+        assertTrue(body.contains("event:balance"), body);
+        assertTrue(body.contains("\"point\":0"), body);
+        assertTrue(body.contains("\"point\":1500"), body);
+    }
+}
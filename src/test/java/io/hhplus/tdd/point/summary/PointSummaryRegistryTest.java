@@ -0,0 +1,102 @@
+package io.hhplus.tdd.point.summary;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.event.PointChangedEvent;
+import io.hhplus.tdd.point.lock.UserLockManager;
+import io.hhplus.tdd.point.store.InMemoryPointHistoryStore;
+import io.hhplus.tdd.point.store.InMemoryUserPointStore;
+import io.hhplus.tdd.point.store.PointHistoryStore;
+import io.hhplus.tdd.point.store.UserPointStore;
+import io.hhplus.tdd.point.tiering.ColdHistoryStore;
+import io.hhplus.tdd.point.tiering.HistoryTieringProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PointSummaryRegistry 단위 테스트
+ */
+@DisplayName("PointSummaryRegistry 단위 테스트")
+class PointSummaryRegistryTest {
+
+    @TempDir
+    Path directory;
+
+    private final UserPointStore userPointStore = new InMemoryUserPointStore();
+    private final PointHistoryStore pointHistoryStore = new InMemoryPointHistoryStore();
+    private final UserLockManager userLockManager = new UserLockManager();
+
+    @Test
+    @DisplayName("첫 조회는 진행 중인 쓰기가 끝날 때까지 기다려 잔액과 이력을 같은 시점으로 읽음")
+    void get_waitsForWriteInProgress() throws Exception {
+        // given
+        PointSummaryRegistry registry = registry(100);
+        CountDownLatch balanceWritten = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread writer = new Thread(() -> userLockManager.withUserLock(1L, () -> {
+            userPointStore.insertOrUpdate(1L, 1000L);
+            balanceWritten.countDown();
+            await(release);
+            return pointHistoryStore.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+        }));
+        writer.start();
+        assertTrue(balanceWritten.await(5, TimeUnit.SECONDS));
+
+        // when
+        CompletableFuture<PointSummary> loading = CompletableFuture.supplyAsync(() -> registry.get(1L));
+        Thread.sleep(50);
+        boolean doneWhileWriting = loading.isDone();
+        release.countDown();
+        writer.join();
+
+        // then
+        PointSummary summary = loading.get(5, TimeUnit.SECONDS);
+        assertFalse(doneWhileWriting);
+        assertEquals(1000L, summary.userPoint().point());
+        assertEquals(1, summary.histories().size());
+    }
+
+    @Test
+    @DisplayName("등록된 스냅샷은 이벤트로 다음 버전이 되고, 최대 유저 수를 넘는 유저는 보관하지 않음")
+    void get_publishesUpToMaxUsers() {
+        // given
+        PointSummaryRegistry registry = registry(1);
+        PointSummary first = registry.get(1L);
+
+        // when
+        PointHistory charge = pointHistoryStore.insert(1L, 500L, TransactionType.CHARGE, 1L);
+        registry.onPointChanged(new PointChangedEvent(1L, userPointStore.insertOrUpdate(1L, 500L), List.of(charge)));
+
+        // then
+        PointSummary second = registry.get(1L);
+        assertEquals(first.version() + 1, second.version());
+        assertEquals(List.of(charge), second.histories());
+        assertSame(second, registry.get(1L));
+        assertNotSame(registry.get(2L), registry.get(2L));
+    }
+
+    private PointSummaryRegistry registry(int maxUsers) {
+        ColdHistoryStore coldHistoryStore = new ColdHistoryStore(new HistoryTieringProperties(
+            false, directory, Duration.ofDays(30), Duration.ofHours(1), 128, 1000));
+        return new PointSummaryRegistry(userPointStore, pointHistoryStore, coldHistoryStore, userLockManager,
+            new PointSummaryProperties(maxUsers));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
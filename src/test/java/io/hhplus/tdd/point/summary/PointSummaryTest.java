@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point.summary;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PointSummary 단위 테스트
+ */
+@DisplayName("PointSummary 단위 테스트")
+class PointSummaryTest {
+
+    @Test
+    @DisplayName("다음 버전을 만들어도 이전 버전의 잔액과 이력은 바뀌지 않음")
+    void append_keepsPreviousVersion() {
+        // given
+        PointHistory charge = new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1L);
+        PointHistory use = new PointHistory(2L, 1L, 300L, TransactionType.USE, 2L);
+        PointHistory chargeAgain = new PointHistory(3L, 1L, 500L, TransactionType.CHARGE, 3L);
+        PointSummary initial = PointSummary.of(new UserPoint(1L, 1000L, 1L), List.of(charge));
+
+        // when
+        PointSummary second = initial.append(new UserPoint(1L, 700L, 2L), List.of(use));
+        PointSummary third = second.append(new UserPoint(1L, 1200L, 3L), List.of(chargeAgain));
+
+        // then
+        assertEquals(List.of(charge), initial.histories());
+        assertEquals(1000L, initial.userPoint().point());
+        assertEquals(List.of(charge, use), second.histories());
+        assertEquals(700L, second.userPoint().point());
+        assertEquals(List.of(charge, use, chargeAgain), third.histories());
+        assertEquals(1200L, third.userPoint().point());
+        assertEquals(2L, third.version());
+    }
+
+    @Test
+    @DisplayName("이력 목록은 읽기 전용")
+    void histories_areUnmodifiable() {
+        // given
+        PointSummary summary = PointSummary.of(UserPoint.empty(1L), List.of());
+
+        // when & then
+        assertThrows(UnsupportedOperationException.class,
+            () -> summary.histories().add(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, 1L)));
+    }
+}
@@ -0,0 +1,74 @@
+package io.hhplus.tdd.point.tiering;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HistorySegmentCodec 단위 테스트
+ */
+@DisplayName("HistorySegmentCodec 단위 테스트")
+class HistorySegmentCodecTest {
+
+    private static final long USER_ID = 42L;
+
+    @Test
+    @DisplayName("인코딩한 세그먼트를 디코딩하면 원래 이력과 같음")
+    void roundTrip() {
+        // given
+        List<PointHistory> histories = histories(1000);
+
+        // when
+        byte[] segment = HistorySegmentCodec.encode(USER_ID, histories, 128);
+
+        // then
+        assertEquals(histories, HistorySegmentCodec.decode(segment));
+        assertTrue(segment.length < histories.size() * 10, "segment should be delta-compressed: " + segment.length);
+    }
+
+    @Test
+    @DisplayName("지정한 id 이후의 이력만 디코딩")
+    void decodeFrom_skipsEarlierEntries() {
+        // given
+        List<PointHistory> histories = histories(300);
+        byte[] segment = HistorySegmentCodec.encode(USER_ID, histories, 16);
+        long fromId = histories.get(137).id();
+
+        // when
+        List<PointHistory> result = HistorySegmentCodec.decodeFrom(segment, fromId);
+
+        // then
+        assertEquals(histories.subList(137, 300), result);
+    }
+
+    @Test
+    @DisplayName("손상된 세그먼트는 체크섬 검증에서 실패")
+    void decode_corruptedSegment_fails() {
+        // given
+        byte[] segment = HistorySegmentCodec.encode(USER_ID, histories(10), 4);
+        segment[segment.length / 2] ^= 0x01;
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> HistorySegmentCodec.decode(segment));
+    }
+
+    private static List<PointHistory> histories(int count) {
+        List<PointHistory> histories = new ArrayList<>(count);
+        long id = 1;
+        long millis = 1_700_000_000_000L;
+        TransactionType[] types = TransactionType.values();
+        for (int i = 0; i < count; i++) {
+            id += 1 + (i % 7);
+            millis += (i % 5 == 0) ? -3 : 250;
+            long amount = (i % 3 == 0) ? -(100L * i) : 100L * i;
+            histories.add(new PointHistory(id, USER_ID, amount, types[i % types.length], millis));
+        }
+        return histories;
+    }
+}
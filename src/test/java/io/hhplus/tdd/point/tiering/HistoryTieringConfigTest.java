@@ -0,0 +1,70 @@
+package io.hhplus.tdd.point.tiering;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointUserDirectory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.store.InMemoryPointHistoryStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 이력 계층화 작업 테스트
+ */
+@DisplayName("HistoryTieringConfig 테스트")
+class HistoryTieringConfigTest {
+
+    private static final long USER_ID = 7L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("오래된 이력은 세그먼트로 옮겨지고 hot 저장소에서 지워지며, 합친 이력은 그대로임")
+    void archiveColdHistories_movesOldHistoriesOutOfHotStore() throws Exception {
+        // given
+        HistoryTieringProperties properties = new HistoryTieringProperties(
+            true, directory, Duration.ofDays(30), Duration.ofHours(1), 4, 1000);
+        InMemoryPointHistoryStore pointHistoryStore = new InMemoryPointHistoryStore();
+        ColdHistoryStore coldHistoryStore = new ColdHistoryStore(properties);
+        PointUserDirectory pointUserDirectory = new PointUserDirectory();
+        pointUserDirectory.register(USER_ID);
+        long old = System.currentTimeMillis() - Duration.ofDays(40).toMillis();
+        for (int i = 0; i < 10; i++) {
+            pointHistoryStore.insert(USER_ID, 100L, TransactionType.CHARGE, old + i);
+        }
+        pointHistoryStore.insert(USER_ID, 300L, TransactionType.USE, System.currentTimeMillis());
+        List<PointHistory> all = pointHistoryStore.selectAllByUserId(USER_ID);
+        HistoryTieringConfig tiering = new HistoryTieringConfig(
+            pointUserDirectory, pointHistoryStore, coldHistoryStore, properties);
+
+        // when
+        tiering.archiveColdHistories();
+
+        // then
+        List<PointHistory> hot = pointHistoryStore.selectAllByUserId(USER_ID);
+        assertEquals(List.of(all.get(10)), hot);
+        assertEquals(all.get(9).id(), coldHistoryStore.watermark(USER_ID));
+        assertEquals(all.subList(5, 11), coldHistoryStore.mergeFrom(USER_ID, all.get(5).id(), hot),
+            "블록 인덱스로 앞쪽 블록을 건너뛰고 읽음");
+        assertEquals(all, coldHistoryStore.merge(USER_ID, hot));
+        assertEquals(all, coldHistoryStore.merge(USER_ID, all), "hot에 남은 보관 이력은 중복되지 않음");
+
+        // 캐시된 세그먼트는 파일을 다시 읽지 않음
+        try (var files = Files.walk(directory)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                Files.delete(file);
+            }
+        }
+        assertEquals(all, coldHistoryStore.merge(USER_ID, hot));
+        assertEquals(all.subList(5, 11), coldHistoryStore.mergeFrom(USER_ID, all.get(5).id(), hot));
+        assertEquals(List.of(all.get(10)), coldHistoryStore.mergeFrom(USER_ID, all.get(10).id(), hot));
+    }
+}